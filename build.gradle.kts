@@ -59,9 +59,27 @@ java {
         test {
             java.srcDirs("src/test/java")
         }
+        create("jmh") {
+            java.srcDirs("src/jmh/java")
+            compileClasspath += main.get().output + test.get().output
+            runtimeClasspath += main.get().output + test.get().output
+        }
+        create("loadtest") {
+            java.srcDirs("src/loadtest/java")
+            compileClasspath += main.get().output
+            runtimeClasspath += main.get().output
+        }
     }
 }
 
+configurations["jmhImplementation"].extendsFrom(configurations.implementation.get())
+configurations["loadtestImplementation"].extendsFrom(configurations.implementation.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
 kotlin {
     sourceSets {
         main {
@@ -90,3 +108,30 @@ tasks.withType<KotlinCompile>().all {
 tasks.named<Test>("test") {
     useJUnitPlatform()
 }
+
+// Runs the JMH benchmarks, filtered with -Pjmh.includes=<regex>.
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks."
+    mainClass = "org.openjdk.jmh.Main"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    args(project.findProperty("jmh.includes")?.toString() ?: ".*")
+}
+
+// Runs the network load generator against a running server, with options passed as -Pargs="--clients=500".
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the network load generator."
+    mainClass = "io.luna.loadtest.LoadTest"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    args((project.findProperty("args")?.toString() ?: "").split(" ").filter { it.isNotBlank() })
+}
+
+// Runs the headless world simulation, with options passed as -Pargs="--players=500 --ticks=1000".
+tasks.register<JavaExec>("simulate") {
+    group = "verification"
+    description = "Runs the headless world simulation."
+    mainClass = "io.luna.WorldSimulation"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    args((project.findProperty("args")?.toString() ?: "").split(" ").filter { it.isNotBlank() })
+}
@@ -0,0 +1,305 @@
+package io.luna;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.luna.game.cache.map.MapIndex;
+import io.luna.game.cache.map.MapIndexTable;
+import io.luna.game.cache.map.MapObjectSet;
+import io.luna.game.cache.map.MapTileGridSet;
+import io.luna.game.model.EntityState;
+import io.luna.game.model.Position;
+import io.luna.game.model.Region;
+import io.luna.game.model.World;
+import io.luna.game.model.def.ItemDefinition;
+import io.luna.game.model.def.NpcDefinition;
+import io.luna.game.model.def.WeaponTypeDefinition;
+import io.luna.game.model.def.WidgetDefinition;
+import io.luna.game.model.def.WidgetDefinition.WidgetType;
+import io.luna.game.model.mob.Npc;
+import io.luna.game.model.mob.Player;
+import io.luna.game.model.mob.PlayerCredentials;
+import io.luna.game.model.mob.bot.Bot;
+import io.luna.game.model.mob.bot.brain.BotBrain;
+import io.luna.game.model.mob.bot.brain.BotPersonality;
+import io.luna.game.model.mob.bot.brain.BotPreference;
+import io.luna.net.client.GameClient;
+import io.luna.net.msg.GameMessageBatch;
+import io.luna.util.parser.impl.WeaponTypeDefinitionFileParser;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A headless game world built from synthetic fixtures, for benchmarks and simulations that can't depend on the real
+ * cache. A real {@link LunaContext} is created, but the cache is never loaded and no plugins are run. The map is
+ * empty and traversable between regions {@link #MIN_REGION} and {@link #MAX_REGION} on both axes.
+ * <p>
+ * Synthetic NPC, item, and widget definitions are registered on construction, and players are given {@link GameClient}s that
+ * discard everything written to them while counting the encoded bytes.
+ *
+ * @author lare96
+ */
+public final class SyntheticWorld {
+
+    /**
+     * A channel that is always active, and discards everything written to it.
+     */
+    private static final class DiscardChannel extends EmbeddedChannel {
+
+        /**
+         * The address every channel is connected from.
+         */
+        private static final SocketAddress ADDRESS = new InetSocketAddress(InetAddress.getLoopbackAddress(), 43594);
+
+        /**
+         * Creates a new {@link DiscardChannel}.
+         *
+         * @param writtenBytes Counts the encoded size of everything written.
+         */
+        private DiscardChannel(LongAdder writtenBytes) {
+            super(new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                    if (msg instanceof GameMessageBatch) {
+                        writtenBytes.add(((GameMessageBatch) msg).getEncodedSize());
+                    }
+                    ReferenceCountUtil.release(msg);
+                    promise.trySuccess();
+                }
+            });
+        }
+
+        @Override
+        protected SocketAddress remoteAddress0() {
+            return ADDRESS;
+        }
+    }
+
+    /**
+     * The id of the synthetic NPC definition.
+     */
+    public static final int NPC_ID = 1;
+
+    /**
+     * The id of the first synthetic unstackable item definition. Every other item is given a synthetic definition as
+     * well, so that content referring to real items can be loaded.
+     */
+    public static final int ITEM_ID = 1;
+
+    /**
+     * The amount of synthetic unstackable item definitions.
+     */
+    public static final int ITEM_COUNT = 64;
+
+    /**
+     * The id of the synthetic stackable item definition.
+     */
+    public static final int STACKABLE_ITEM_ID = ITEM_ID + ITEM_COUNT;
+
+    /**
+     * The lowest region coordinate, on both axes, that has map data. Regions without map data are untraversable.
+     */
+    public static final int MIN_REGION = 40;
+
+    /**
+     * The highest region coordinate, on both axes, that has map data.
+     */
+    public static final int MAX_REGION = 59;
+
+    /**
+     * The amount of widgets, matching the capacity of {@link WidgetDefinition#ALL}.
+     */
+    private static final int WIDGET_COUNT = 18_786;
+
+    /**
+     * The context.
+     */
+    private final LunaContext context = new LunaContext();
+
+    /**
+     * The encoded size of everything written to player clients.
+     */
+    private final LongAdder writtenBytes = new LongAdder();
+
+    /**
+     * The number appended to the next username.
+     */
+    private int nextUsername = 1;
+
+    /**
+     * The next player index.
+     */
+    private int nextPlayerIndex = 1;
+
+    /**
+     * The next NPC index.
+     */
+    private int nextNpcIndex = 1;
+
+    /**
+     * Creates a new {@link SyntheticWorld}.
+     */
+    public SyntheticWorld() {
+        // Give every region within the synthetic map area empty map data.
+        ImmutableMap.Builder<Region, MapIndex> indexes = ImmutableMap.builder();
+        for (int x = MIN_REGION; x <= MAX_REGION; x++) {
+            for (int y = MIN_REGION; y <= MAX_REGION; y++) {
+                Region region = new Region(x, y);
+                indexes.put(region, new MapIndex(region, -1, -1, false));
+            }
+        }
+        context.getCache().setMapIndexTable(new MapIndexTable(indexes.build(), new MapObjectSet(ImmutableList.of()),
+                new MapTileGridSet(ImmutableMap.of())));
+
+        // Players need combat styles and open interfaces on construction. Combat styles are parsed from their data
+        // file, while every widget is given an empty definition.
+        if (WeaponTypeDefinition.ALL.isEmpty()) {
+            new WeaponTypeDefinitionFileParser().run();
+        }
+        for (int id = 0; id < WIDGET_COUNT; id++) {
+            if (WidgetDefinition.ALL.get(id).isEmpty()) {
+                WidgetDefinition.ALL.storeDefinition(new WidgetDefinition(id, -1, WidgetType.DEFAULT, new int[0][],
+                        new Integer[0], false, new String[0], "", "", -1, -1));
+            }
+        }
+        if (NpcDefinition.ALL.get(NPC_ID).isEmpty()) {
+            NpcDefinition.ALL.storeDefinition(new NpcDefinition(NPC_ID, "Man", "A synthetic NPC.", 1, 808, 819, 820,
+                    821, 822, 32, ImmutableList.of("Talk-to", "Attack"), true, 2, null));
+        }
+        String[] actions = {"null", "null", "null", "null", "null"};
+        for (int id = 0; id < ItemDefinition.SIZE; id++) {
+            if (ItemDefinition.ALL.get(id).isEmpty()) {
+                boolean stackable = id == STACKABLE_ITEM_ID;
+                ItemDefinition.ALL.storeDefinition(new ItemDefinition(id, "Item " + id, "A synthetic item.", 0, 0,
+                        0, 0, 0, 0, 0, stackable, 1, false, actions, actions, OptionalInt.empty(), 128,
+                        128, 128, OptionalInt.empty(), 1.0, true));
+            }
+        }
+    }
+
+    /**
+     * Creates a player with a discarding client. The player is given an index and a position, but is not registered.
+     *
+     * @param position The position.
+     * @return The player.
+     */
+    public Player createPlayer(Position position) {
+        Player player = newPlayer(position);
+        player.setIndex(nextPlayerIndex++);
+        return player;
+    }
+
+    /**
+     * Creates a player with a discarding client, and logs it into the world.
+     *
+     * @param position The position.
+     * @return The player.
+     */
+    public Player spawnPlayer(Position position) {
+        Player player = newPlayer(position);
+        if (!getWorld().getPlayers().add(player)) {
+            throw new IllegalStateException("World is full.");
+        }
+        player.setState(EntityState.ACTIVE);
+        return player;
+    }
+
+    /**
+     * Creates a temporary bot driven by {@code brain}, and logs it into the world. The bot is given a default
+     * personality and no activity preferences, as activities depend on content that isn't loaded.
+     *
+     * @param position The position.
+     * @param brain The brain.
+     * @return The bot.
+     */
+    public Bot spawnBot(Position position, BotBrain brain) {
+        World world = getWorld();
+        Bot bot = new Bot.Builder(context)
+                .setUsername("bot" + nextUsername++)
+                .setSpawnPosition(position)
+                .setTemporary()
+                .setBrain(brain)
+                .setPersonality(BotPersonality.DEFAULT)
+                .setPreferences(new BotPreference.Builder(world.getBotManager().getPersonalityManager(),
+                        BotPersonality.DEFAULT).build())
+                .build();
+        bot.setPosition(position);
+        if (!world.getPlayers().add(bot)) {
+            throw new IllegalStateException("World is full.");
+        }
+        world.getBots().add(bot);
+        bot.setState(EntityState.ACTIVE);
+        return bot;
+    }
+
+    /**
+     * Creates an NPC using the synthetic definition and activates it, which registers it within its chunk. The NPC
+     * is given an index, but is not registered.
+     *
+     * @param position The position.
+     * @return The NPC.
+     */
+    public Npc createNpc(Position position) {
+        Npc npc = new Npc(context, NPC_ID, position);
+        npc.setIndex(nextNpcIndex++);
+        npc.setState(EntityState.ACTIVE);
+        return npc;
+    }
+
+    /**
+     * Creates an NPC using the synthetic definition, and registers it within the world.
+     *
+     * @param position The position.
+     * @return The NPC.
+     */
+    public Npc spawnNpc(Position position) {
+        Npc npc = new Npc(context, NPC_ID, position);
+        if (!getWorld().getNpcs().add(npc)) {
+            throw new IllegalStateException("World is full.");
+        }
+        return npc;
+    }
+
+    /**
+     * Creates a player with a unique username and a discarding client.
+     *
+     * @param position The position.
+     * @return The player.
+     */
+    private Player newPlayer(Position position) {
+        Player player = new Player(context, new PlayerCredentials("player" + nextUsername++, "password"));
+        player.setClient(new GameClient(new DiscardChannel(writtenBytes),
+                context.getServer().getMessageRepository(), player));
+        player.setPosition(position);
+        return player;
+    }
+
+    /**
+     * @return The encoded size of everything written to player clients.
+     */
+    public long getWrittenBytes() {
+        return writtenBytes.sum();
+    }
+
+    /**
+     * @return The context.
+     */
+    public LunaContext getContext() {
+        return context;
+    }
+
+    /**
+     * @return The world.
+     */
+    public World getWorld() {
+        return context.getWorld();
+    }
+}
@@ -0,0 +1,299 @@
+package io.luna;
+
+import com.google.gson.JsonObject;
+import io.luna.game.model.Direction;
+import io.luna.game.model.Position;
+import io.luna.game.model.World;
+import io.luna.game.model.mob.Mob;
+import io.luna.game.model.mob.block.Animation;
+import io.luna.game.model.mob.bot.Bot;
+import io.luna.game.model.mob.bot.brain.BotBrain;
+import io.luna.game.profile.TickProfiler;
+import io.luna.game.profile.TickProfiler.HistogramSummary;
+import io.luna.game.profile.TickProfiler.TickReport;
+import io.luna.util.GsonUtils;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the game tick without a network or the real cache. A {@link SyntheticWorld} is populated
+ * with players, NPCs, and bots that wander around a square area, then {@link World#process()} is run back-to-back for a
+ * fixed amount of ticks. Ticks per second, the {@link TickProfiler} phase durations, and the bytes encoded per player
+ * are printed at the end.
+ * <p>
+ * Player and NPC input is generated from a seeded {@link Random} on the game thread, and bot input from a random seeded
+ * by the bot's index and the current tick, so the same options always produce the same input. Game logic itself still
+ * uses its own randomness.
+ * <p>
+ * Options are passed as {@code --name=value}:
+ * <ul>
+ *     <li>{@code players} The amount of players with discarding clients. Defaults to {@code 500}.</li>
+ *     <li>{@code npcs} The amount of NPCs. Defaults to {@code 1000}.</li>
+ *     <li>{@code bots} The amount of bots. Defaults to {@code 0}.</li>
+ *     <li>{@code area} The length of the square area mobs wander around, in tiles. Defaults to {@code 64}.</li>
+ *     <li>{@code warmup} The amount of ticks run before measuring. Defaults to {@code 200}.</li>
+ *     <li>{@code ticks} The amount of ticks measured. Defaults to {@code 1000}.</li>
+ *     <li>{@code seed} The input seed. Defaults to {@code 377}.</li>
+ *     <li>{@code output} A path the results are also written to as JSON. Optional.</li>
+ * </ul>
+ * It can be run through Gradle with {@code ./gradlew simulate -Pargs="--players=1000 --bots=500"}.
+ *
+ * @author lare96
+ */
+public final class WorldSimulation {
+
+    /**
+     * A brain that sends its bot on a short random walk, without consulting activities or scripts.
+     */
+    private static final class WanderingBrain extends BotBrain {
+
+        /**
+         * The input seed.
+         */
+        private final long seed;
+
+        /**
+         * The area bots wander around.
+         */
+        private final Area area;
+
+        /**
+         * Creates a new {@link WanderingBrain}.
+         *
+         * @param seed The input seed.
+         * @param area The area bots wander around.
+         */
+        private WanderingBrain(long seed, Area area) {
+            this.seed = seed;
+            this.area = area;
+        }
+
+        @Override
+        public BotCoordinator process(Bot bot) {
+            return walking -> {
+                long tick = walking.getWorld().getCurrentTick();
+                Random random = new Random(seed ^ ((long) walking.getIndex() << 32) ^ tick);
+                Direction direction = area.nextDirection(walking.getPosition(), random);
+                int steps = 1 + random.nextInt(MAX_STEPS);
+                for (int count = 0; count < steps; count++) {
+                    walking.getWalking().addStep(direction);
+                }
+            };
+        }
+    }
+
+    /**
+     * The square area mobs are spawned and wander around in.
+     */
+    private static final class Area {
+
+        /**
+         * The south-west corner.
+         */
+        private final Position base;
+
+        /**
+         * The length of each side.
+         */
+        private final int length;
+
+        /**
+         * Creates a new {@link Area}.
+         *
+         * @param base The south-west corner.
+         * @param length The length of each side.
+         */
+        private Area(Position base, int length) {
+            this.base = base;
+            this.length = length;
+        }
+
+        /**
+         * Selects a random position within this area.
+         *
+         * @param random The random to use.
+         * @return The position.
+         */
+        private Position nextPosition(Random random) {
+            return base.translate(random.nextInt(length), random.nextInt(length));
+        }
+
+        /**
+         * Selects a random walking direction from {@code position}. Mobs outside of this area always walk back
+         * towards it.
+         *
+         * @param position The current position.
+         * @param random The random to use.
+         * @return The direction.
+         */
+        private Direction nextDirection(Position position, Random random) {
+            int x = position.getX() - base.getX();
+            int y = position.getY() - base.getY();
+            if (x < 0 || y < 0 || x >= length || y >= length) {
+                int half = length / 2;
+                return Direction.between(x, y, half, half);
+            }
+            return Direction.ALL_EXCEPT_NONE.get(random.nextInt(Direction.ALL_EXCEPT_NONE.size()));
+        }
+    }
+
+    /**
+     * The most steps a mob walks at once.
+     */
+    private static final int MAX_STEPS = 5;
+
+    /**
+     * The chance of a player or NPC starting a walk on a tick that it isn't walking.
+     */
+    private static final double WALK_CHANCE = 0.2;
+
+    /**
+     * The chance of a player or NPC performing an animation on any tick.
+     */
+    private static final double ANIMATION_CHANCE = 0.05;
+
+    /**
+     * The animation performed.
+     */
+    private static final Animation ANIMATION = new Animation(866);
+
+    /**
+     * Runs a simulation.
+     *
+     * @param args The options.
+     * @throws Exception If the results cannot be written.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (!arg.startsWith("--") || index == -1) {
+                throw new IllegalArgumentException("Invalid option " + arg + ", expected --name=value.");
+            }
+            options.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+        int playerCount = Integer.parseInt(options.getOrDefault("players", "500"));
+        int npcCount = Integer.parseInt(options.getOrDefault("npcs", "1000"));
+        int botCount = Integer.parseInt(options.getOrDefault("bots", "0"));
+        int length = Integer.parseInt(options.getOrDefault("area", "64"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "200"));
+        int ticks = Integer.parseInt(options.getOrDefault("ticks", "1000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "377"));
+        String output = options.get("output");
+
+        SyntheticWorld synthetic = new SyntheticWorld();
+        World world = synthetic.getWorld();
+        Random random = new Random(seed);
+        Area area = new Area(new Position(3200, 3200), length);
+        List<Mob> wanderers = new ArrayList<>(playerCount + npcCount);
+        for (int count = 0; count < playerCount; count++) {
+            wanderers.add(synthetic.spawnPlayer(area.nextPosition(random)));
+        }
+        for (int count = 0; count < npcCount; count++) {
+            wanderers.add(synthetic.spawnNpc(area.nextPosition(random)));
+        }
+        WanderingBrain brain = new WanderingBrain(seed, area);
+        for (int count = 0; count < botCount; count++) {
+            synthetic.spawnBot(area.nextPosition(random), brain);
+        }
+
+        System.out.printf("Simulating %d players, %d NPCs, and %d bots in a %dx%d area.%n", playerCount, npcCount,
+                botCount, length, length);
+        for (int tick = 0; tick < warmup; tick++) {
+            tick(world, wanderers, area, random);
+        }
+
+        // Reports are created here instead of periodically.
+        TickProfiler profiler = world.getTickProfiler();
+        profiler.setEnabled(true);
+        profiler.setReportInterval(Integer.MAX_VALUE);
+        profiler.reset();
+        long startBytes = synthetic.getWrittenBytes();
+        long start = System.nanoTime();
+        for (int tick = 0; tick < ticks; tick++) {
+            tick(world, wanderers, area, random);
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = synthetic.getWrittenBytes() - startBytes;
+        TickReport report = profiler.createReport();
+
+        double ticksPerSecond = ticks / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+        double bytesPerPlayer = playerCount == 0 ? 0 : bytes / (double) playerCount / ticks;
+        System.out.printf("%d ticks in %.2fs, %.1f ticks/s, %d overruns.%n", ticks,
+                elapsed / (double) TimeUnit.SECONDS.toNanos(1), ticksPerSecond, report.getOverruns());
+        System.out.printf("%-18s %10s %10s %10s %10s%n", "phase", "mean ms", "p50 ms", "p99 ms", "max ms");
+        print("TICK", report.getTickMs());
+        for (var entry : report.getPhaseMs().entrySet()) {
+            print(entry.getKey().name(), entry.getValue());
+        }
+        if (report.getAllocatedBytes() != null) {
+            System.out.printf("Allocated %.1f KiB per tick on the game thread.%n",
+                    report.getAllocatedBytes().getMean() / 1024);
+        }
+        System.out.printf("Encoded %.1f bytes per player per tick.%n", bytesPerPlayer);
+
+        if (output != null) {
+            JsonObject results = new JsonObject();
+            results.addProperty("players", playerCount);
+            results.addProperty("npcs", npcCount);
+            results.addProperty("bots", botCount);
+            results.addProperty("area", length);
+            results.addProperty("ticks", ticks);
+            results.addProperty("seed", seed);
+            results.addProperty("ticks_per_second", ticksPerSecond);
+            results.addProperty("bytes_per_player_per_tick", bytesPerPlayer);
+            results.add("profile", GsonUtils.toJsonTree(report));
+            GsonUtils.writeJson(results, Paths.get(output));
+        }
+
+        // The world's thread pools are never shut down.
+        System.exit(0);
+    }
+
+    /**
+     * Generates input for every player and NPC, then runs a single game tick.
+     *
+     * @param world The world.
+     * @param wanderers The players and NPCs.
+     * @param area The area they wander around.
+     * @param random The input random.
+     */
+    private static void tick(World world, List<Mob> wanderers, Area area, Random random) {
+        for (Mob mob : wanderers) {
+            if (mob.getWalking().isEmpty() && random.nextDouble() < WALK_CHANCE) {
+                Direction direction = area.nextDirection(mob.getPosition(), random);
+                int steps = 1 + random.nextInt(MAX_STEPS);
+                for (int count = 0; count < steps; count++) {
+                    mob.getWalking().addStep(direction);
+                }
+            }
+            if (random.nextDouble() < ANIMATION_CHANCE) {
+                mob.animation(ANIMATION);
+            }
+        }
+        world.process();
+    }
+
+    /**
+     * Prints a single row of durations.
+     *
+     * @param name The row name.
+     * @param summary The durations.
+     */
+    private static void print(String name, HistogramSummary summary) {
+        System.out.printf("%-18s %10.3f %10.3f %10.3f %10.3f%n", name, summary.getMean(), summary.getP50(),
+                summary.getP99(), summary.getMax());
+    }
+
+    /**
+     * Prevent instantiation.
+     */
+    private WorldSimulation() {
+    }
+}
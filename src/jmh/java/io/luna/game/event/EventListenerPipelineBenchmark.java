@@ -0,0 +1,86 @@
+package io.luna.game.event;
+
+import io.luna.game.profile.ListenerProfiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EventListenerPipeline#post(Event)} through listeners that do almost nothing, with and without the
+ * {@link ListenerProfiler} sampling every post.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventListenerPipelineBenchmark {
+
+    /**
+     * The event posted.
+     */
+    private static final class CountedEvent extends Event {
+
+        /**
+         * The amount of listeners that handled this event.
+         */
+        private int handled;
+    }
+
+    /**
+     * The amount of listeners in the pipeline.
+     */
+    @Param({"1", "10", "50"})
+    public int listeners;
+
+    /**
+     * The pipeline.
+     */
+    private EventListenerPipeline<CountedEvent> pipeline;
+
+    /**
+     * A profiler that samples every post.
+     */
+    private ListenerProfiler profiler;
+
+    /**
+     * The event posted.
+     */
+    private CountedEvent event;
+
+    @Setup
+    public void setup() {
+        pipeline = new EventListenerPipeline<>(CountedEvent.class);
+        for (int count = 0; count < listeners; count++) {
+            pipeline.add(new EventListener<>(CountedEvent.class, msg -> msg.handled++, EventPriority.NORMAL,
+                    null));
+        }
+        profiler = new ListenerProfiler(1);
+        event = new CountedEvent();
+    }
+
+    @Benchmark
+    public int post() {
+        pipeline.post(event);
+        return event.handled;
+    }
+
+    @Benchmark
+    public int postProfiled() {
+        pipeline.post(event, profiler);
+        return event.handled;
+    }
+}
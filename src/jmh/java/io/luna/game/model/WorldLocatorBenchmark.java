@@ -0,0 +1,95 @@
+package io.luna.game.model;
+
+import io.luna.SyntheticWorld;
+import io.luna.game.model.mob.Npc;
+import io.luna.game.model.mob.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WorldLocator} queries around a player, with NPCs spread uniformly over a square area centered on
+ * the player.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldLocatorBenchmark {
+
+    /**
+     * The amount of NPCs.
+     */
+    @Param({"100", "1000", "5000"})
+    public int npcs;
+
+    /**
+     * The length of each side of the area NPCs are spread over.
+     */
+    @Param("128")
+    public int area;
+
+    /**
+     * The locator.
+     */
+    private WorldLocator locator;
+
+    /**
+     * The player queries are made around.
+     */
+    private Player player;
+
+    @Setup
+    public void setup() {
+        SyntheticWorld world = new SyntheticWorld();
+        Random random = new Random(377);
+        Position base = new Position(3200, 3200);
+        player = world.createPlayer(base);
+        for (int count = 0; count < npcs; count++) {
+            world.createNpc(base.translate(random.nextInt(area) - area / 2, random.nextInt(area) - area / 2));
+        }
+        locator = world.getWorld().getLocator();
+    }
+
+    @Benchmark
+    public Set<Npc> findNpcs() {
+        return locator.findNpcs(player, 5, npc -> true);
+    }
+
+    @Benchmark
+    public Set<Npc> findViewableNpcs() {
+        return locator.findViewableNpcs(player);
+    }
+
+    @Benchmark
+    public Set<Npc> findViewableNpcsSorted() {
+        return locator.findViewableNpcs(player, true);
+    }
+
+    @Benchmark
+    public Npc findNearestNpc() {
+        return locator.findNearestNpc(player, SyntheticWorld.NPC_ID);
+    }
+
+    @Benchmark
+    public List<Npc> computeVisibleNpcs() {
+        return locator.computeVisibleNpcsFor(player);
+    }
+}
@@ -0,0 +1,111 @@
+package io.luna.game.model.chunk;
+
+import io.luna.SyntheticWorld;
+import io.luna.game.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ChunkManager#load(int, int)} against a {@link ConcurrentHashMap} keyed by {@link Chunk}, the store
+ * it replaced. Lookups are made for random tiles spread over a square area, with every repository already loaded.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkManagerBenchmark {
+
+    /**
+     * The amount of lookups per invocation.
+     */
+    private static final int LOOKUPS = 1024;
+
+    /**
+     * The length of each side of the area lookups are spread over.
+     */
+    @Param({"64", "512"})
+    public int area;
+
+    /**
+     * The chunk manager.
+     */
+    private ChunkManager chunks;
+
+    /**
+     * The hashed store, holding the same repositories.
+     */
+    private Map<Chunk, ChunkRepository> hashed;
+
+    /**
+     * The x coordinate of every tile looked up.
+     */
+    private int[] xs;
+
+    /**
+     * The y coordinate of every tile looked up.
+     */
+    private int[] ys;
+
+    /**
+     * The base position of {@link #findViewableChunks()}.
+     */
+    private Position base;
+
+    @Setup
+    public void setup() {
+        chunks = new SyntheticWorld().getWorld().getChunks();
+        hashed = new ConcurrentHashMap<>();
+        base = new Position(3200, 3200);
+        xs = new int[LOOKUPS];
+        ys = new int[LOOKUPS];
+
+        Random random = new Random(377);
+        for (int index = 0; index < LOOKUPS; index++) {
+            xs[index] = base.getX() + random.nextInt(area) - area / 2;
+            ys[index] = base.getY() + random.nextInt(area) - area / 2;
+            ChunkRepository repository = chunks.load(xs[index], ys[index]);
+            hashed.put(repository.getChunk(), repository);
+        }
+        chunks.findViewableChunks(base);
+    }
+
+    @Benchmark
+    public void loadDense(Blackhole blackhole) {
+        for (int index = 0; index < LOOKUPS; index++) {
+            blackhole.consume(chunks.load(xs[index], ys[index]));
+        }
+    }
+
+    @Benchmark
+    public void loadHashed(Blackhole blackhole) {
+        for (int index = 0; index < LOOKUPS; index++) {
+            Chunk chunk = new Chunk(xs[index] / Chunk.SIZE - 6, ys[index] / Chunk.SIZE - 6);
+            blackhole.consume(hashed.computeIfAbsent(chunk, key -> chunks.load(key)));
+        }
+    }
+
+    @Benchmark
+    public List<ChunkRepository> findViewableChunks() {
+        return chunks.findViewableChunks(base);
+    }
+}
@@ -0,0 +1,98 @@
+package io.luna.game.model.item;
+
+import io.luna.SyntheticWorld;
+import io.luna.game.model.item.ItemContainer.StackPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures common {@link ItemContainer} operations on an inventory sized container without listeners, using
+ * synthetic item definitions.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemContainerBenchmark {
+
+    /**
+     * The capacity of the containers.
+     */
+    private static final int CAPACITY = 28;
+
+    /**
+     * An empty container.
+     */
+    private ItemContainer empty;
+
+    /**
+     * A container that is full, apart from the last slot.
+     */
+    private ItemContainer full;
+
+    /**
+     * Unstackable items that fill a container.
+     */
+    private List<Item> items;
+
+    /**
+     * A stack of stackable items.
+     */
+    private Item stack;
+
+    @Setup
+    public void setup() {
+        new SyntheticWorld();
+        items = new ArrayList<>(CAPACITY);
+        for (int index = 0; index < CAPACITY; index++) {
+            items.add(new Item(SyntheticWorld.ITEM_ID + index));
+        }
+        stack = new Item(SyntheticWorld.STACKABLE_ITEM_ID, 1000);
+        empty = new ItemContainer(CAPACITY, StackPolicy.STANDARD, -1);
+        full = new ItemContainer(CAPACITY, StackPolicy.STANDARD, -1);
+        full.addAll(items.subList(0, CAPACITY - 1));
+        full.add(stack);
+    }
+
+    @Benchmark
+    public int addAndRemoveAll() {
+        empty.addAll(items);
+        int size = empty.size();
+        empty.removeAll(items);
+        return size;
+    }
+
+    @Benchmark
+    public int addAndRemoveStackable() {
+        full.add(stack);
+        int amount = full.computeAmountForId(stack.getId());
+        full.remove(stack);
+        return amount;
+    }
+
+    @Benchmark
+    public boolean containsAll() {
+        return full.containsAll(items.subList(0, CAPACITY - 1));
+    }
+
+    @Benchmark
+    public boolean hasSpaceForAll() {
+        return full.hasSpaceForAll(items);
+    }
+}
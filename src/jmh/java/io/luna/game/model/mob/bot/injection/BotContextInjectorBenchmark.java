@@ -0,0 +1,186 @@
+package io.luna.game.model.mob.bot.injection;
+
+import io.luna.game.event.impl.InjectableEvent;
+import io.luna.game.model.Entity;
+import io.luna.game.model.Locatable;
+import io.luna.game.model.Position;
+import io.luna.game.model.mob.bot.Bot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one tick of context injection, comparing the chunk index in {@link BotContextInjectorManager} against the
+ * original scan of every pending event for every bot. Bots and events are spread over a square area, and indexing the
+ * events is included in the measurement.
+ * <p>
+ * Bots are allocated without running their constructors and only have a position, since mocked positions are slow
+ * enough to hide the cost of injection itself.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BotContextInjectorBenchmark {
+
+    /**
+     * An event posted at a fixed position.
+     */
+    private static final class PositionEvent implements InjectableEvent {
+
+        /**
+         * The origin.
+         */
+        private final Position origin;
+
+        /**
+         * Creates a new {@link PositionEvent}.
+         *
+         * @param origin The origin.
+         */
+        private PositionEvent(Position origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public Locatable contextOrigin() {
+            return origin;
+        }
+    }
+
+    /**
+     * The amount of bots.
+     */
+    @Param("2000")
+    public int bots;
+
+    /**
+     * The amount of events posted per tick.
+     */
+    @Param("500")
+    public int events;
+
+    /**
+     * The length of the area bots and events are spread over, in tiles.
+     */
+    @Param({"128", "512"})
+    public int area;
+
+    /**
+     * The bots.
+     */
+    private Bot[] botArray;
+
+    /**
+     * The events.
+     */
+    private InjectableEvent[] eventArray;
+
+    /**
+     * The manager.
+     */
+    private BotContextInjectorManager manager;
+
+    /**
+     * The amount of injections, kept so that they can't be optimized away.
+     */
+    private int injections;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        Random random = new Random(377);
+        Field unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+        unsafeField.setAccessible(true);
+        Unsafe unsafe = (Unsafe) unsafeField.get(null);
+        Field positionField = Entity.class.getDeclaredField("position");
+        positionField.setAccessible(true);
+        botArray = new Bot[bots];
+        for (int i = 0; i < bots; i++) {
+            Bot bot = (Bot) unsafe.allocateInstance(Bot.class);
+            positionField.set(bot, new Position(3200 + random.nextInt(area), 3200 + random.nextInt(area)));
+            botArray[i] = bot;
+        }
+        eventArray = new InjectableEvent[events];
+        for (int i = 0; i < events; i++) {
+            eventArray[i] = new PositionEvent(new Position(3200 + random.nextInt(area), 3200 + random.nextInt(area)));
+        }
+        manager = new BotContextInjectorManager();
+        manager.setInjectors(List.of(this::inject));
+
+        // Refuse to measure anything if the results differ.
+        if (indexed() != legacy()) {
+            throw new IllegalStateException("Injection strategies produced different results.");
+        }
+    }
+
+    @Benchmark
+    public int indexed() {
+        injections = 0;
+        for (InjectableEvent event : eventArray) {
+            manager.addEvent(event);
+        }
+        for (Bot bot : botArray) {
+            manager.injectEvents(bot);
+        }
+        manager.clearEvents();
+        return injections;
+    }
+
+    @Benchmark
+    public int legacy() {
+        injections = 0;
+        List<InjectableEvent> pendingDispatch = new ArrayList<>();
+        for (InjectableEvent event : eventArray) {
+            pendingDispatch.add(event);
+        }
+        for (Bot bot : botArray) {
+            for (InjectableEvent event : pendingDispatch) {
+                Locatable locatable = event.contextLocatable(bot);
+                if (locatable == null || locatable.equals(bot)) {
+                    continue;
+                }
+                int radius = event.contextRadius(bot);
+                Position position = locatable.abs();
+                if (position == null) {
+                    continue;
+                }
+                if (radius == -1 || !bot.getPosition().isWithinDistance(position, radius)) {
+                    continue;
+                }
+                inject(bot, event);
+            }
+        }
+        return injections;
+    }
+
+    /**
+     * Counts an injection.
+     *
+     * @param bot The bot.
+     * @param event The event.
+     * @return {@code false}, so that every injector would run.
+     */
+    private boolean inject(Bot bot, InjectableEvent event) {
+        injections++;
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+package io.luna.game.model.path;
+
+import io.luna.SyntheticWorld;
+import io.luna.game.model.Direction;
+import io.luna.game.model.Position;
+import io.luna.game.model.collision.CollisionManager;
+import io.luna.game.model.collision.CollisionUpdate;
+import io.luna.game.model.collision.CollisionUpdateType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AStarPathfinder#find(io.luna.game.model.Locatable, io.luna.game.model.Locatable)} with a
+ * {@link PlayerPathfinder}, across a synthetic area where a fraction of tiles are blocked. The target is placed
+ * diagonally from the origin.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AStarPathfinderBenchmark {
+
+    /**
+     * The distance between the origin and the target, along each axis.
+     */
+    @Param({"8", "32", "64"})
+    public int distance;
+
+    /**
+     * The percentage of tiles that are blocked.
+     */
+    @Param({"0", "20"})
+    public int blocked;
+
+    /**
+     * The pathfinder.
+     */
+    private PlayerPathfinder pathfinder;
+
+    /**
+     * The origin.
+     */
+    private Position origin;
+
+    /**
+     * The target.
+     */
+    private Position target;
+
+    @Setup
+    public void setup() {
+        CollisionManager collisionManager = new SyntheticWorld().getWorld().getCollisionManager();
+        origin = new Position(3200, 3200);
+        target = origin.translate(distance, distance);
+
+        Random random = new Random(377);
+        CollisionUpdate.Builder builder = new CollisionUpdate.Builder();
+        builder.type(CollisionUpdateType.ADDING);
+        for (int x = -16; x <= distance + 16; x++) {
+            for (int y = -16; y <= distance + 16; y++) {
+                Position position = origin.translate(x, y);
+                if (random.nextInt(100) < blocked && !position.equals(origin) && !position.equals(target)) {
+                    builder.tile(position, true, Direction.NESW);
+                }
+            }
+        }
+        collisionManager.apply(builder.build(), false);
+        collisionManager.handleSnapshots();
+
+        pathfinder = new PlayerPathfinder(collisionManager, 0);
+        PathResultType result = pathfinder.find(origin, target).getType();
+        if (result != PathResultType.COMPLETE) {
+            throw new IllegalStateException("No complete path to the target [" + result + "].");
+        }
+    }
+
+    @Benchmark
+    public int find() {
+        return pathfinder.find(origin, target).getPath().size();
+    }
+}
@@ -0,0 +1,79 @@
+package io.luna.game.persistence;
+
+import com.google.gson.Gson;
+import io.luna.SyntheticWorld;
+import io.luna.game.model.Position;
+import io.luna.game.model.item.Item;
+import io.luna.game.model.mob.Player;
+import io.luna.game.model.mob.attr.Attribute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converting {@link PlayerData} to and from the JSON used by {@link JsonGameSerializer}. Files aren't read or
+ * written, so only the cost of serialization is measured. The player has a full inventory and a bank of 400 items.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonGameSerializerBenchmark {
+
+    /**
+     * The Gson instance used by {@link JsonGameSerializer}.
+     */
+    private Gson gson;
+
+    /**
+     * The data to serialize.
+     */
+    private PlayerData data;
+
+    /**
+     * {@link #data}, serialized.
+     */
+    private String json;
+
+    @Setup
+    public void setup() {
+        Player player = new SyntheticWorld().createPlayer(new Position(3222, 3222));
+        for (int index = 0; index < player.getInventory().capacity(); index++) {
+            player.getInventory().add(new Item(SyntheticWorld.ITEM_ID + index % SyntheticWorld.ITEM_COUNT));
+        }
+        for (int index = 0; index < 400; index++) {
+            player.getBank().add(new Item(SyntheticWorld.ITEM_ID + index % SyntheticWorld.ITEM_COUNT, index + 1));
+        }
+        gson = Attribute.getGsonInstance();
+        data = new PlayerData(player.getUsername()).save(player);
+        json = gson.toJson(data);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return gson.toJson(data);
+    }
+
+    @Benchmark
+    public PlayerData deserialize() {
+        return gson.fromJson(json, PlayerData.class);
+    }
+
+    @Benchmark
+    public PlayerData roundTrip() {
+        return gson.fromJson(gson.toJson(data), PlayerData.class);
+    }
+}
@@ -0,0 +1,178 @@
+package io.luna.net;
+
+import io.luna.net.NetworkSettings.TransportType;
+import io.luna.util.GsonUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A loopback load test for each {@link TransportType}. A server bootstrapped by {@link NetworkTransport} echoes
+ * everything it reads back to a set of clients. Each operation writes {@link #FRAMES} frames of {@link #FRAME_SIZE}
+ * bytes on every client and waits until all of them are echoed back, so the score multiplied by
+ * {@code clients * FRAMES * FRAME_SIZE} is the round-trip throughput in bytes.
+ *
+ * @author lare96
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransportBenchmark {
+
+    /**
+     * The amount of frames written per client, per operation.
+     */
+    private static final int FRAMES = 16;
+
+    /**
+     * The size of a frame, roughly the size of a busy player update.
+     */
+    private static final int FRAME_SIZE = 512;
+
+    /**
+     * Echoes everything read back to the sender.
+     */
+    @Sharable
+    private static final class EchoHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ctx.write(msg, ctx.voidPromise());
+        }
+
+        @Override
+        public void channelReadComplete(ChannelHandlerContext ctx) {
+            ctx.flush();
+        }
+    }
+
+    /**
+     * Counts echoed bytes into {@link #received}.
+     */
+    @Sharable
+    private final class CountingHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ByteBuf buf = (ByteBuf) msg;
+            received.release(buf.readableBytes());
+            buf.release();
+        }
+    }
+
+    /**
+     * The transport to measure.
+     */
+    @Param({"NIO", "EPOLL"})
+    public TransportType transport;
+
+    /**
+     * The amount of connected clients.
+     */
+    @Param({"1", "100"})
+    public int clients;
+
+    /**
+     * A permit for every echoed byte.
+     */
+    private final Semaphore received = new Semaphore(0);
+
+    /**
+     * The frame written by clients.
+     */
+    private final ByteBuf frame = Unpooled.unreleasableBuffer(Unpooled.directBuffer(FRAME_SIZE)
+            .writeZero(FRAME_SIZE));
+
+    /**
+     * The server transport.
+     */
+    private NetworkTransport server;
+
+    /**
+     * The event loops of the clients.
+     */
+    private EventLoopGroup clientGroup;
+
+    /**
+     * The client channels.
+     */
+    private final List<Channel> channels = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        NetworkSettings settings = GsonUtils.GSON.fromJson("{\"transport\": \"" + transport + "\", " +
+                "\"boss_threads\": 1, \"worker_threads\": 0, \"tcp_no_delay\": true, " +
+                "\"write_buffer_low_watermark\": 32768, \"write_buffer_high_watermark\": 131072, " +
+                "\"allocator\": \"POOLED\"}", NetworkSettings.class);
+        server = new NetworkTransport(settings);
+        Channel serverChannel = server.newServerBootstrap(new EchoHandler())
+                .bind(new InetSocketAddress("127.0.0.1", 0)).syncUninterruptibly().channel();
+
+        TransportType type = server.getType();
+        clientGroup = NetworkTransport.newEventLoopGroup(type, 0, "LoadTestClientThread");
+        Bootstrap bootstrap = new Bootstrap()
+                .group(clientGroup)
+                .channel(NetworkTransport.socketChannel(type))
+                .option(ChannelOption.TCP_NODELAY, true)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new CountingHandler());
+                    }
+                });
+        for (int i = 0; i < clients; i++) {
+            channels.add(bootstrap.connect(serverChannel.localAddress()).syncUninterruptibly().channel());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Channel channel : channels) {
+            channel.close().syncUninterruptibly();
+        }
+        channels.clear();
+        clientGroup.shutdownGracefully().syncUninterruptibly();
+        server.shutdownGracefully();
+    }
+
+    @Benchmark
+    public void roundTrip() {
+        for (Channel channel : channels) {
+            for (int i = 0; i < FRAMES; i++) {
+                channel.write(frame.retainedDuplicate(), channel.voidPromise());
+            }
+            channel.flush();
+        }
+        received.acquireUninterruptibly(clients * FRAMES * FRAME_SIZE);
+    }
+}
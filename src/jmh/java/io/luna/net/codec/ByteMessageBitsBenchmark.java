@@ -0,0 +1,82 @@
+package io.luna.net.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ByteMessage#putBits(int, int)} against the original byte-at-a-time algorithm, over bit streams
+ * shaped like player updates. Both writers start from a small pooled buffer so that capacity growth is included.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteMessageBitsBenchmark {
+
+    /**
+     * The amount of local players in the update.
+     */
+    @Param({"10", "100", "255"})
+    public int locals;
+
+    /**
+     * The bit stream to write.
+     */
+    private int[] stream;
+
+    @Setup
+    public void setup() {
+        stream = BitStreams.playerUpdate(locals, locals, Math.min(locals, 25));
+
+        // Refuse to measure anything if the outputs differ. Zeroed buffers are used, as the original algorithm leaves
+        // whatever was in the buffer in the unused bits of the last byte.
+        ByteBuf expected = Unpooled.buffer(16);
+        ByteMessage actual = ByteMessage.wrap(Unpooled.buffer(16));
+        BitStreams.writeLegacy(expected, stream);
+        BitStreams.write(actual, stream);
+        if (!ByteBufUtil.equals(expected, actual.getBuffer())) {
+            throw new IllegalStateException("Bit writers produced different output.");
+        }
+    }
+
+    @Benchmark
+    public int accumulator() {
+        ByteMessage msg = ByteMessage.wrap(PooledByteBufAllocator.DEFAULT.buffer(16));
+        try {
+            BitStreams.write(msg, stream);
+            return msg.getBuffer().writerIndex();
+        } finally {
+            msg.releaseAll();
+        }
+    }
+
+    @Benchmark
+    public int legacy() {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer(16);
+        try {
+            BitStreams.writeLegacy(buf, stream);
+            return buf.writerIndex();
+        } finally {
+            buf.release();
+        }
+    }
+}
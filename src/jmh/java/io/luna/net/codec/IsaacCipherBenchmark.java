@@ -0,0 +1,55 @@
+package io.luna.net.codec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link IsaacCipher#nextInt()}, which is called once for every opcode encoded or decoded. Values are
+ * generated in blocks of 256 so that the cost of regenerating the result array is included.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsaacCipherBenchmark {
+
+    /**
+     * The amount of values generated per invocation.
+     */
+    private static final int VALUES = 256;
+
+    /**
+     * The cipher.
+     */
+    private IsaacCipher cipher;
+
+    @Setup
+    public void setup() {
+        cipher = new IsaacCipher(new int[]{377, 43594, 0x1234_5678, 0x0FED_CBA9});
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public int nextInt() {
+        int result = 0;
+        for (int count = 0; count < VALUES; count++) {
+            result ^= cipher.nextInt();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,160 @@
+package io.luna.net.msg.out;
+
+import io.luna.SyntheticWorld;
+import io.luna.game.model.Position;
+import io.luna.game.model.mob.Mob;
+import io.luna.game.model.mob.Npc;
+import io.luna.game.model.mob.Player;
+import io.luna.game.model.mob.block.Animation;
+import io.luna.net.codec.ByteMessage;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding a single player's {@link PlayerUpdateMessageWriter} and {@link NpcUpdateMessageWriter} messages
+ * in steady state, where every mob is already in the viewer's local list. Mobs are scattered around the viewer within
+ * viewing distance.
+ * <p>
+ * When mobs are animating, their cached update blocks are cleared before every write so that blocks are encoded like
+ * they would be for the first viewer of a tick.
+ *
+ * @author lare96
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateMessageWriterBenchmark {
+
+    /**
+     * The amount of mobs around the viewer.
+     */
+    @Param({"10", "100", "255"})
+    public int locals;
+
+    /**
+     * If every mob is animating, and so has an update block.
+     */
+    @Param({"false", "true"})
+    public boolean animating;
+
+    /**
+     * The player being updated.
+     */
+    private Player viewer;
+
+    /**
+     * The players around the viewer.
+     */
+    private List<Player> players;
+
+    /**
+     * The NPCs around the viewer.
+     */
+    private List<Npc> npcs;
+
+    @Setup
+    public void setup() {
+        SyntheticWorld world = new SyntheticWorld();
+
+        // Local mob lists can only be changed by threads named like the ones in the update pool. This is done after
+        // the world is created, as loading the settings renames the current thread.
+        Thread.currentThread().setName("PlayerUpdatingThread");
+        Random random = new Random(377);
+        Position base = new Position(3222, 3222);
+        viewer = world.createPlayer(base);
+        players = new ArrayList<>(locals);
+        npcs = new ArrayList<>(locals);
+        for (int count = 0; count < locals; count++) {
+            players.add(world.createPlayer(base.translate(random.nextInt(29) - 14, random.nextInt(29) - 14)));
+            npcs.add(world.createNpc(base.translate(random.nextInt(29) - 14, random.nextInt(29) - 14)));
+        }
+        prepare(viewer);
+        players.forEach(this::prepare);
+        npcs.forEach(this::prepare);
+
+        // Add every mob to the local list, 25 at a time.
+        for (int cycle = 0; cycle < 11; cycle++) {
+            writePlayers();
+            writeNpcs();
+        }
+        if (viewer.getLocalMobs().updatingPlayersCount() != locals ||
+                viewer.getLocalMobs().updatingNpcsCount() != locals) {
+            throw new IllegalStateException("Not every mob was added to the local list.");
+        }
+    }
+
+    /**
+     * Flags {@code mob} for the update blocks being measured, and builds its block data.
+     *
+     * @param mob The mob.
+     */
+    private void prepare(Mob mob) {
+        if (animating) {
+            mob.animation(new Animation(866));
+        }
+        mob.buildBlockData();
+    }
+
+    @Benchmark
+    public int players() {
+        if (animating) {
+            players.forEach(Mob::clearCachedBlock);
+        }
+        return writePlayers();
+    }
+
+    @Benchmark
+    public int npcs() {
+        if (animating) {
+            npcs.forEach(Mob::clearCachedBlock);
+        }
+        return writeNpcs();
+    }
+
+    /**
+     * Encodes the player update message for {@link #viewer}.
+     *
+     * @return The encoded size.
+     */
+    private int writePlayers() {
+        ByteMessage msg = new PlayerUpdateMessageWriter(players).write(viewer,
+                PooledByteBufAllocator.DEFAULT.buffer(256));
+        try {
+            return msg.getBuffer().writerIndex();
+        } finally {
+            msg.releaseAll();
+        }
+    }
+
+    /**
+     * Encodes the NPC update message for {@link #viewer}.
+     *
+     * @return The encoded size.
+     */
+    private int writeNpcs() {
+        ByteMessage msg = new NpcUpdateMessageWriter(npcs).write(viewer, PooledByteBufAllocator.DEFAULT.buffer(256));
+        try {
+            return msg.getBuffer().writerIndex();
+        } finally {
+            msg.releaseAll();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.luna.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies with millisecond resolution, up to {@link #MAX_MILLIS}. Larger values are
+ * recorded into the last bucket.
+ *
+ * @author lare96
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The largest latency with its own bucket.
+     */
+    private static final int MAX_MILLIS = 10_000;
+
+    /**
+     * The amount of buckets, and the length of snapshots.
+     */
+    public static final int BUCKETS = MAX_MILLIS + 1;
+
+    /**
+     * The amount of values recorded for each millisecond.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency, in nanoseconds.
+     */
+    public void record(long nanos) {
+        long millis = nanos / 1_000_000;
+        buckets.incrementAndGet((int) Math.min(Math.max(millis, 0), MAX_MILLIS));
+    }
+
+    /**
+     * Takes a snapshot of this histogram and clears it.
+     *
+     * @return The recorded values, indexed by millisecond.
+     */
+    public long[] drain() {
+        long[] values = new long[buckets.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buckets.getAndSet(i, 0);
+        }
+        return values;
+    }
+
+    /**
+     * Computes the amount of values in a snapshot.
+     *
+     * @param values The snapshot.
+     * @return The amount of values.
+     */
+    public static long count(long[] values) {
+        long count = 0;
+        for (long value : values) {
+            count += value;
+        }
+        return count;
+    }
+
+    /**
+     * Computes a percentile of a snapshot.
+     *
+     * @param values The snapshot.
+     * @param percentile The percentile, from {@code 0} to {@code 100}.
+     * @return The latency in milliseconds, or {@code -1} if the snapshot is empty.
+     */
+    public static int percentile(long[] values, double percentile) {
+        long count = count(values);
+        if (count == 0) {
+            return -1;
+        }
+        long target = (long) Math.ceil(count * (percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < values.length; i++) {
+            seen += values[i];
+            if (seen >= Math.max(target, 1)) {
+                return i;
+            }
+        }
+        return MAX_MILLIS;
+    }
+}
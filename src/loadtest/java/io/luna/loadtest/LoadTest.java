@@ -0,0 +1,134 @@
+package io.luna.loadtest;
+
+import com.google.gson.JsonObject;
+import io.luna.net.NetworkSettings.TransportType;
+import io.luna.net.NetworkTransport;
+import io.luna.util.GsonUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+
+import java.math.BigInteger;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many real network clients a running Luna server can handle. Opens connections to the server at a fixed
+ * rate, logs each one in as a {@link LoadTestClient}, and periodically prints login throughput, bytes per second, and
+ * tick latency percentiles.
+ * <p>
+ * Options are passed as {@code --name=value}:
+ * <ul>
+ *     <li>{@code host} The server address. Defaults to {@code 127.0.0.1}.</li>
+ *     <li>{@code port} The server port. Defaults to {@code 43594}.</li>
+ *     <li>{@code clients} The amount of clients. Defaults to {@code 100}.</li>
+ *     <li>{@code rate} The amount of connections opened per second. Defaults to {@code 20}.</li>
+ *     <li>{@code duration} The length of the test in seconds, after every client has connected. Defaults to
+ *     {@code 60}.</li>
+ *     <li>{@code interval} The seconds between reports. Defaults to {@code 5}.</li>
+ *     <li>{@code threads} The amount of client event loop threads, {@code 0} for the Netty default.</li>
+ *     <li>{@code transport} {@code AUTO}, {@code EPOLL}, or {@code NIO}. Defaults to {@code AUTO}.</li>
+ *     <li>{@code prefix} The username prefix. Defaults to {@code lt}.</li>
+ *     <li>{@code x}, {@code y} The tile clients walk around. Defaults to the starting position.</li>
+ * </ul>
+ * It can be run through Gradle with {@code ./gradlew loadTest -Pargs="--clients=500 --rate=50"}. Logins are
+ * throttled by the server's connection limit, so it should be raised for the duration of the test.
+ *
+ * @author lare96
+ */
+public final class LoadTest {
+
+    /**
+     * The password of every client.
+     */
+    private static final String PASSWORD = "loadtest";
+
+    /**
+     * Runs a load test.
+     *
+     * @param args The options.
+     * @throws Exception If the RSA key cannot be read.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (!arg.startsWith("--") || index == -1) {
+                throw new IllegalArgumentException("Invalid option " + arg + ", expected --name=value.");
+            }
+            options.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+        String host = options.getOrDefault("host", "127.0.0.1");
+        int port = Integer.parseInt(options.getOrDefault("port", "43594"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "100"));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "20"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int interval = Integer.parseInt(options.getOrDefault("interval", "5"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "0"));
+        TransportType transport = TransportType.valueOf(options.getOrDefault("transport", "AUTO")).resolve();
+        String prefix = options.getOrDefault("prefix", "lt");
+        int x = Integer.parseInt(options.getOrDefault("x", "3182"));
+        int y = Integer.parseInt(options.getOrDefault("y", "3440"));
+
+        JsonObject rsaKey = GsonUtils.readAsType(Paths.get("data", "net", "rsa", "rsapub.json"), JsonObject.class);
+        BigInteger modulus = new BigInteger(rsaKey.get("modulus").getAsString());
+        BigInteger exponent = new BigInteger(rsaKey.get("exponent").getAsString());
+
+        LoadTestStats stats = new LoadTestStats();
+        EventLoopGroup group = NetworkTransport.newEventLoopGroup(transport, threads, "LoadTestThread");
+        Bootstrap bootstrap = new Bootstrap()
+                .group(group)
+                .channel(NetworkTransport.socketChannel(transport))
+                .option(ChannelOption.TCP_NODELAY, true);
+
+        System.out.printf("Load testing %s:%d with %d clients over %s.%n", host, port, clients, transport);
+        LoadTestReport report = new LoadTestReport(stats);
+        long nextReport = System.nanoTime() + TimeUnit.SECONDS.toNanos(interval);
+        long start = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            String username = prefix + i;
+            bootstrap.clone().handler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel ch) {
+                    ch.pipeline().addLast(new LoadTestClient(stats, modulus, exponent, username, PASSWORD, x, y));
+                }
+            }).connect(host, port).addListener(future -> {
+                if (!future.isSuccess()) {
+                    stats.failures.increment();
+                }
+            });
+
+            // Pace connections, reporting while ramping up.
+            long next = start + TimeUnit.SECONDS.toNanos(i + 1) / rate;
+            long sleep = next - System.nanoTime();
+            if (sleep > 0) {
+                TimeUnit.NANOSECONDS.sleep(sleep);
+            }
+            if (System.nanoTime() >= nextReport) {
+                report.print();
+                nextReport += TimeUnit.SECONDS.toNanos(interval);
+            }
+        }
+
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(duration);
+        while (System.nanoTime() < end) {
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, Math.min(nextReport, end) - System.nanoTime()));
+            if (System.nanoTime() >= nextReport) {
+                report.print();
+                nextReport += TimeUnit.SECONDS.toNanos(interval);
+            }
+        }
+        group.shutdownGracefully().syncUninterruptibly();
+        report.printSummary();
+    }
+
+    /**
+     * Prevent instantiation.
+     */
+    private LoadTest() {
+    }
+}
@@ -0,0 +1,383 @@
+package io.luna.loadtest;
+
+import io.luna.net.codec.ByteMessage;
+import io.luna.net.codec.ByteOrder;
+import io.luna.net.codec.IsaacCipher;
+import io.luna.net.codec.MessageType;
+import io.luna.net.codec.ValueType;
+import io.luna.util.StringUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.math.BigInteger;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A headless #377 client used by {@link LoadTest}. It logs in over a real connection using the same RSA block and
+ * ISAAC seeding as the game client, then walks, chats, and clicks at random once per tick.
+ * <p>
+ * Server messages are not decoded. The server writes everything queued for a client during a tick in a single flush,
+ * so incoming data is instead grouped into ticks by the gaps between reads. This is enough to measure tick intervals,
+ * the time from an action to the next tick, and throughput.
+ *
+ * @author lare96
+ */
+public final class LoadTestClient extends ChannelInboundHandlerAdapter {
+
+    /**
+     * An enumerated type representing client states.
+     */
+    private enum State {
+        HANDSHAKE,
+        LOGIN_RESPONSE,
+        LOGGED_IN
+    }
+
+    /**
+     * The length of a game tick, in milliseconds.
+     */
+    private static final int TICK_MILLIS = 600;
+
+    /**
+     * Reads separated by less than this many nanoseconds belong to the same server tick.
+     */
+    private static final long TICK_GAP_NANOS = TimeUnit.MILLISECONDS.toNanos(150);
+
+    /**
+     * The amount of idle ticks after which a keep-alive message is sent.
+     */
+    private static final int KEEP_ALIVE_TICKS = 4;
+
+    /**
+     * The successful login response code.
+     */
+    private static final int LOGIN_NORMAL = 2;
+
+    /**
+     * Messages said by clients.
+     */
+    private static final String[] CHAT = {"hello", "selling lobsters", "buying logs", "anyone wanna duel", "lol"};
+
+    /**
+     * The shared statistics.
+     */
+    private final LoadTestStats stats;
+
+    /**
+     * The RSA public key modulus.
+     */
+    private final BigInteger rsaModulus;
+
+    /**
+     * The RSA public key exponent.
+     */
+    private final BigInteger rsaExponent;
+
+    /**
+     * The username.
+     */
+    private final String username;
+
+    /**
+     * The password.
+     */
+    private final String password;
+
+    /**
+     * The x coordinate clients walk around.
+     */
+    private final int originX;
+
+    /**
+     * The y coordinate clients walk around.
+     */
+    private final int originY;
+
+    /**
+     * Login data received so far.
+     */
+    private final ByteBuf loginData = Unpooled.buffer(17);
+
+    /**
+     * The current state.
+     */
+    private State state = State.HANDSHAKE;
+
+    /**
+     * Encrypts outgoing opcodes.
+     */
+    private IsaacCipher encryptor;
+
+    /**
+     * The time the connection was opened.
+     */
+    private long connectNanos;
+
+    /**
+     * The time of the last read.
+     */
+    private long lastReadNanos;
+
+    /**
+     * The time the current server tick was first observed, or {@code 0} if none has been.
+     */
+    private long tickNanos;
+
+    /**
+     * The time the oldest unanswered action was sent, or {@code 0} if there is none.
+     */
+    private long actionNanos;
+
+    /**
+     * The amount of ticks since the last message was sent.
+     */
+    private int idleTicks;
+
+    /**
+     * The scripted behaviour task.
+     */
+    private ScheduledFuture<?> tickTask;
+
+    /**
+     * Creates a new {@link LoadTestClient}.
+     *
+     * @param stats The shared statistics.
+     * @param rsaModulus The RSA public key modulus.
+     * @param rsaExponent The RSA public key exponent.
+     * @param username The username.
+     * @param password The password.
+     * @param originX The x coordinate to walk around.
+     * @param originY The y coordinate to walk around.
+     */
+    public LoadTestClient(LoadTestStats stats, BigInteger rsaModulus, BigInteger rsaExponent, String username,
+                          String password, int originX, int originY) {
+        this.stats = stats;
+        this.rsaModulus = rsaModulus;
+        this.rsaExponent = rsaExponent;
+        this.username = username;
+        this.password = password;
+        this.originX = originX;
+        this.originY = originY;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        connectNanos = System.nanoTime();
+        stats.connects.increment();
+
+        // Login handshake and the name hash, which is unused by the server.
+        write(ctx, Unpooled.buffer(2).writeByte(14).writeByte(0));
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        if (tickTask != null) {
+            tickTask.cancel(false);
+        }
+        if (state == State.LOGGED_IN) {
+            stats.online.decrementAndGet();
+            stats.disconnects.increment();
+        } else {
+            stats.failures.increment();
+        }
+        loginData.release();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        ByteBuf buf = (ByteBuf) msg;
+        try {
+            stats.bytesIn.add(buf.readableBytes());
+            if (state == State.LOGGED_IN) {
+                onGameData(System.nanoTime());
+            } else {
+                loginData.writeBytes(buf);
+                onLoginData(ctx);
+            }
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        ctx.close();
+    }
+
+    /**
+     * Handles data received while logging in.
+     *
+     * @param ctx The channel handler context.
+     */
+    private void onLoginData(ChannelHandlerContext ctx) {
+        if (state == State.HANDSHAKE && loginData.readableBytes() >= 17) {
+            loginData.skipBytes(9);
+            long serverHalf = loginData.readLong();
+            sendLogin(ctx, serverHalf);
+            state = State.LOGIN_RESPONSE;
+        }
+        if (state == State.LOGIN_RESPONSE && loginData.isReadable()) {
+            int response = loginData.getUnsignedByte(loginData.readerIndex());
+            if (response != LOGIN_NORMAL) {
+                ctx.close();
+                return;
+            }
+            if (loginData.readableBytes() < 3) {
+                return;
+            }
+            loginData.skipBytes(3);
+            state = State.LOGGED_IN;
+            stats.logins.increment();
+            stats.online.incrementAndGet();
+            stats.loginLatency.record(System.nanoTime() - connectNanos);
+
+            send(ctx, 6, MessageType.FIXED, null); // Region loaded.
+            long delay = ThreadLocalRandom.current().nextInt(TICK_MILLIS);
+            tickTask = ctx.executor().scheduleAtFixedRate(() -> tick(ctx), delay, TICK_MILLIS, TimeUnit.MILLISECONDS);
+            if (loginData.isReadable()) {
+                onGameData(System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * Writes the login block, encrypting the secure part with RSA and seeding the ISAAC cipher.
+     *
+     * @param ctx The channel handler context.
+     * @param serverHalf The server half of the ISAAC seed.
+     */
+    private void sendLogin(ChannelHandlerContext ctx, long serverHalf) {
+        long clientHalf = ThreadLocalRandom.current().nextLong();
+        int[] seed = {(int) (clientHalf >> 32), (int) clientHalf, (int) (serverHalf >> 32), (int) serverHalf};
+        encryptor = new IsaacCipher(seed);
+
+        ByteMessage secure = ByteMessage.wrap(Unpooled.buffer());
+        secure.put(10);
+        secure.putLong(clientHalf);
+        secure.putLong(serverHalf);
+        secure.putInt(0); // UID.
+        secure.putString(username);
+        secure.putString(password);
+        byte[] rsaBlock = new BigInteger(secure.getBuffer().array(), 0, secure.getBuffer().writerIndex())
+                .modPow(rsaExponent, rsaModulus).toByteArray();
+        secure.releaseAll();
+
+        ByteBuf out = Unpooled.buffer(43 + rsaBlock.length);
+        out.writeByte(16);
+        out.writeByte(41 + rsaBlock.length);
+        out.writeByte(255);
+        out.writeShort(377);
+        out.writeByte(0); // Low memory.
+        out.writeZero(9 * Integer.BYTES); // Archive CRCs.
+        out.writeByte(rsaBlock.length);
+        out.writeBytes(rsaBlock);
+        write(ctx, out);
+    }
+
+    /**
+     * Handles data received while logged in.
+     *
+     * @param now The time the data was received.
+     */
+    private void onGameData(long now) {
+        if (now - lastReadNanos > TICK_GAP_NANOS) {
+            if (tickNanos != 0) {
+                stats.tickInterval.record(now - tickNanos);
+            }
+            if (actionNanos != 0) {
+                stats.responseLatency.record(now - actionNanos);
+                actionNanos = 0;
+            }
+            tickNanos = now;
+            stats.ticks.increment();
+        }
+        lastReadNanos = now;
+    }
+
+    /**
+     * Runs the scripted behaviour of this client, once per tick.
+     *
+     * @param ctx The channel handler context.
+     */
+    private void tick(ChannelHandlerContext ctx) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        if (roll < 30) {
+            // Walk to a random tile around the origin.
+            ByteMessage walk = ByteMessage.raw(5);
+            walk.putShort(originX + random.nextInt(-8, 9), ByteOrder.LITTLE, ValueType.ADD);
+            walk.put(0);
+            walk.putShort(originY + random.nextInt(-8, 9), ByteOrder.LITTLE, ValueType.ADD);
+            sendAction(ctx, 28, MessageType.VAR, walk);
+        } else if (roll < 35) {
+            ByteMessage chat = ByteMessage.raw(32);
+            chat.put(0, ValueType.NEGATE);
+            chat.put(0, ValueType.ADD);
+            StringUtils.packText(CHAT[random.nextInt(CHAT.length)], chat);
+            sendAction(ctx, 49, MessageType.VAR, chat);
+        } else if (roll < 45) {
+            // Toggle running.
+            ByteMessage click = ByteMessage.raw(2);
+            click.putShort(random.nextBoolean() ? 152 : 153);
+            sendAction(ctx, 79, MessageType.FIXED, click);
+        } else if (++idleTicks >= KEEP_ALIVE_TICKS) {
+            send(ctx, 248, MessageType.FIXED, null);
+        }
+    }
+
+    /**
+     * Sends a message that the server should respond to, timing the response.
+     *
+     * @param ctx The channel handler context.
+     * @param opcode The opcode.
+     * @param type The message type.
+     * @param payload The payload.
+     */
+    private void sendAction(ChannelHandlerContext ctx, int opcode, MessageType type, ByteMessage payload) {
+        if (actionNanos == 0) {
+            actionNanos = System.nanoTime();
+        }
+        send(ctx, opcode, type, payload);
+    }
+
+    /**
+     * Sends a game message with an encrypted opcode.
+     *
+     * @param ctx The channel handler context.
+     * @param opcode The opcode.
+     * @param type The message type.
+     * @param payload The payload, or {@code null} if there is none. Released by this method.
+     */
+    private void send(ChannelHandlerContext ctx, int opcode, MessageType type, ByteMessage payload) {
+        int size = payload == null ? 0 : payload.getBuffer().readableBytes();
+        ByteBuf out = ctx.alloc().buffer(size + 3);
+        out.writeByte(opcode + encryptor.nextInt());
+        if (type == MessageType.VAR) {
+            out.writeByte(size);
+        } else if (type == MessageType.VAR_SHORT) {
+            out.writeShort(size);
+        }
+        if (payload != null) {
+            out.writeBytes(payload.getBuffer());
+            payload.releaseAll();
+        }
+        idleTicks = 0;
+        stats.messagesOut.increment();
+        write(ctx, out);
+    }
+
+    /**
+     * Writes and flushes data, counting it towards the sent bytes.
+     *
+     * @param ctx The channel handler context.
+     * @param out The data.
+     */
+    private void write(ChannelHandlerContext ctx, ByteBuf out) {
+        stats.bytesOut.add(out.readableBytes());
+        ctx.writeAndFlush(out, ctx.voidPromise());
+    }
+}
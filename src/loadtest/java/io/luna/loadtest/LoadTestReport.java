@@ -0,0 +1,134 @@
+package io.luna.loadtest;
+
+/**
+ * Prints periodic and summary reports of {@link LoadTestStats}.
+ *
+ * @author lare96
+ */
+public final class LoadTestReport {
+
+    /**
+     * The statistics.
+     */
+    private final LoadTestStats stats;
+
+    /**
+     * The time the last report was printed.
+     */
+    private long lastNanos = System.nanoTime();
+
+    /**
+     * The time this report was created.
+     */
+    private final long startNanos = lastNanos;
+
+    /**
+     * The amount of logins at the last report.
+     */
+    private long lastLogins;
+
+    /**
+     * The amount of bytes received at the last report.
+     */
+    private long lastBytesIn;
+
+    /**
+     * The amount of bytes sent at the last report.
+     */
+    private long lastBytesOut;
+
+    /**
+     * Every tick interval recorded so far.
+     */
+    private final long[] totalTickInterval = new long[LatencyHistogram.BUCKETS];
+
+    /**
+     * Every response latency recorded so far.
+     */
+    private final long[] totalResponseLatency = new long[LatencyHistogram.BUCKETS];
+
+    /**
+     * Every login latency recorded so far.
+     */
+    private final long[] totalLoginLatency = new long[LatencyHistogram.BUCKETS];
+
+    /**
+     * Creates a new {@link LoadTestReport}.
+     *
+     * @param stats The statistics.
+     */
+    public LoadTestReport(LoadTestStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Prints the statistics recorded since the last report.
+     */
+    public void print() {
+        long now = System.nanoTime();
+        double seconds = (now - lastNanos) / 1e9;
+        lastNanos = now;
+
+        long logins = stats.logins.sum();
+        long bytesIn = stats.bytesIn.sum();
+        long bytesOut = stats.bytesOut.sum();
+        long[] tickInterval = add(totalTickInterval, stats.tickInterval.drain());
+        long[] responseLatency = add(totalResponseLatency, stats.responseLatency.drain());
+        long[] loginLatency = add(totalLoginLatency, stats.loginLatency.drain());
+
+        System.out.printf("online=%d logins/s=%.1f failed=%d dropped=%d in=%.1fKB/s out=%.1fKB/s " +
+                        "tick p50/p99=%d/%dms response p50/p99=%d/%dms login p50/p99=%d/%dms%n",
+                stats.online.get(), (logins - lastLogins) / seconds, stats.failures.sum(), stats.disconnects.sum(),
+                (bytesIn - lastBytesIn) / seconds / 1024, (bytesOut - lastBytesOut) / seconds / 1024,
+                LatencyHistogram.percentile(tickInterval, 50), LatencyHistogram.percentile(tickInterval, 99),
+                LatencyHistogram.percentile(responseLatency, 50), LatencyHistogram.percentile(responseLatency, 99),
+                LatencyHistogram.percentile(loginLatency, 50), LatencyHistogram.percentile(loginLatency, 99));
+        lastLogins = logins;
+        lastBytesIn = bytesIn;
+        lastBytesOut = bytesOut;
+    }
+
+    /**
+     * Prints the statistics recorded over the whole test.
+     */
+    public void printSummary() {
+        print();
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        long ticks = stats.ticks.sum();
+        System.out.printf("Summary over %.0fs: connects=%d logins=%d failed=%d dropped=%d%n", seconds,
+                stats.connects.sum(), stats.logins.sum(), stats.failures.sum(), stats.disconnects.sum());
+        System.out.printf("  traffic: in=%.1fKB/s out=%.1fKB/s messages sent=%d ticks observed=%d%n",
+                stats.bytesIn.sum() / seconds / 1024, stats.bytesOut.sum() / seconds / 1024,
+                stats.messagesOut.sum(), ticks);
+        System.out.printf("  bytes per client tick: %.1f%n", ticks == 0 ? 0.0 : (double) stats.bytesIn.sum() / ticks);
+        printPercentiles("tick interval", totalTickInterval);
+        printPercentiles("action response", totalResponseLatency);
+        printPercentiles("login", totalLoginLatency);
+    }
+
+    /**
+     * Prints the percentiles of a latency snapshot.
+     *
+     * @param name The name of the latency.
+     * @param values The snapshot.
+     */
+    private static void printPercentiles(String name, long[] values) {
+        System.out.printf("  %s: n=%d p50=%dms p90=%dms p99=%dms max=%dms%n", name, LatencyHistogram.count(values),
+                LatencyHistogram.percentile(values, 50), LatencyHistogram.percentile(values, 90),
+                LatencyHistogram.percentile(values, 99), LatencyHistogram.percentile(values, 100));
+    }
+
+    /**
+     * Adds a snapshot to a running total.
+     *
+     * @param total The running total.
+     * @param values The snapshot.
+     * @return The snapshot.
+     */
+    private static long[] add(long[] total, long[] values) {
+        for (int i = 0; i < values.length; i++) {
+            total[i] += values[i];
+        }
+        return values;
+    }
+}
@@ -0,0 +1,72 @@
+package io.luna.loadtest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics shared by every {@link LoadTestClient} in a load test.
+ *
+ * @author lare96
+ */
+public final class LoadTestStats {
+
+    /**
+     * The amount of connection attempts.
+     */
+    final LongAdder connects = new LongAdder();
+
+    /**
+     * The amount of successful logins.
+     */
+    final LongAdder logins = new LongAdder();
+
+    /**
+     * The amount of rejected logins, or connections lost before logging in.
+     */
+    final LongAdder failures = new LongAdder();
+
+    /**
+     * The amount of clients disconnected after logging in.
+     */
+    final LongAdder disconnects = new LongAdder();
+
+    /**
+     * The amount of clients currently logged in.
+     */
+    final AtomicInteger online = new AtomicInteger();
+
+    /**
+     * The amount of bytes received.
+     */
+    final LongAdder bytesIn = new LongAdder();
+
+    /**
+     * The amount of bytes sent.
+     */
+    final LongAdder bytesOut = new LongAdder();
+
+    /**
+     * The amount of server ticks observed, summed over all clients.
+     */
+    final LongAdder ticks = new LongAdder();
+
+    /**
+     * The amount of messages sent.
+     */
+    final LongAdder messagesOut = new LongAdder();
+
+    /**
+     * The time from opening a connection to receiving a successful login response.
+     */
+    final LatencyHistogram loginLatency = new LatencyHistogram();
+
+    /**
+     * The time between consecutive server ticks observed by a client. Ideally 600ms.
+     */
+    final LatencyHistogram tickInterval = new LatencyHistogram();
+
+    /**
+     * The time from a client sending an action to receiving the next server tick.
+     */
+    final LatencyHistogram responseLatency = new LatencyHistogram();
+}
@@ -8,6 +8,7 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import io.luna.game.GameService;
 import io.luna.game.cache.Cache;
+import io.luna.game.cache.CacheDecoder;
 import io.luna.game.cache.codec.ItemDefinitionDecoder;
 import io.luna.game.cache.codec.MapDecoder;
 import io.luna.game.cache.codec.NpcDefinitionDecoder;
@@ -18,6 +19,8 @@ import io.luna.game.cache.codec.WidgetDefinitionDecoder;
 import io.luna.game.model.World;
 import io.luna.net.LunaChannelFilter;
 import io.luna.net.LunaChannelInitializer;
+import io.luna.net.NetworkSettings;
+import io.luna.net.NetworkTransport;
 import io.luna.net.msg.GameMessageRepository;
 import io.luna.util.ExecutorUtils;
 import io.luna.util.parser.impl.AmmoDefinitionFileParser;
@@ -32,19 +35,14 @@ import io.luna.util.parser.impl.WeaponAnimationDefinitionFileParser;
 import io.luna.util.parser.impl.WeaponDefinitionFileParser;
 import io.luna.util.parser.impl.WeaponTypeDefinitionFileParser;
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.util.ResourceLeakDetector;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
-import static com.google.common.util.concurrent.Uninterruptibles.awaitTerminationUninterruptibly;
 import static org.apache.logging.log4j.util.Unbox.box;
 
 /**
@@ -53,8 +51,8 @@ import static org.apache.logging.log4j.util.Unbox.box;
  * {@link LunaServer#init()} performs all initialization steps needed to accept logins:
  * <ol>
  *   <li>Scan the classpath for plugin/script metadata (ClassGraph)</li>
- *   <li>Open the 377 cache and launch cache decoders</li>
- *   <li>Run background "launch tasks" (parsers, bot name loading, repositories)</li>
+ *   <li>Open the 377 cache, then run cache decoders, the collision build, and background "launch tasks" (parsers,
+ *   bot name loading, repositories) as a {@link StartupGraph}</li>
  *   <li>Start core {@link Service}s (game loop + login/logout workers)</li>
  *   <li>Wait for the online lock (ensures game is ready to accept players)</li>
  *   <li>Bring the Netty network online and bind to the configured port</li>
@@ -109,7 +107,6 @@ public final class LunaServer {
             classpath = result;
             Stopwatch launchTimer = Stopwatch.createStarted();
 
-            initCache();
             initLaunchTasks();
             initServices();
 
@@ -128,40 +125,20 @@ public final class LunaServer {
         }
     }
 
-    /**
-     * Opens the cache and schedules cache decoders.
-     *
-     * @throws Exception If the cache cannot be opened or decoders fail to start.
-     */
-    private void initCache() throws Exception {
-        Cache cache = context.getCache();
-        cache.open();
-        cache.runDecoders(context,
-                new ObjectDefinitionDecoder(),
-                new WidgetDefinitionDecoder(),
-                new ItemDefinitionDecoder(),
-                new NpcDefinitionDecoder(),
-                new VarBitDefinitionDecoder(),
-                new VarpDefinitionDecoder(),
-                new MapDecoder());
-        logger.info("The #377 cache has been loaded into memory.");
-    }
-
     /**
      * Initializes the Netty server and binds to the configured port.
      * <p>
-     * Resource leak detection level is configured via settings for debugging memory / ByteBuf leaks.
+     * Resource leak detection level is configured via settings for debugging memory / ByteBuf leaks. The transport and
+     * channel options are configured by {@link NetworkSettings}.
      */
     private void initNetwork() {
         ResourceLeakDetector.setLevel(Luna.settings().game().resourceLeakDetection());
 
-        ServerBootstrap bootstrap = new ServerBootstrap();
-        EventLoopGroup loopGroup = new NioEventLoopGroup();
-
-        bootstrap.group(loopGroup);
-        bootstrap.channel(NioServerSocketChannel.class);
-        bootstrap.childHandler(new LunaChannelInitializer(context, channelFilter, messageRepository));
+        NetworkTransport transport = new NetworkTransport(Luna.settings().network());
+        ServerBootstrap bootstrap = transport.newServerBootstrap(
+                new LunaChannelInitializer(context, channelFilter, messageRepository));
         bootstrap.bind(Luna.settings().game().port()).syncUninterruptibly();
+        logger.info("Using the {} network transport.", transport.getType());
     }
 
     /**
@@ -183,40 +160,70 @@ public final class LunaServer {
     }
 
     /**
-     * Runs miscellaneous startup tasks in parallel and waits for completion.
+     * Opens the cache, then runs cache decoders, file parsers, and other startup tasks as a {@link StartupGraph} and
+     * waits for completion.
      *
-     * <p>This stage is intended for file parsing and other initialization that should finish before
-     * players can safely interact with content.
+     * <p>This stage is intended for decoding and file parsing that should finish before players can safely interact
+     * with content. Tasks only declare a dependency when they need another task's results while running.
+     *
+     * @throws Exception If the cache cannot be opened.
      */
-    private void initLaunchTasks() {
-        List<Runnable> taskList = new ArrayList<>();
-        taskList.add(SubZone.Companion::findAreaOverlaps);
-        taskList.add(new EquipmentDefinitionFileParser());
-        taskList.add(new MessageRepositoryFileParser(messageRepository));
-        taskList.add(new WeaponTypeDefinitionFileParser());
-        taskList.add(new WeaponDefinitionFileParser());
-        taskList.add(new NpcCombatDefinitionFileParser());
-        taskList.add(new CombatSpellDefinitionFileParser());
-        taskList.add(new AmmoDefinitionFileParser());
-        taskList.add(new BossFileParser());
-        taskList.add(() -> context.getWorld().getBots().loadNames());
-        taskList.add(new EquipmentPoisonDefinitionFileParser());
-        taskList.add(new WeaponAnimationDefinitionFileParser());
-        taskList.add(new ItemNicknameDefinitionFileParser());
+    private void initLaunchTasks() throws Exception {
+        Cache cache = context.getCache();
+        cache.open();
+
+        StartupGraph graph = new StartupGraph();
+        addDecoder(graph, new ObjectDefinitionDecoder());
+        addDecoder(graph, new WidgetDefinitionDecoder());
+        addDecoder(graph, new ItemDefinitionDecoder());
+        addDecoder(graph, new NpcDefinitionDecoder());
+        addDecoder(graph, new VarBitDefinitionDecoder());
+        addDecoder(graph, new VarpDefinitionDecoder());
+        addDecoder(graph, new MapDecoder());
+        graph.add("CollisionManager", () -> context.getWorld().getCollisionManager().build(false),
+                "MapDecoder", "ObjectDefinitionDecoder");
+
+        addTask(graph, new EquipmentDefinitionFileParser());
+        addTask(graph, new MessageRepositoryFileParser(messageRepository));
+        addTask(graph, new WeaponTypeDefinitionFileParser());
+        addTask(graph, new WeaponDefinitionFileParser());
+        addTask(graph, new NpcCombatDefinitionFileParser());
+        addTask(graph, new CombatSpellDefinitionFileParser());
+        addTask(graph, new AmmoDefinitionFileParser());
+        addTask(graph, new BossFileParser());
+        addTask(graph, new EquipmentPoisonDefinitionFileParser());
+        addTask(graph, new WeaponAnimationDefinitionFileParser());
+        addTask(graph, new ItemNicknameDefinitionFileParser());
+        graph.add("SubZoneOverlaps", SubZone.Companion::findAreaOverlaps);
+        graph.add("BotNames", () -> context.getWorld().getBots().loadNames());
 
         ExecutorService pool = ExecutorUtils.threadPool("BackgroundLoaderThread");
-        for (Runnable task : taskList) {
-            pool.execute(task);
+        try {
+            graph.run(pool);
+        } finally {
+            pool.shutdown();
         }
+        logger.info("The #377 cache has been loaded into memory.");
+    }
 
-        int count = taskList.size();
-        logger.info("Waiting for {} Java launch task(s) to complete...", box(count));
-
-        pool.shutdown();
-        awaitTerminationUninterruptibly(pool);
+    /**
+     * Adds a cache decoder to {@code graph}, named after its class.
+     *
+     * @param graph The startup graph.
+     * @param decoder The decoder.
+     */
+    private void addDecoder(StartupGraph graph, CacheDecoder<?> decoder) {
+        graph.add(decoder.getClass().getSimpleName(), decoder.toTask(context, context.getCache()));
+    }
 
-        // Wait for cache decoders after launch tasks (keeps startup ordering deterministic).
-        context.getCache().waitForDecoders();
+    /**
+     * Adds a launch task without dependencies to {@code graph}, named after its class.
+     *
+     * @param graph The startup graph.
+     * @param task The task.
+     */
+    private void addTask(StartupGraph graph, Runnable task) {
+        graph.add(task.getClass().getSimpleName(), task);
     }
 
     /**
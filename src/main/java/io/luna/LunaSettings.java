@@ -4,6 +4,8 @@ import game.skill.SkillsSettings;
 import io.luna.game.GameSettings;
 import io.luna.game.model.item.economy.WorldEconomySettings;
 import io.luna.game.model.mob.bot.BotSettings;
+import io.luna.game.profile.ProfilingSettings;
+import io.luna.net.NetworkSettings;
 import io.luna.util.SqlConnectionPool.DatabaseSettings;
 import io.luna.util.logging.LoggingSettings;
 
@@ -22,6 +24,11 @@ public final class LunaSettings {
      */
     private final GameSettings game;
 
+    /**
+     * Network settings (transport, threads, channel options).
+     */
+    private final NetworkSettings network;
+
     /**
      * Database settings used by the SQL connection pool (if enabled).
      */
@@ -47,6 +54,11 @@ public final class LunaSettings {
      */
     private final WorldEconomySettings economy;
 
+    /**
+     * Performance profiling.
+     */
+    private final ProfilingSettings profiling;
+
     /**
      * Returns game-server settings.
      */
@@ -54,6 +66,13 @@ public final class LunaSettings {
         return game;
     }
 
+    /**
+     * Returns network settings.
+     */
+    public NetworkSettings network() {
+        return network;
+    }
+
     /**
      * Returns database settings.
      */
@@ -89,15 +108,24 @@ public final class LunaSettings {
         return economy;
     }
 
+    /**
+     * Returns profiling settings.
+     */
+    public ProfilingSettings profiling() {
+        return profiling;
+    }
+
     /**
      * Private constructor used by Gson. Not invoked directly.
      */
-    private LunaSettings(GameSettings game, DatabaseSettings database, LoggingSettings logging, SkillsSettings skills, BotSettings bots, WorldEconomySettings economy) {
+    private LunaSettings(GameSettings game, NetworkSettings network, DatabaseSettings database, LoggingSettings logging, SkillsSettings skills, BotSettings bots, WorldEconomySettings economy, ProfilingSettings profiling) {
         this.game = game;
+        this.network = network;
         this.database = database;
         this.logging = logging;
         this.skills = skills;
         this.bots = bots;
         this.economy = economy;
+        this.profiling = profiling;
     }
 }
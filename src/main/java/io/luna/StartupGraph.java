@@ -0,0 +1,193 @@
+package io.luna;
+
+import com.google.common.base.Stopwatch;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static org.apache.logging.log4j.util.Unbox.box;
+
+/**
+ * A graph of startup tasks, where each task declares the tasks whose results it needs. Every task is run as soon as
+ * all of its dependencies have completed, so independent work overlaps as much as the executor allows.
+ * <p>
+ * Dependencies must be added before the tasks that depend on them, which keeps the graph acyclic. A task that throws
+ * is logged and treated as completed, so that a single failure doesn't stall the rest of startup.
+ * <p>
+ * Once the graph completes, the critical path is logged. It's the chain of dependencies that ended last, and so
+ * determined how long startup took. Speeding up a task that isn't on it won't make startup any faster.
+ *
+ * @author lare96
+ */
+final class StartupGraph {
+
+    /**
+     * A single task within the graph.
+     */
+    private static final class Node {
+
+        /**
+         * The name.
+         */
+        private final String name;
+
+        /**
+         * The task.
+         */
+        private final Runnable task;
+
+        /**
+         * The tasks that must complete first.
+         */
+        private final List<Node> dependencies;
+
+        /**
+         * Completed when the task has run.
+         */
+        private CompletableFuture<Void> future;
+
+        /**
+         * When the task started, in nanoseconds since the graph started.
+         */
+        private volatile long startNanos;
+
+        /**
+         * When the task ended, in nanoseconds since the graph started.
+         */
+        private volatile long endNanos;
+
+        /**
+         * Creates a new {@link Node}.
+         *
+         * @param name The name.
+         * @param task The task.
+         * @param dependencies The tasks that must complete first.
+         */
+        private Node(String name, Runnable task, List<Node> dependencies) {
+            this.name = name;
+            this.task = task;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * The logger.
+     */
+    private static final Logger logger = LogManager.getLogger();
+
+    /**
+     * The tasks, in the order they were added.
+     */
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+    /**
+     * Adds a task to this graph.
+     *
+     * @param name The unique name of the task.
+     * @param task The task.
+     * @param dependencies The names of the tasks that must complete first.
+     * @throws IllegalArgumentException If the name is taken, or a dependency hasn't been added.
+     */
+    public void add(String name, Runnable task, String... dependencies) {
+        checkArgument(!nodes.containsKey(name), "Task %s was already added.", name);
+        List<Node> dependencyNodes = new ArrayList<>(dependencies.length);
+        for (String dependency : dependencies) {
+            Node node = nodes.get(dependency);
+            checkArgument(node != null, "Dependency %s of %s must be added first.", dependency, name);
+            dependencyNodes.add(node);
+        }
+        nodes.put(name, new Node(name, task, dependencyNodes));
+    }
+
+    /**
+     * Runs every task on {@code executor}, blocks until all of them have completed, then logs the critical path.
+     *
+     * @param executor The executor.
+     * @throws IllegalStateException If this graph has already been run.
+     */
+    public void run(Executor executor) {
+        checkState(nodes.values().stream().allMatch(node -> node.future == null), "Graph has already been run.");
+        Stopwatch timer = Stopwatch.createStarted();
+        for (Node node : nodes.values()) {
+            Runnable task = () -> execute(node, timer);
+            if (node.dependencies.isEmpty()) {
+                node.future = CompletableFuture.runAsync(task, executor);
+            } else {
+                CompletableFuture<?>[] dependencies = node.dependencies.stream().
+                        map(dependency -> dependency.future).toArray(CompletableFuture[]::new);
+                node.future = CompletableFuture.allOf(dependencies).thenRunAsync(task, executor);
+            }
+        }
+        CompletableFuture.allOf(nodes.values().stream().
+                map(node -> node.future).toArray(CompletableFuture[]::new)).join();
+        report(timer.elapsed(TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Runs a single task, recording when it started and ended.
+     *
+     * @param node The task.
+     * @param timer The timer started with the graph.
+     */
+    private void execute(Node node, Stopwatch timer) {
+        node.startNanos = timer.elapsed(TimeUnit.NANOSECONDS);
+        try {
+            node.task.run();
+        } catch (Exception e) {
+            logger.error("Startup task {} failed.", node.name, e);
+        } finally {
+            node.endNanos = timer.elapsed(TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Logs the critical path. It starts at the task that ended last and follows the dependency that ended last,
+     * until a task without dependencies is reached.
+     *
+     * @param elapsedNanos How long the graph took to complete.
+     */
+    private void report(long elapsedNanos) {
+        Node last = null;
+        for (Node node : nodes.values()) {
+            if (last == null || node.endNanos > last.endNanos) {
+                last = node;
+            }
+        }
+        if (last == null) {
+            return;
+        }
+
+        List<Node> path = new ArrayList<>();
+        for (Node node = last; node != null; ) {
+            path.add(0, node);
+            Node next = null;
+            for (Node dependency : node.dependencies) {
+                if (next == null || dependency.endNanos > next.endNanos) {
+                    next = dependency;
+                }
+            }
+            node = next;
+        }
+
+        long busyNanos = 0;
+        StringJoiner joiner = new StringJoiner(" -> ");
+        for (Node node : path) {
+            long nanos = node.endNanos - node.startNanos;
+            busyNanos += nanos;
+            joiner.add(node.name + " (" + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms)");
+        }
+        logger.info("{} startup task(s) completed in {}ms. Critical path: {}, waiting {}ms for threads.",
+                box(nodes.size()), box(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)), joiner,
+                box(TimeUnit.NANOSECONDS.toMillis(elapsedNanos - busyNanos)));
+    }
+}
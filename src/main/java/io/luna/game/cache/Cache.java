@@ -2,7 +2,6 @@ package io.luna.game.cache;
 
 import io.luna.LunaContext;
 import io.luna.game.cache.map.MapIndexTable;
-import io.luna.util.ExecutorUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 
@@ -11,14 +10,14 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
 
 import static com.google.common.base.Preconditions.checkState;
-import static com.google.common.util.concurrent.Uninterruptibles.awaitTerminationUninterruptibly;
 
 /**
  * Read-only access to the RuneScape #377 cache files on disk.
@@ -28,13 +27,13 @@ import static com.google.common.util.concurrent.Uninterruptibles.awaitTerminatio
  * <h3>Usage</h3>
  * <ul>
  *   <li>Call {@link #open()} once to open the data/index files.</li>
- *   <li>Optionally run cache decoders via {@link #runDecoders(LunaContext, CacheDecoder[])}.</li>
+ *   <li>Optionally run {@link CacheDecoder}s using {@link CacheDecoder#toTask(LunaContext, Cache)}.</li>
  *   <li>Use {@link #getFile(int, int)} to read raw cache files.</li>
  *   <li>Call {@link #close()} on shutdown.</li>
  * </ul>
  * <p>
- * <strong>Threading:</strong> Decoders are executed on an internal executor (currently single-threaded). File reads
- * are synchronous.
+ * <strong>Threading:</strong> File reads are synchronous, and safe to perform from multiple threads at once as files are
+ * memory mapped.
  *
  * @author Graham Edgecombe
  * @author lare96
@@ -72,11 +71,6 @@ public final class Cache implements Closeable {
     private static final String EXCEPTION_MESSAGE =
             "This cache resource was never opened! See [Cache#open()]";
 
-    /**
-     * Executor running decoder tasks (shut down after decoding completes).
-     */
-    private final ExecutorService decoderService = ExecutorUtils.threadPool("CacheDecoderThread", 1);
-
     /**
      * Data file containing 520-byte chained blocks.
      */
@@ -96,7 +90,7 @@ public final class Cache implements Closeable {
      * Opens the cache by locating and opening {@code main_file_cache.dat} and all sequential index files
      * {@code main_file_cache.idx0..idxN}.
      * <p>
-     * This method must be called before {@link #getFile(int, int)} or {@link #runDecoders(LunaContext, CacheDecoder[])}.
+     * This method must be called before {@link #getFile(int, int)}.
      *
      * @throws IOException If the cache is missing, unreadable, or already open.
      */
@@ -124,35 +118,6 @@ public final class Cache implements Closeable {
         }
     }
 
-    /**
-     * Schedules cache decoders to run asynchronously on the decoder executor.
-     * <p>
-     * Decoders typically read raw files via {@link #getFile(int, int)} and then store decoded structures into game
-     * repositories (e.g., definitions, map tables).
-     *
-     * @param ctx The game context.
-     * @param cacheDecoders The decoders to run.
-     * @throws IllegalStateException If the cache is not open or the decoder thread is shut down.
-     */
-    public void runDecoders(LunaContext ctx, CacheDecoder<?>... cacheDecoders) {
-        checkState(!decoderService.isShutdown(), "Cache decoder thread is no longer running.");
-        checkState(dataFile != null && indexFiles != null, EXCEPTION_MESSAGE);
-
-        for (CacheDecoder<?> decoder : cacheDecoders) {
-            decoderService.execute(decoder.toTask(ctx, this));
-        }
-    }
-
-    /**
-     * Blocks the calling thread until all scheduled decoders finish.
-     * <p>
-     * This shuts down the decoder executor and waits uninterruptibly for completion.
-     */
-    public void waitForDecoders() {
-        decoderService.shutdown();
-        awaitTerminationUninterruptibly(decoderService);
-    }
-
     /**
      * Reads a raw file from the cache.
      * <p>
@@ -251,12 +216,33 @@ public final class Cache implements Closeable {
         return fileBuffer;
     }
 
+    /**
+     * Computes a CRC32 checksum over the data file and every index file.
+     * <p>
+     * This is used to tie data derived from the cache (such as precomputed collision) to the exact cache it was
+     * built from. Files are memory mapped, so this is safe to call while decoders are running.
+     *
+     * @return The cache checksum.
+     * @throws IOException If the cache files cannot be read.
+     */
+    public long computeChecksum() throws IOException {
+        checkState(dataFile != null && indexFiles != null, EXCEPTION_MESSAGE);
+
+        CRC32 crc = new CRC32();
+        for (RandomAccessFile indexFile : indexFiles) {
+            FileChannel channel = indexFile.getChannel();
+            crc.update(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+        }
+        FileChannel channel = dataFile.getChannel();
+        crc.update(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+        return crc.getValue();
+    }
+
     @Override
     public void close() {
         try {
             checkState(dataFile != null && indexFiles != null, EXCEPTION_MESSAGE);
 
-            decoderService.shutdown();
             dataFile.close();
 
             for (RandomAccessFile indexFile : indexFiles) {
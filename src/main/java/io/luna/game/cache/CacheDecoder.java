@@ -15,8 +15,7 @@ import org.apache.logging.log4j.Logger;
  *   <li>{@link #handle(LunaContext, Cache, ImmutableList)}: store or apply decoded objects (optional).</li>
  * </ol>
  * <p>
- * Decoders are executed via {@link Cache#runDecoders(LunaContext, CacheDecoder[])} using
- * {@link #toTask(LunaContext, Cache)}.
+ * Decoders are executed using {@link #toTask(LunaContext, Cache)}, and may run concurrently with other decoders.
  *
  * @param <T> The decoded object type produced by this decoder.
  * @author lare96
@@ -1,10 +1,12 @@
 package io.luna.game.event;
 
+import io.luna.game.profile.ListenerProfiler;
+
 /**
  * Base type for all events dispatched through Luna's event system.
  * <p>
  * Events are intended to be treated as immutable message objects to prevent side effects while multiple listeners
- * process the same instance. The only mutable field is the pipeline reference, which is set by the dispatcher to
+ * process the same instance. The only mutable fields are the pipeline and profiler references, set by the dispatcher to
  * support internal routing/inspection during dispatch.
  * <p>
  * <strong>Dispatch note:</strong> {@link #getPipeline()} is non-{@code null} only while the event is actively being
@@ -22,6 +24,13 @@ public class Event {
      */
     private EventListenerPipeline<?> pipeline;
 
+    /**
+     * The profiler sampling this dispatch, or {@code null} if it isn't being profiled.
+     * <p>
+     * Like {@link #pipeline}, this is only set for the duration of dispatch.
+     */
+    private ListenerProfiler profiler;
+
     /**
      * Returns the pipeline currently dispatching this event.
      *
@@ -41,4 +50,24 @@ public class Event {
     protected void setPipeline(EventListenerPipeline<?> pipeline) {
         this.pipeline = pipeline;
     }
+
+    /**
+     * Returns the profiler sampling this dispatch.
+     *
+     * @return The profiler, or {@code null} if this dispatch isn't being profiled.
+     */
+    ListenerProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Sets the profiler sampling this dispatch.
+     * <p>
+     * Intended for internal use by the event dispatcher only.
+     *
+     * @param profiler The profiler, or {@code null} if this dispatch isn't being profiled.
+     */
+    void setProfiler(ListenerProfiler profiler) {
+        this.profiler = profiler;
+    }
 }
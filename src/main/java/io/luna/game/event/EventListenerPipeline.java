@@ -6,6 +6,7 @@ import io.luna.game.model.mob.Player;
 import io.luna.game.model.mob.interact.InteractionActionListener;
 import io.luna.game.plugin.Script;
 import io.luna.game.plugin.ScriptExecutionException;
+import io.luna.game.profile.ListenerProfiler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -97,13 +98,28 @@ public final class EventListenerPipeline<E extends Event> {
      * @param msg The event instance to dispatch.
      */
     public void post(E msg) {
+        post(msg, null);
+    }
+
+    /**
+     * Dispatches an event through this pipeline immediately, like {@link #post(Event)}. If {@code profiler} decides to
+     * sample this dispatch, the time taken by each listener is recorded against its owning script.
+     *
+     * @param msg The event instance to dispatch.
+     * @param profiler The listener profiler, or {@code null} to never profile.
+     */
+    public void post(E msg, ListenerProfiler profiler) {
         try {
             msg.setPipeline(this);
+            if (profiler != null && profiler.shouldSample()) {
+                msg.setProfiler(profiler);
+            }
             internalPost(msg);
         } catch (ScriptExecutionException e) {
             handleException(e);
         } finally {
             msg.setPipeline(null);
+            msg.setProfiler(null);
         }
     }
 
@@ -163,7 +179,15 @@ public final class EventListenerPipeline<E extends Event> {
     private void internalPost(E msg) {
         // HIGH listener always runs first.
         if (priorityListener != null) {
-            priorityListener.getListener().accept(msg);
+            ListenerProfiler profiler = msg.getProfiler();
+            long start = profiler != null ? System.nanoTime() : 0;
+            try {
+                priorityListener.getListener().accept(msg);
+            } finally {
+                if (profiler != null) {
+                    profiler.record(priorityListener.getScript(), eventType, System.nanoTime() - start);
+                }
+            }
         }
 
         // Then NORMAL listeners.
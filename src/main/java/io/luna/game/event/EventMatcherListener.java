@@ -5,6 +5,7 @@ import io.luna.game.model.mob.Player;
 import io.luna.game.model.mob.interact.InteractionPolicy;
 import io.luna.game.plugin.Script;
 import io.luna.game.plugin.ScriptExecutionException;
+import io.luna.game.profile.ListenerProfiler;
 import io.luna.util.ReflectionUtils;
 
 import java.util.function.BiFunction;
@@ -55,15 +56,22 @@ public final class EventMatcherListener<E extends Event> {
      * Executes the callback for {@code msg}.
      *
      * <p>Any exception thrown by the callback is wrapped into a {@link ScriptExecutionException}
-     * so the dispatcher can attribute/log it against the owning script.
+     * so the dispatcher can attribute/log it against the owning script. If the dispatch is being profiled, the time
+     * taken is recorded against the owning script.
      *
      * @param msg The event instance.
      */
     public void apply(E msg) {
+        ListenerProfiler profiler = msg.getProfiler();
+        long start = profiler != null ? System.nanoTime() : 0;
         try {
             listener.accept(msg);
         } catch (Exception failure) {
             throw new ScriptExecutionException(script, failure);
+        } finally {
+            if (profiler != null) {
+                profiler.record(script, msg.getClass(), System.nanoTime() - start);
+            }
         }
     }
 
@@ -62,6 +62,11 @@ public final class ChatEvent extends PlayerEvent implements ControllableEvent, I
         this.unpackedMessage = unpackedMessage;
     }
 
+    @Override
+    public Locatable contextOrigin() {
+        return plr;
+    }
+
     @Override
     public Locatable contextLocatable(Bot bot) {
         long usernameHash = bot.getUsernameHash();
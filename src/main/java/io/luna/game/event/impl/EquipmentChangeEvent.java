@@ -3,7 +3,6 @@ package io.luna.game.event.impl;
 import io.luna.game.model.Locatable;
 import io.luna.game.model.item.Item;
 import io.luna.game.model.mob.Player;
-import io.luna.game.model.mob.bot.Bot;
 
 /**
  * An event sent when the equipment of a player changes.
@@ -43,7 +42,7 @@ public final class EquipmentChangeEvent extends PlayerEvent implements Injectabl
     }
 
     @Override
-    public Locatable contextLocatable(Bot bot) {
+    public Locatable contextOrigin() {
         return plr;
     }
 
@@ -32,7 +32,7 @@ public class GroundItemClickEvent extends PlayerEvent implements ControllableEve
         }
 
         @Override
-        public Locatable contextLocatable(Bot bot) {
+        public Locatable contextOrigin() {
             return plr;
         }
 
@@ -25,18 +25,35 @@ import io.luna.game.model.mob.bot.injection.BotContextInjectorManager;
  */
 public interface InjectableEvent {
 
+    /**
+     * The furthest distance (in tiles) from its origin that any event can be injected at. Values returned by
+     * {@link #contextRadius(Bot)} are never allowed to exceed this.
+     */
+    int MAX_CONTEXT_RADIUS = Position.VIEWING_DISTANCE;
+
+    /**
+     * Returns the {@link Locatable} this event originated from, which is used to index it by chunk when it's posted.
+     * Only bots close enough to the origin will be asked for their {@link #contextLocatable(Bot)}.
+     *
+     * @return The origin, or {@code null} if this event is never injectable.
+     */
+    Locatable contextOrigin();
+
     /**
      * Returns the {@link Locatable} that defines the spatial context of this event for the specified {@link Bot}.
      * The context location is used to determine proximity and visibility when deciding if the event should be
      * injected.
      * <p>
-     * A return value of {@code null} indicates that the event has no spatial context and should not be injected
-     * into {@code bot}.
+     * The default implementation returns {@link #contextOrigin()}. Implementations must return either the origin or
+     * {@code null}, which indicates that the event has no spatial context and should not be injected into
+     * {@code bot}.
      *
      * @param bot The bot for which this context is being evaluated.
      * @return The contextual location, or {@code null} if this event is not injectable.
      */
-    Locatable contextLocatable(Bot bot);
+    default Locatable contextLocatable(Bot bot) {
+        return contextOrigin();
+    }
 
     /**
      * Returns the maximum distance (in tiles) from the context location at which this event remains visible or
@@ -44,7 +61,7 @@ public interface InjectableEvent {
      * <p>
      * The default implementation returns {@link Position#VIEWING_DISTANCE}, meaning that bots within the normal
      * viewing range will receive the event. A return value of {@code -1} indicates that this event should never be
-     * viewable or injected.
+     * viewable or injected. Radii are limited to {@link #MAX_CONTEXT_RADIUS}.
      *
      * @param bot The bot for which this radius is being evaluated.
      * @return The radius of visibility, or {@code -1} if this event is never viewable.
@@ -2,7 +2,6 @@ package io.luna.game.event.impl;
 
 import io.luna.game.model.Locatable;
 import io.luna.game.model.mob.Player;
-import io.luna.game.model.mob.bot.Bot;
 
 /**
  * An event sent when a player logs in.
@@ -21,7 +20,7 @@ public final class LoginEvent extends PlayerEvent implements InjectableEvent {
     }
 
     @Override
-    public Locatable contextLocatable(Bot bot) {
+    public Locatable contextOrigin() {
         return plr;
     }
 }
@@ -3,7 +3,6 @@ package io.luna.game.event.impl;
 import io.luna.game.model.Entity;
 import io.luna.game.model.Locatable;
 import io.luna.game.model.mob.Player;
-import io.luna.game.model.mob.bot.Bot;
 
 /**
  * A player-click based event. Not intended for interception.
@@ -110,7 +109,7 @@ public class PlayerClickEvent extends PlayerEvent implements ControllableEvent,
     }
 
     @Override
-    public Locatable contextLocatable(Bot bot) {
+    public Locatable contextOrigin() {
         return plr;
     }
 
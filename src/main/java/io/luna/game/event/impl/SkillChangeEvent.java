@@ -49,7 +49,7 @@ public final class SkillChangeEvent extends PlayerEvent implements InjectableEve
     }
 
     @Override
-    public Locatable contextLocatable(Bot bot) {
+    public Locatable contextOrigin() {
         return plr;
     }
 
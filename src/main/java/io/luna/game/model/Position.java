@@ -17,6 +17,11 @@ import static com.google.common.base.Preconditions.checkArgument;
  *     <li>{@code z} – The height level (plane), restricted to {@code 0..3}.</li>
  * </ul>
  *
+ * <h2>Packing</h2>
+ * A position can also be packed into a single {@code int} through {@link #pack(int, int, int)}, which is the same
+ * value as its {@link #hashCode()}. Hot paths that would otherwise create short-lived positions work with packed
+ * positions or raw coordinates instead, and only create a {@code Position} when one has to be kept.
+ *
  * <h2>Partitioning</h2>
  * Positions can be mapped into higher-level partitions:
  * <ul>
@@ -41,6 +46,59 @@ public final class Position implements Locatable {
      */
     public static final Range<Integer> HEIGHT_LEVELS = Range.closedOpen(0, 4);
 
+    /**
+     * Packs coordinates into a single {@code int}. The X and Y coordinates keep their lowest 14 bits, and the height
+     * level takes the highest bits.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The height level.
+     * @return The packed position.
+     */
+    public static int pack(int x, int y, int z) {
+        return (z << 28) | ((x & 0x3FFF) << 14) | (y & 0x3FFF);
+    }
+
+    /**
+     * Unpacks the x coordinate of a position packed by {@link #pack(int, int, int)}.
+     *
+     * @param packed The packed position.
+     * @return The x coordinate.
+     */
+    public static int unpackX(int packed) {
+        return (packed >> 14) & 0x3FFF;
+    }
+
+    /**
+     * Unpacks the y coordinate of a position packed by {@link #pack(int, int, int)}.
+     *
+     * @param packed The packed position.
+     * @return The y coordinate.
+     */
+    public static int unpackY(int packed) {
+        return packed & 0x3FFF;
+    }
+
+    /**
+     * Unpacks the height level of a position packed by {@link #pack(int, int, int)}.
+     *
+     * @param packed The packed position.
+     * @return The height level.
+     */
+    public static int unpackZ(int packed) {
+        return packed >>> 28;
+    }
+
+    /**
+     * Unpacks a position packed by {@link #pack(int, int, int)}.
+     *
+     * @param packed The packed position.
+     * @return The position.
+     */
+    public static Position unpack(int packed) {
+        return new Position(unpackX(packed), unpackY(packed), unpackZ(packed));
+    }
+
     /**
      * The x tile coordinate.
      */
@@ -105,7 +163,7 @@ public final class Position implements Locatable {
 
     @Override
     public int hashCode() {
-        return (z << 28) | ((x & 0x3FFF) << 14) | (y & 0x3FFF);
+        return pack();
     }
 
     @Override
@@ -331,12 +389,24 @@ public final class Position implements Locatable {
     }
 
     /**
-     * Returns a new {@link Position} with the same X and Y coordinates but a different height level.
+     * @return This position, packed by {@link #pack(int, int, int)}.
+     */
+    public int pack() {
+        return pack(x, y, z);
+    }
+
+    /**
+     * Returns a {@link Position} with the same X and Y coordinates but a different height level.
+     * <p>
+     * If the height level is unchanged, this instance is returned.
      *
      * @param newZ The new height level.
      * @return The new position.
      */
     public Position setZ(int newZ) {
+        if (newZ == z) {
+            return this;
+        }
         return new Position(x, y, newZ);
     }
 }
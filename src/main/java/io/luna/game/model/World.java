@@ -1,5 +1,6 @@
 package io.luna.game.model;
 
+import io.luna.Luna;
 import io.luna.LunaContext;
 import io.luna.game.GameService;
 import io.luna.game.LoginService;
@@ -17,6 +18,8 @@ import io.luna.game.model.mob.bot.BotRepository;
 import io.luna.game.model.object.GameObjectList;
 import io.luna.game.persistence.GameSerializerManager;
 import io.luna.game.persistence.PersistenceService;
+import io.luna.game.profile.TickPhase;
+import io.luna.game.profile.TickProfiler;
 import io.luna.game.task.Task;
 import io.luna.game.task.TaskManager;
 import io.luna.net.msg.out.NpcUpdateMessageWriter;
@@ -232,6 +235,11 @@ public final class World {
      */
     private final ExecutorService updatePool;
 
+    /**
+     * Records how long each phase of {@link #process()} takes.
+     */
+    private final TickProfiler tickProfiler;
+
     /**
      * Monotonic tick counter (increments once per {@link #process()} call).
      */
@@ -291,17 +299,18 @@ public final class World {
 
         // Initialize synchronization thread pool.
         updatePool = ExecutorUtils.threadPool(UPDATING_THREADS_NAME);
+        tickProfiler = new TickProfiler(Luna.settings().profiling(), task -> context.getGame().submit(task));
     }
 
     /**
-     * Starts world subsystems that need to run once after construction.
+     * Starts world subsystems that need to run once after construction. Collision has already been built by this
+     * point, as a startup task of {@link io.luna.LunaServer}.
      * <p>
      * This method is executed on the game thread.
      */
     public void start() {
         economy.startAsync();
         items.startExpirationTask();
-        collisionManager.build(false);
         botManager.load();
     }
 
@@ -353,30 +362,39 @@ public final class World {
      *     <li>housekeeping: chunk updates reset, bot event cleanup, collision snapshots</li>
      *     <li>tick increment</li>
      * </ol>
+     * The duration of each phase is recorded by the {@link TickProfiler}.
      */
     public void process() {
+        tickProfiler.beginTick();
 
         // Add pending players that have just logged in.
         loginService.finishRequests();
+        tickProfiler.mark(TickPhase.LOGINS);
 
         // Remove pending players that have just logged out.
         logoutService.finishRequests();
+        tickProfiler.mark(TickPhase.LOGOUTS);
 
         // Process all tasks.
         tasks.runTaskIteration();
+        tickProfiler.mark(TickPhase.TASKS);
 
         // Handle world synchronization.
         preSynchronize();
+        tickProfiler.mark(TickPhase.PRE_SYNCHRONIZE);
         synchronize();
         postSynchronize();
+        tickProfiler.mark(TickPhase.POST_SYNCHRONIZE);
 
         // Housekeeping that depends on synchronization having completed.
         chunks.resetUpdatedChunks();
         botManager.getInjectorManager().clearEvents();
         collisionManager.handleSnapshots();
+        tickProfiler.mark(TickPhase.HOUSEKEEPING);
 
         // Increment tick counter.
         currentTick.incrementAndGet();
+        tickProfiler.endTick();
     }
 
     /**
@@ -478,7 +496,9 @@ public final class World {
         }
 
         // Wait for all registered parties to finish.
+        tickProfiler.mark(TickPhase.SYNCHRONIZE);
         synchronizer.arriveAndAwaitAdvance();
+        tickProfiler.mark(TickPhase.UPDATE_POOL_WAIT);
     }
 
     /**
@@ -708,4 +728,11 @@ public final class World {
     public WorldEconomy getEconomy() {
         return economy;
     }
+
+    /**
+     * @return The tick profiler.
+     */
+    public TickProfiler getTickProfiler() {
+        return tickProfiler;
+    }
 }
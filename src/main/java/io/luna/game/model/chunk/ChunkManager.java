@@ -5,6 +5,7 @@ import io.luna.game.model.World;
 import io.luna.game.model.mob.Player;
 import io.luna.net.msg.out.ClearChunkMessageWriter;
 import io.luna.net.msg.out.GroupedEntityMessageWriter;
+import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -17,6 +18,8 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -24,7 +27,13 @@ import java.util.stream.StreamSupport;
  * Loads and manages {@link ChunkRepository} instances for the world, and drives per-player chunk update dispatch.
  * <p>
  * A {@link ChunkRepository} is created lazily on demand via {@link #load(Chunk)} / {@link #load(Position)} and then
- * retained in {@link #repositories}. Each repository holds the entities and queued update requests for its chunk.
+ * retained in {@link #blocks}. Each repository holds the entities and queued update requests for its chunk.
+ * <p>
+ * <b>Lookup:</b> Repositories are looked up on every collision check and pathfinding step, so they're stored densely
+ * rather than hashed. The map's chunk coordinate range is divided into blocks of {@link #BLOCK_SIZE} by
+ * {@link #BLOCK_SIZE} chunks (one region), and a lookup is two array reads: the block, then the repository within it.
+ * Blocks and repositories are created lazily and published with a compare-and-set, so readers on any thread always
+ * see fully constructed instances. Chunks outside the range are rare, and kept in {@link #outside} instead.
  * <p>
  * <b>View radius:</b> This manager defines a square "viewable" area around a base chunk. The current implementation
  * iterates from {@code -VIEWABLE_RADIUS} (inclusive) to {@code VIEWABLE_RADIUS} (inclusive), producing a symmetric
@@ -51,9 +60,41 @@ public final class ChunkManager implements Iterable<ChunkRepository> {
     public static final int VIEWABLE_RADIUS = 3;
 
     /**
-     * Loaded chunk repositories keyed by {@link Chunk}.
+     * The length of each side of a block, in chunks.
+     */
+    private static final int BLOCK_SIZE = 8;
+
+    /**
+     * The amount of blocks along each side of the map. Covers every tile coordinate a {@link Position} can be packed
+     * with.
+     */
+    private static final int BLOCKS = 256;
+
+    /**
+     * The amount of chunks along each side of the map.
+     */
+    private static final int CHUNKS = BLOCKS * BLOCK_SIZE;
+
+    /**
+     * The difference between {@link Chunk} coordinates and the chunk indexes of the map.
      */
-    private final Map<Chunk, ChunkRepository> repositories = new ConcurrentHashMap<>(29_278);
+    private static final int CHUNK_OFFSET = 6;
+
+    /**
+     * The blocks of loaded repositories, created lazily.
+     */
+    private final AtomicReferenceArray<AtomicReferenceArray<ChunkRepository>> blocks =
+            new AtomicReferenceArray<>(BLOCKS * BLOCKS);
+
+    /**
+     * Loaded repositories for chunks outside the map's chunk coordinate range.
+     */
+    private final Map<Chunk, ChunkRepository> outside = new ConcurrentHashMap<>();
+
+    /**
+     * Every loaded repository, in load order.
+     */
+    private final Collection<ChunkRepository> repositories = new ConcurrentLinkedQueue<>();
 
     /**
      * Chunks that have had updates sent this tick and therefore must be reset in {@link #resetUpdatedChunks()}.
@@ -78,12 +119,12 @@ public final class ChunkManager implements Iterable<ChunkRepository> {
 
     @Override
     public Spliterator<ChunkRepository> spliterator() {
-        return Spliterators.spliterator(repositories.values(), Spliterator.NONNULL);
+        return Spliterators.spliterator(repositories, Spliterator.NONNULL);
     }
 
     @Override
     public Iterator<ChunkRepository> iterator() {
-        return repositories.values().iterator();
+        return repositories.iterator();
     }
 
     /**
@@ -95,7 +136,7 @@ public final class ChunkManager implements Iterable<ChunkRepository> {
      * @return The existing or newly created repository.
      */
     public ChunkRepository load(Chunk chunk) {
-        return repositories.computeIfAbsent(chunk, key -> new ChunkRepository(world, key));
+        return load(chunk.getX(), chunk.getY(), chunk);
     }
 
     /**
@@ -105,7 +146,72 @@ public final class ChunkManager implements Iterable<ChunkRepository> {
      * @return The existing or newly created repository.
      */
     public ChunkRepository load(Position position) {
-        return load(position.getChunk());
+        return load(position.getX(), position.getY());
+    }
+
+    /**
+     * Loads (or retrieves) the {@link ChunkRepository} for the chunk containing the tile at {@code x}, {@code y}.
+     * No {@link Chunk} is created unless the repository is.
+     *
+     * @param x The absolute x coordinate of the tile.
+     * @param y The absolute y coordinate of the tile.
+     * @return The existing or newly created repository.
+     */
+    public ChunkRepository load(int x, int y) {
+        return load(x / Chunk.SIZE - CHUNK_OFFSET, y / Chunk.SIZE - CHUNK_OFFSET, null);
+    }
+
+    /**
+     * Loads (or retrieves) the {@link ChunkRepository} at chunk coordinates.
+     *
+     * @param chunkX The chunk x coordinate.
+     * @param chunkY The chunk y coordinate.
+     * @param chunk The chunk, or {@code null} to create it if needed.
+     * @return The existing or newly created repository.
+     */
+    private ChunkRepository load(int chunkX, int chunkY, Chunk chunk) {
+        int indexX = chunkX + CHUNK_OFFSET;
+        int indexY = chunkY + CHUNK_OFFSET;
+        if (indexX < 0 || indexY < 0 || indexX >= CHUNKS || indexY >= CHUNKS) {
+            Chunk key = chunk != null ? chunk : new Chunk(chunkX, chunkY);
+            return outside.computeIfAbsent(key, this::create);
+        }
+        int blockIndex = (indexX / BLOCK_SIZE) * BLOCKS + indexY / BLOCK_SIZE;
+        int index = (indexX % BLOCK_SIZE) * BLOCK_SIZE + indexY % BLOCK_SIZE;
+        AtomicReferenceArray<ChunkRepository> block = blocks.get(blockIndex);
+        if (block != null) {
+            ChunkRepository repository = block.get(index);
+            if (repository != null) {
+                return repository;
+            }
+        } else {
+            block = new AtomicReferenceArray<>(BLOCK_SIZE * BLOCK_SIZE);
+            AtomicReferenceArray<ChunkRepository> existing = blocks.compareAndExchange(blockIndex, null, block);
+            if (existing != null) {
+                block = existing;
+            }
+        }
+
+        // Another thread may create the same repository concurrently, only the one that's published is kept.
+        ChunkRepository created = new ChunkRepository(world, chunk != null ? chunk : new Chunk(chunkX, chunkY));
+        ChunkRepository existing = block.compareAndExchange(index, null, created);
+        if (existing != null) {
+            return existing;
+        }
+        repositories.add(created);
+        return created;
+    }
+
+    /**
+     * Creates a repository for a chunk outside the map's chunk coordinate range.
+     *
+     * @param chunk The chunk.
+     * @return The new repository.
+     */
+    private ChunkRepository create(Chunk chunk) {
+        ChunkRepository repository = new ChunkRepository(world, chunk);
+        repositories.add(repository);
+        return repository;
     }
 
     /**
@@ -118,11 +224,11 @@ public final class ChunkManager implements Iterable<ChunkRepository> {
      * @return A list of repositories surrounding {@code base}'s chunk.
      */
     public List<ChunkRepository> findViewableChunks(Position base) {
-        Chunk chunk = base.getChunk();
-        List<ChunkRepository> viewable = new ArrayList<>(16);
+        int size = VIEWABLE_RADIUS * 2 + 1;
+        List<ChunkRepository> viewable = new ArrayList<>(size * size);
         for (int x = -VIEWABLE_RADIUS; x <= VIEWABLE_RADIUS; x++) {
             for (int y = -VIEWABLE_RADIUS; y <= VIEWABLE_RADIUS; y++) {
-                ChunkRepository repository = load(chunk.translate(x, y));
+                ChunkRepository repository = load(base.getX() + x * Chunk.SIZE, base.getY() + y * Chunk.SIZE);
                 viewable.add(repository);
             }
         }
@@ -139,7 +245,7 @@ public final class ChunkManager implements Iterable<ChunkRepository> {
      * </ul>
      * <p>
      * For chunks remaining in view, only the current tick's queued updates are sent. For chunks newly entering
-     * view, persistent updates are replayed in addition to current tick updates.
+     * view, persistent updates are replayed before the current tick updates.
      * <p>
      * Any chunk that has updates sent is tracked in {@link #updated} so the caller can later invoke
      * {@link #resetUpdatedChunks()} once per tick.
@@ -171,22 +277,19 @@ public final class ChunkManager implements Iterable<ChunkRepository> {
             }
         }
 
-        // Send grouped updates + persistent replays for newly viewable chunks.
+        // Send persistent replays + grouped updates for newly viewable chunks.
         for (ChunkRepository chunk : newChunks) {
-            List<ChunkUpdatableMessage> updates = chunk.getUpdates(player);
 
-            // Replay persistent updates (objects/items/etc.) when the chunk is treated as "new" to the client.
-            for (ChunkUpdatableRequest request : chunk.getPersistentUpdates()) {
-                ChunkUpdatableView view = request.getUpdatable().computeCurrentView();
-                if (view.isViewableFor(player)) {
-                    updates.add(request.getMessage());
-                }
-            }
+            // Replay persistent updates (objects/items/etc.) when the chunk is treated as "new" to the client. Ones
+            // visible to everyone are replayed from the shared encoded state of the chunk.
+            List<ChunkUpdatableMessage> updates = new ArrayList<>();
+            ByteBuf state = chunk.getUpdateCache().collectState(player, chunk.getPersistentUpdates(), updates);
+            updates.addAll(chunk.getUpdates(player));
 
-            if (!updates.isEmpty()) {
+            if (state != null || !updates.isEmpty()) {
                 updated.add(chunk);
                 player.queue(new ClearChunkMessageWriter(player.getLastRegion(), chunk));
-                player.queue(new GroupedEntityMessageWriter(player.getLastRegion(), chunk, updates));
+                player.queue(new GroupedEntityMessageWriter(player.getLastRegion(), chunk, state, updates));
             }
         }
     }
@@ -211,7 +314,7 @@ public final class ChunkManager implements Iterable<ChunkRepository> {
      * @return An unmodifiable collection of all loaded repositories.
      */
     public Collection<ChunkRepository> getAll() {
-        return Collections.unmodifiableCollection(repositories.values());
+        return Collections.unmodifiableCollection(repositories);
     }
 
     /**
@@ -10,6 +10,8 @@ import io.luna.game.model.Position;
 import io.luna.game.model.StationaryEntity;
 import io.luna.game.model.World;
 import io.luna.game.model.collision.CollisionMatrix;
+import io.luna.game.model.collision.CollisionSnapshot;
+import io.luna.game.model.collision.CollisionView;
 import io.luna.game.model.mob.Player;
 import io.luna.game.model.object.GameObject;
 
@@ -46,8 +48,10 @@ import static io.luna.game.model.chunk.Chunk.SIZE;
  * </ul>
  * <p>
  * <b>Collision snapshot:</b>
- * The repository maintains both live matrices ({@link #matrices}) and a volatile snapshot ({@link #snapshot}).
- * Callers may choose the snapshot for safe reads in contexts where the live matrices could be concurrently modified.
+ * The repository maintains both live matrices ({@link #matrices}) and a volatile {@link CollisionSnapshot}
+ * ({@link #snapshot}). Callers may choose the snapshot for safe reads in contexts where the live matrices could be
+ * concurrently modified. Snapshots are copy-on-write: only the planes flagged through
+ * {@link #markCollisionDirty(int)} are copied when a new one is published.
  *
  * @author lare96
  */
@@ -83,6 +87,11 @@ public final class ChunkRepository implements Iterable<Entity> {
      */
     private final List<ChunkUpdatableRequest> temporaryUpdates = new ArrayList<>();
 
+    /**
+     * Caches the encoded form of viewer-independent update messages in this chunk.
+     */
+    private final ChunkUpdateCache updateCache = new ChunkUpdateCache();
+
     /**
      * The set of removed static objects that need always-persisted requests.
      */
@@ -97,16 +106,26 @@ public final class ChunkRepository implements Iterable<Entity> {
     /**
      * Volatile snapshot of {@link #matrices} for safe reads.
      * <p>
-     * Updated by {@link #snapshotCollisionMap()}.
+     * Updated by {@link #snapshotCollisionMap(long, long)}.
      */
-    private volatile CollisionMatrix[] snapshot = CollisionMatrix.createMatrices(
+    private volatile CollisionSnapshot snapshot = CollisionSnapshot.create(
             Position.HEIGHT_LEVELS.upperEndpoint(), SIZE, SIZE);
 
+    /**
+     * A bit mask of the planes in {@link #matrices} that were modified since the last snapshot.
+     */
+    private int dirtyPlanes;
+
     /**
      * True if this chunk has no map data in the cache index table and should be treated as entirely untraversable.
      */
     private final boolean untraversable;
 
+    /**
+     * The bridged tiles of this chunk, one bit per tile for each height level.
+     */
+    private final long[] bridged = new long[Position.HEIGHT_LEVELS.upperEndpoint()];
+
     /**
      * Creates a new {@link ChunkRepository}.
      *
@@ -171,28 +190,103 @@ public final class ChunkRepository implements Iterable<Entity> {
      * @return {@code true} if the tile is traversable.
      */
     public boolean traversable(Position next, EntityType type, Direction direction, boolean safe) {
+        return traversable(next.getX(), next.getY(), next.getZ(), type, direction, safe);
+    }
+
+    /**
+     * Determines whether the tile at {@code x}, {@code y}, {@code z} is traversable for an entity of {@code type}
+     * moving in {@code direction}. Identical to {@link #traversable(Position, EntityType, Direction, boolean)}, but
+     * takes raw coordinates so that callers don't need to create a position.
+     *
+     * @param x The absolute x coordinate of the candidate tile.
+     * @param y The absolute y coordinate of the candidate tile.
+     * @param z The height level of the candidate tile.
+     * @param type The moving entity type.
+     * @param direction The movement direction.
+     * @param safe If {@code true}, read from the snapshot matrix; otherwise, read from the live matrix.
+     * @return {@code true} if the tile is traversable.
+     */
+    public boolean traversable(int x, int y, int z, EntityType type, Direction direction, boolean safe) {
         if (untraversable) {
             return false;
         }
 
-        CollisionMatrix matrix = safe ? snapshot[next.getZ()] : matrices[next.getZ()];
-        int x = next.getX(), y = next.getY();
+        CollisionMatrix matrix = safe ? snapshot.getMatrix(z) : matrices[z];
+        return !matrix.untraversable(x % SIZE, y % SIZE, type, direction);
+    }
+
+    /**
+     * Determines whether {@code next} is traversable using the snapshot that was current at {@code epoch}. This is
+     * used by {@link CollisionView} to read a consistent state across many chunks.
+     *
+     * @param next The candidate tile position (absolute coordinates).
+     * @param type The moving entity type.
+     * @param direction The movement direction.
+     * @param epoch The snapshot epoch to read from.
+     * @return {@code true} if the tile is traversable.
+     */
+    public boolean traversable(Position next, EntityType type, Direction direction, long epoch) {
+        return traversable(next.getX(), next.getY(), next.getZ(), type, direction, epoch);
+    }
+
+    /**
+     * Determines whether the tile at {@code x}, {@code y}, {@code z} is traversable using the snapshot that was
+     * current at {@code epoch}. Identical to {@link #traversable(Position, EntityType, Direction, long)}, but takes
+     * raw coordinates so that callers don't need to create a position.
+     *
+     * @param x The absolute x coordinate of the candidate tile.
+     * @param y The absolute y coordinate of the candidate tile.
+     * @param z The height level of the candidate tile.
+     * @param type The moving entity type.
+     * @param direction The movement direction.
+     * @param epoch The snapshot epoch to read from.
+     * @return {@code true} if the tile is traversable.
+     */
+    public boolean traversable(int x, int y, int z, EntityType type, Direction direction, long epoch) {
+        if (untraversable) {
+            return false;
+        }
 
+        CollisionMatrix matrix = snapshot.resolve(epoch).getMatrix(z);
         return !matrix.untraversable(x % SIZE, y % SIZE, type, direction);
     }
 
     /**
-     * Creates and publishes a deep snapshot of the live collision matrices.
+     * Flags the live matrix for height level {@code plane} as modified, so that it is copied by the next
+     * {@link #snapshotCollisionMap(long, long)}.
+     *
+     * @param plane The modified height level.
+     */
+    public void markCollisionDirty(int plane) {
+        dirtyPlanes |= 1 << plane;
+    }
+
+    /**
+     * @return A bit mask of the height levels modified since the last {@link #snapshotCollisionMap(long, long)}.
+     */
+    public int getDirtyPlanes() {
+        return dirtyPlanes;
+    }
+
+    /**
+     * Publishes a new snapshot of the live collision matrices, if any were modified since the last one.
      * <p>
-     * The snapshot is stored in {@link #snapshot} and can be used for thread safe read-only access via
+     * Only the modified planes are copied, the rest are shared with the previous snapshot. The snapshot is stored in
+     * {@link #snapshot} and can be used for thread safe read-only access via
      * {@link #traversable(Position, EntityType, Direction, boolean)} with {@code safe=true}.
+     *
+     * @param epoch The epoch to publish the snapshot at.
+     * @param retainEpoch The oldest epoch still pinned by a {@link CollisionView}.
+     * @return The amount of planes that were copied.
      */
-    public void snapshotCollisionMap() {
-        CollisionMatrix[] copy = new CollisionMatrix[matrices.length];
-        for (int i = 0; i < matrices.length; i++) {
-            copy[i] = matrices[i].copy();
+    public int snapshotCollisionMap(long epoch, long retainEpoch) {
+        int dirty = dirtyPlanes;
+        if (dirty == 0) {
+            return 0;
         }
-        snapshot = copy;
+        snapshot = snapshot.publish(matrices, dirty, epoch, retainEpoch);
+        dirtyPlanes = 0;
+        return Integer.bitCount(dirty);
     }
 
     /**
@@ -240,7 +334,9 @@ public final class ChunkRepository implements Iterable<Entity> {
      * @param entity The stationary entity whose persistent request should be removed.
      */
     public void removeUpdate(StationaryEntity entity) {
-        persistentUpdates.remove(entity);
+        if (persistentUpdates.remove(entity) != null) {
+            updateCache.invalidateState();
+        }
     }
 
     /**
@@ -252,6 +348,7 @@ public final class ChunkRepository implements Iterable<Entity> {
      *     <li>If the request targets a {@link LocalEntity}, that entity's lifecycle is ended by setting it inactive.</li>
      *     <li>The request is removed from {@link #temporaryUpdates}.</li>
      * </ul>
+     * Messages encoded for this tick are then discarded from the {@link #updateCache}.
      * <p>
      * Discard rule: persistent requests targeting inactive entities are not cached.
      */
@@ -276,6 +373,7 @@ public final class ChunkRepository implements Iterable<Entity> {
                  * a chunk is cleared of entities and rebuilt for a player.
                  */
                 persistentUpdates.put(entity, request);
+                updateCache.invalidateState();
             }
 
             if (request.getUpdatable() instanceof LocalEntity) {
@@ -286,6 +384,7 @@ public final class ChunkRepository implements Iterable<Entity> {
 
             it.remove();
         }
+        updateCache.resetTick();
     }
 
     /**
@@ -361,6 +460,13 @@ public final class ChunkRepository implements Iterable<Entity> {
         return entities;
     }
 
+    /**
+     * @return The cache of encoded update messages in this chunk.
+     */
+    public ChunkUpdateCache getUpdateCache() {
+        return updateCache;
+    }
+
     /**
      * @return The live collision matrices for this chunk.
      */
@@ -369,12 +475,42 @@ public final class ChunkRepository implements Iterable<Entity> {
     }
 
     /**
-     * @return The current collision snapshot matrices.
+     * @return The latest published collision snapshot.
      */
-    public CollisionMatrix[] getSnapshot() {
+    public CollisionSnapshot getSnapshot() {
         return snapshot;
     }
 
+    /**
+     * Marks a tile of this chunk as bridged.
+     *
+     * @param x The absolute x coordinate.
+     * @param y The absolute y coordinate.
+     * @param z The height level.
+     */
+    public void markBridged(int x, int y, int z) {
+        bridged[z] |= 1L << (x % SIZE + y % SIZE * SIZE);
+    }
+
+    /**
+     * Determines if a tile of this chunk is bridged.
+     *
+     * @param x The absolute x coordinate.
+     * @param y The absolute y coordinate.
+     * @param z The height level.
+     * @return {@code true} if the tile is bridged.
+     */
+    public boolean isBridged(int x, int y, int z) {
+        return (bridged[z] & 1L << (x % SIZE + y % SIZE * SIZE)) != 0;
+    }
+
+    /**
+     * @return {@code true} if this chunk has no map data and is entirely untraversable.
+     */
+    public boolean isUntraversable() {
+        return untraversable;
+    }
+
     /**
      * Returns an unmodifiable view of all cached persistent update requests.
      * <p>
@@ -1,7 +1,9 @@
 package io.luna.game.model.chunk;
 
+import io.luna.game.model.mob.Player;
 import io.luna.net.msg.GameMessageWriter;
 import io.luna.net.msg.out.GroupedEntityMessageWriter;
+import io.netty.buffer.ByteBuf;
 
 /**
  * An interface for message types that can be queued through the {@link ChunkUpdatableRequest} system.
@@ -12,4 +14,15 @@ import io.luna.net.msg.out.GroupedEntityMessageWriter;
  * @author lare96
  */
 public interface ChunkUpdatableMessage {
+
+    /**
+     * Determines if the encoded form of this message is the same for every viewer, meaning it ignores the player
+     * passed to {@link GameMessageWriter#write(Player, ByteBuf)}. Viewer-independent messages are encoded once and
+     * shared between all recipients by the {@link ChunkUpdateCache}.
+     *
+     * @return {@code true} if this message is viewer-independent.
+     */
+    default boolean isViewerIndependent() {
+        return false;
+    }
 }
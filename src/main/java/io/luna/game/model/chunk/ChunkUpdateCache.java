@@ -0,0 +1,188 @@
+package io.luna.game.model.chunk;
+
+import com.google.common.collect.Sets;
+import io.luna.game.model.mob.Player;
+import io.luna.net.codec.ByteMessage;
+import io.luna.net.msg.GameMessageWriter;
+import io.luna.net.msg.out.GroupedEntityMessageWriter;
+import io.netty.buffer.ByteBuf;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caches the encoded form of viewer-independent {@link ChunkUpdatableMessage}s for a single {@link ChunkRepository},
+ * so they are encoded once rather than once per viewing player.
+ * <p>
+ * Two caches are maintained:
+ * <ul>
+ *     <li>per-tick encodings of individual messages, cleared by {@link #resetTick()}</li>
+ *     <li>the full persistent state of the chunk, holding every persistent update that is viewer-independent and
+ *     visible to everyone. It is replayed as a single shared buffer when the chunk becomes visible to a player, and
+ *     is only rebuilt after the persistent updates change.</li>
+ * </ul>
+ * Encoded messages are stored as the sub-message opcode followed by its payload, the same form they take inside a
+ * {@link GroupedEntityMessageWriter}. This class is not thread safe, it must only be used on the game thread.
+ *
+ * @author lare96
+ */
+public final class ChunkUpdateCache {
+
+    /**
+     * Encodes {@code msg} into {@code out} as a sub-message, without caching.
+     *
+     * @param player The player the message is encoded for.
+     * @param msg The message to encode.
+     * @param out The buffer to write to.
+     */
+    public static void encode(Player player, ChunkUpdatableMessage msg, ByteMessage out) {
+        GameMessageWriter writer = (GameMessageWriter) msg;
+        ByteBuf pooledBuf = ByteMessage.pooledBuffer();
+        try {
+            ByteMessage buf = writer.write(player, pooledBuf);
+            out.put(buf.getOpcode());
+            out.putBytes(buf);
+        } finally {
+            pooledBuf.release(pooledBuf.refCnt());
+        }
+    }
+
+    /**
+     * Encodes {@code msg} into a new buffer as a sub-message.
+     *
+     * @param player The player the message is encoded for.
+     * @param msg The message to encode.
+     * @return The encoded message.
+     */
+    private static ByteBuf encode(Player player, ChunkUpdatableMessage msg) {
+        ByteBuf encoded = ByteMessage.pooledBuffer();
+        try {
+            encode(player, msg, ByteMessage.wrap(encoded));
+            return encoded;
+        } catch (RuntimeException e) {
+            encoded.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Determines if {@code request} can be part of the shared persistent state.
+     *
+     * @param request The request.
+     * @param view The current view of the request's updatable.
+     * @return {@code true} if the request is shareable.
+     */
+    private static boolean isShareable(ChunkUpdatableRequest request, ChunkUpdatableView view) {
+        return view.isGlobal() && request.getMessage().isViewerIndependent();
+    }
+
+    /**
+     * The encoded viewer-independent messages for this tick.
+     */
+    private final Map<ChunkUpdatableMessage, ByteBuf> encoded = new IdentityHashMap<>();
+
+    /**
+     * The requests included in {@link #state}.
+     */
+    private final Set<ChunkUpdatableRequest> stateRequests = Sets.newIdentityHashSet();
+
+    /**
+     * The encoded shared persistent state, or {@code null} if there is none.
+     */
+    private ByteBuf state;
+
+    /**
+     * If {@link #state} reflects the current persistent updates.
+     */
+    private boolean stateValid;
+
+    /**
+     * Writes {@code msg} into {@code out} as a sub-message. Viewer-independent messages are only encoded the first
+     * time they are written in a tick, and copied from the cache afterwards.
+     *
+     * @param player The player the message is written for.
+     * @param msg The message to write.
+     * @param out The buffer to write to.
+     */
+    public void write(Player player, ChunkUpdatableMessage msg, ByteMessage out) {
+        if (!msg.isViewerIndependent()) {
+            encode(player, msg, out);
+            return;
+        }
+        ByteBuf buf = encoded.get(msg);
+        if (buf == null) {
+            buf = encode(player, msg);
+            encoded.put(msg, buf);
+        }
+        out.putBytes(buf);
+    }
+
+    /**
+     * Collects the persistent updates to replay to {@code player} when this chunk becomes visible to them. Updates
+     * that are part of the shared persistent state are returned as one encoded buffer, and the remaining updates
+     * visible to {@code player} are added to {@code updates}.
+     *
+     * @param player The player.
+     * @param requests The persistent update requests of the chunk.
+     * @param updates The list to add non-shared updates to.
+     * @return The shared persistent state, or {@code null} if there is none. The caller must retain it to keep it.
+     */
+    public ByteBuf collectState(Player player, Collection<ChunkUpdatableRequest> requests,
+                                List<ChunkUpdatableMessage> updates) {
+        int shared = 0;
+        boolean stale = !stateValid;
+        for (ChunkUpdatableRequest request : requests) {
+            ChunkUpdatableView view = request.getUpdatable().computeCurrentView();
+            if (isShareable(request, view)) {
+                shared++;
+                if (!stateRequests.contains(request)) {
+                    stale = true;
+                }
+            } else if (view.isViewableFor(player)) {
+                updates.add(request.getMessage());
+            }
+        }
+
+        // Views can change without the requests changing, so check that the state still matches.
+        if (stale || shared != stateRequests.size()) {
+            invalidateState();
+            stateValid = true;
+            if (shared > 0) {
+                ByteMessage out = ByteMessage.wrap(ByteMessage.pooledBuffer());
+                for (ChunkUpdatableRequest request : requests) {
+                    if (isShareable(request, request.getUpdatable().computeCurrentView())) {
+                        write(player, request.getMessage(), out);
+                        stateRequests.add(request);
+                    }
+                }
+                state = out.getBuffer();
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Discards the shared persistent state. Called whenever the persistent updates of the chunk change.
+     */
+    public void invalidateState() {
+        if (state != null) {
+            state.release();
+            state = null;
+        }
+        stateRequests.clear();
+        stateValid = false;
+    }
+
+    /**
+     * Discards all messages encoded this tick.
+     */
+    public void resetTick() {
+        for (ByteBuf buf : encoded.values()) {
+            buf.release();
+        }
+        encoded.clear();
+    }
+}
@@ -0,0 +1,238 @@
+package io.luna.game.model.collision;
+
+import io.luna.game.cache.Cache;
+import io.luna.game.cache.map.MapObject;
+import io.luna.game.cache.map.MapTileGrid;
+import io.luna.game.model.Position;
+import io.luna.game.model.chunk.Chunk;
+import io.luna.game.model.chunk.ChunkManager;
+import io.luna.game.model.chunk.ChunkRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.logging.log4j.util.Unbox.box;
+
+/**
+ * A precomputed on-disk image of the statically built world collision.
+ * <p>
+ * Building collision from the cache requires walking every {@link MapTileGrid} and applying every static
+ * {@link MapObject}. The result only depends on the cache, so it is written to disk once per cache version and
+ * memory mapped on subsequent starts. The image is tied to the cache by a checksum (see
+ * {@link Cache#computeChecksum()}) and is ignored when stale, in which case the full build runs and the image is
+ * rewritten.
+ * <p>
+ * <b>Layout:</b>
+ * <ul>
+ *     <li>header: magic, format version, cache checksum</li>
+ *     <li>bridged tiles: count, then one packed position per tile</li>
+ *     <li>chunks: count, then one record per non-empty chunk holding its chunk coordinates followed by one
+ *     {@code short} plane per height level, in the same flat order as {@link CollisionMatrix}</li>
+ * </ul>
+ *
+ * @author lare96
+ */
+final class CollisionImage {
+
+    /**
+     * The asynchronous logger.
+     */
+    private static final Logger logger = LogManager.getLogger();
+
+    /**
+     * The default location of the collision image.
+     */
+    static final Path FILE = Paths.get("data", "game", "cache", "collision.dat");
+
+    /**
+     * Identifies a collision image file.
+     */
+    private static final int MAGIC = 0x4C434F4C;
+
+    /**
+     * The format version. Must be bumped whenever the layout or the build logic in {@link CollisionManager} or
+     * {@link CollisionUpdate} changes, so that older images are discarded.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the header in bytes (magic, version, checksum).
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * The amount of height levels stored per chunk.
+     */
+    private static final int PLANES = Position.HEIGHT_LEVELS.upperEndpoint();
+
+    /**
+     * The size of a single chunk record in bytes (chunk coordinates, then every plane).
+     */
+    private static final int RECORD_SIZE = 8 + PLANES * Chunk.SIZE * Chunk.SIZE * Short.BYTES;
+
+    /**
+     * The image file.
+     */
+    private final Path file;
+
+    /**
+     * The checksum of the cache this image belongs to.
+     */
+    private final long checksum;
+
+    /**
+     * Creates a new {@link CollisionImage}.
+     *
+     * @param file The image file.
+     * @param checksum The checksum of the cache this image belongs to.
+     */
+    CollisionImage(Path file, long checksum) {
+        this.file = file;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Attempts to load this image, merging its collision into the live matrices of {@code chunks} and marking its
+     * bridged tiles.
+     * <p>
+     * The image is fully validated before anything is applied, so a {@code false} return value guarantees that
+     * {@code chunks} was not modified.
+     *
+     * @param chunks The chunk manager to load collision into.
+     * @return {@code true} if the image was loaded, {@code false} if it was missing, stale, or corrupt.
+     */
+    boolean load(ChunkManager chunks) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 8) {
+                logger.warn("Collision image is truncated, it will be rebuilt.");
+                return false;
+            }
+
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                logger.info("Collision image format has changed, it will be rebuilt.");
+                return false;
+            }
+            if (buffer.getLong() != checksum) {
+                logger.info("Collision image is stale (cache has changed), it will be rebuilt.");
+                return false;
+            }
+
+            int bridgeCount = buffer.getInt();
+            long chunkCountOffset = HEADER_SIZE + 4 + (long) bridgeCount * Integer.BYTES;
+            if (bridgeCount < 0 || chunkCountOffset + 4 > size) {
+                logger.warn("Collision image is corrupt, it will be rebuilt.");
+                return false;
+            }
+            int chunkCount = buffer.getInt((int) chunkCountOffset);
+            if (chunkCount < 0 || chunkCountOffset + 4 + (long) chunkCount * RECORD_SIZE != size) {
+                logger.warn("Collision image is corrupt, it will be rebuilt.");
+                return false;
+            }
+
+            for (int index = 0; index < bridgeCount; index++) {
+                int packed = buffer.getInt();
+                int x = Position.unpackX(packed);
+                int y = Position.unpackY(packed);
+                chunks.load(x, y).markBridged(x, y, Position.unpackZ(packed));
+            }
+
+            buffer.position((int) chunkCountOffset + 4);
+            for (int index = 0; index < chunkCount; index++) {
+                Chunk chunk = new Chunk(buffer.getInt(), buffer.getInt());
+                ChunkRepository repository = chunks.load(chunk);
+                CollisionMatrix[] matrices = repository.getMatrices();
+                for (int plane = 0; plane < PLANES; plane++) {
+                    matrices[plane].read(buffer.asShortBuffer());
+                    repository.markCollisionDirty(plane);
+                    buffer.position(buffer.position() + Chunk.SIZE * Chunk.SIZE * Short.BYTES);
+                }
+            }
+            logger.info("Loaded collision for {} chunks from the collision image.", box(chunkCount));
+            return true;
+        } catch (IOException e) {
+            logger.warn("Collision image could not be read, it will be rebuilt.", e);
+            return false;
+        }
+    }
+
+    /**
+     * Writes the live matrices and bridged tiles of {@code chunks} to this image. Chunks without any collision are
+     * skipped. The file is written to a temporary location first and then moved into place, so a
+     * partially written image is never observed.
+     *
+     * @param chunks The chunk manager to save collision from.
+     * @throws IOException If the image cannot be written.
+     */
+    void save(ChunkManager chunks) throws IOException {
+        List<ChunkRepository> repositories = new ArrayList<>();
+        List<Integer> bridges = new ArrayList<>();
+        for (ChunkRepository repository : chunks.getAll()) {
+            Chunk chunk = repository.getChunk();
+            for (int plane = 0; plane < PLANES; plane++) {
+                for (int x = chunk.getAbsX(); x < chunk.getAbsX() + Chunk.SIZE; x++) {
+                    for (int y = chunk.getAbsY(); y < chunk.getAbsY() + Chunk.SIZE; y++) {
+                        if (repository.isBridged(x, y, plane)) {
+                            bridges.add(Position.pack(x, y, plane));
+                        }
+                    }
+                }
+            }
+            for (CollisionMatrix matrix : repository.getMatrices()) {
+                if (!matrix.isEmpty()) {
+                    repositories.add(repository);
+                    break;
+                }
+            }
+        }
+
+        int size = HEADER_SIZE + 4 + bridges.size() * Integer.BYTES + 4 + repositories.size() * RECORD_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putLong(checksum);
+
+        buffer.putInt(bridges.size());
+        for (int packed : bridges) {
+            buffer.putInt(packed);
+        }
+
+        buffer.putInt(repositories.size());
+        for (ChunkRepository repository : repositories) {
+            Chunk chunk = repository.getChunk();
+            buffer.putInt(chunk.getX());
+            buffer.putInt(chunk.getY());
+            for (CollisionMatrix matrix : repository.getMatrices()) {
+                matrix.write(buffer.asShortBuffer());
+                buffer.position(buffer.position() + Chunk.SIZE * Chunk.SIZE * Short.BYTES);
+            }
+        }
+        buffer.flip();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Saved collision for {} chunks to the collision image.", box(repositories.size()));
+    }
+}
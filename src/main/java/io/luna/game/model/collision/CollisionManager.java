@@ -1,11 +1,12 @@
 package io.luna.game.model.collision;
 
-import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.Sets;
 import io.luna.LunaContext;
+import io.luna.game.cache.Cache;
 import io.luna.game.cache.map.MapIndex;
 import io.luna.game.cache.map.MapIndexTable;
 import io.luna.game.cache.map.MapObject;
@@ -29,12 +30,19 @@ import io.luna.game.model.object.GameObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiFunction;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -57,23 +65,41 @@ public final class CollisionManager {
     private static final Logger logger = LogManager.getLogger();
 
     /**
-     * Globally blocked tiles keyed by chunk.
-     * <p>
-     * Positions stored here are treated as fully blocked in all directions when collision is built.
+     * The repositories that need their collision snapshots refreshed this tick.
      */
-    private final Multimap<Chunk, Position> blocked = Multimaps.synchronizedMultimap(HashMultimap.create());
+    private final Set<ChunkRepository> pendingSnapshots = new HashSet<>();
 
     /**
-     * Tiles that belong to bridged structures.
-     * <p>
-     * These positions require special height handling when collision is applied or queried.
+     * The views currently pinned to a snapshot epoch.
      */
-    private final Set<Position> bridges = Sets.newConcurrentHashSet();
+    private final Set<CollisionView> pins = Sets.newConcurrentHashSet();
 
     /**
-     * The repositories that need their collision snapshots refreshed this tick.
+     * The epoch of the latest published collision snapshots. Incremented once per tick that publishes, after every
+     * snapshot for that tick has been published.
      */
-    private final Set<ChunkRepository> pendingSnapshots = new HashSet<>();
+    private volatile long epoch;
+
+    /**
+     * The amount of bytes copied by the last call to {@link #handleSnapshots()}.
+     */
+    private volatile long lastBytesCopied;
+
+    /**
+     * The amount of planes published by the last call to {@link #handleSnapshots()}.
+     */
+    private volatile int lastPlanesCopied;
+
+    /**
+     * The total amount of bytes copied into snapshots since startup.
+     */
+    private volatile long totalBytesCopied;
+
+    /**
+     * Whether entity collision updates are skipped. Set while static map objects are registered in bulk, since their
+     * collision is either loaded from a {@link CollisionImage} or applied in parallel by the build.
+     */
+    private boolean skipEntityUpdates;
 
     /**
      * The world that owns this collision manager.
@@ -85,6 +111,16 @@ public final class CollisionManager {
      */
     private final ChunkManager chunks;
 
+    /**
+     * The index of walkable connected components.
+     */
+    private final ReachabilityIndex reachability;
+
+    /**
+     * The graph of chunk border portals, used to route long paths.
+     */
+    private final PortalGraph portals = new PortalGraph();
+
     /**
      * Creates a new {@link CollisionManager}.
      *
@@ -93,80 +129,264 @@ public final class CollisionManager {
     public CollisionManager(World world) {
         this.world = world;
         this.chunks = world.getChunks();
+        reachability = new ReachabilityIndex(chunks);
     }
 
     /**
      * Applies all pending collision snapshot refreshes.
      * <p>
      * Repositories are queued here when live collision is modified through {@link #apply(CollisionUpdate, boolean)}
-     * with {@code building = false}. Each queued repository is snapshot once and then removed from the pending set.
+     * with {@code building = false}. Each queued repository publishes a copy-on-write snapshot of its modified planes
+     * at the next epoch, and then is removed from the pending set. The epoch itself is only advanced after every
+     * snapshot has been published, so a {@link CollisionView} pinned to it never observes a partially published tick.
      */
     public void handleSnapshots() {
-        Iterator<ChunkRepository> it = pendingSnapshots.iterator();
-        while (it.hasNext()) {
-            it.next().snapshotCollisionMap();
-            it.remove();
+        if (pendingSnapshots.isEmpty()) {
+            lastBytesCopied = 0;
+            lastPlanesCopied = 0;
+            return;
+        }
+        publishSnapshots(pendingSnapshots);
+        pendingSnapshots.clear();
+    }
+
+    /**
+     * Publishes snapshots for {@code repositories} at the next epoch, and then advances the epoch.
+     *
+     * @param repositories The repositories to publish snapshots for.
+     */
+    private void publishSnapshots(Collection<ChunkRepository> repositories) {
+        long current = epoch;
+        long next = current + 1;
+        long retain = getRetainEpoch(current);
+        int planes = 0;
+        for (ChunkRepository repository : repositories) {
+            planes += repository.snapshotCollisionMap(next, retain);
+        }
+        epoch = next;
+
+        long bytes = (long) planes * Chunk.SIZE * Chunk.SIZE * Short.BYTES;
+        lastPlanesCopied = planes;
+        lastBytesCopied = bytes;
+        totalBytesCopied += bytes;
+    }
+
+    /**
+     * Determines the oldest epoch that must remain resolvable, which is the oldest epoch any {@link CollisionView} is
+     * pinned to.
+     *
+     * @param current The current epoch.
+     * @return The oldest epoch to retain.
+     */
+    private long getRetainEpoch(long current) {
+        long retain = current;
+        for (CollisionView view : pins) {
+            long pinned = view.getEpoch();
+            if (pinned != CollisionView.UNSET && pinned < retain) {
+                retain = pinned;
+            }
         }
+        return retain;
+    }
+
+    /**
+     * Opens a {@link CollisionView} pinned to the latest published snapshot epoch. Pinning never blocks and never
+     * copies collision data. The returned view must be closed when no longer needed.
+     *
+     * @return The pinned view.
+     */
+    public CollisionView pin() {
+        CollisionView view = new CollisionView(this, chunks);
+        pins.add(view);
+
+        // Publish the pinned epoch before confirming it is still current, so the game thread either sees it or has
+        // not yet advanced past it.
+        long current;
+        do {
+            current = epoch;
+            view.setEpoch(current);
+        } while (current != epoch);
+        return view;
+    }
+
+    /**
+     * Releases a view opened through {@link #pin()}.
+     *
+     * @param view The view to release.
+     */
+    void unpin(CollisionView view) {
+        pins.remove(view);
     }
 
     /**
      * Builds or rebuilds all world collision data.
      * <p>
      * This method optionally clears existing matrices, imports blocked and bridged tile data from the cache, registers
-     * static map objects into the world, applies global blocked tiles as collision, and then snapshots the final
-     * repository state.
+     * static map objects into the world, applies blocked map tiles as collision, and then snapshots the final
+     * repository state. The {@link ReachabilityIndex} is rebuilt from the result.
+     * <p>
+     * When not rebuilding, the statically built collision is first loaded from the {@link CollisionImage} if one
+     * exists for the current cache. Only the static map objects need registering in that case. Otherwise, the full
+     * build runs and its result is written to a new image for the next startup.
      *
      * @param rebuilding {@code true} to reset existing matrices before rebuilding, otherwise {@code false}.
      */
     public void build(boolean rebuilding) {
         if (rebuilding) {
             for (ChunkRepository repository : chunks.getAll()) {
-                for (CollisionMatrix matrix : repository.getMatrices()) {
-                    matrix.reset();
+                CollisionMatrix[] matrices = repository.getMatrices();
+                for (int plane = 0; plane < matrices.length; plane++) {
+                    matrices[plane].reset();
+                    repository.markCollisionDirty(plane);
                 }
             }
         }
 
-        // Tile collision and map objects (water, borders, bridges, map features).
         LunaContext context = world.getContext();
         MapIndexTable table = context.getCache().getMapIndexTable();
+        CollisionImage image = rebuilding ? null : openImage(context.getCache());
+        if (image != null && image.load(chunks)) {
+            // Collision for static map objects is already part of the image.
+            registerStaticObjects(context, table);
+        } else {
+            buildFromCache(context, table);
+            if (image != null) {
+                try {
+                    image.save(chunks);
+                } catch (IOException e) {
+                    logger.warn("Collision image could not be saved.", e);
+                }
+            }
+        }
+
+        // Snapshot final built state.
+        publishSnapshots(chunks.getAll());
+        pendingSnapshots.clear();
+        reachability.build(table.getIndexTable().keySet());
+    }
+
+    /**
+     * Builds collision directly from the decoded cache data.
+     * <p>
+     * Static map objects are registered on the calling thread, then the build is sharded by region across a
+     * fork-join pool. Each region task imports its blocked and bridged tiles and builds the collision for its objects
+     * and blocked tiles, and the results are applied through {@link #applyParallel(List, ForkJoinPool)}.
+     *
+     * @param context The context instance.
+     * @param table The decoded map index table.
+     */
+    private void buildFromCache(LunaContext context, MapIndexTable table) {
+        Map<Region, List<GameObject>> objects = registerStaticObjects(context, table);
+        Map<Region, MapTileGrid> grids = new LinkedHashMap<>();
         for (Map.Entry<MapIndex, MapTileGrid> entry : table.getTileSet()) {
-            entry.getValue().forEach(tile -> {
-                Region region = entry.getKey().getRegion();
+            grids.put(entry.getKey().getRegion(), entry.getValue());
+        }
+        Set<Region> regions = new LinkedHashSet<>(grids.keySet());
+        regions.addAll(objects.keySet());
+
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            List<ForkJoinTask<CollisionUpdate>> tasks = new ArrayList<>(regions.size());
+            for (Region region : regions) {
+                MapTileGrid grid = grids.get(region);
+                List<GameObject> regionObjects = objects.getOrDefault(region, List.of());
+                tasks.add(pool.submit(() -> buildRegion(region, grid, regionObjects)));
+            }
+
+            List<CollisionUpdate> updates = new ArrayList<>(tasks.size());
+            for (ForkJoinTask<CollisionUpdate> task : tasks) {
+                updates.add(task.join());
+            }
+            applyParallel(updates, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Builds the static collision for a single region. Imports the blocked and bridged tiles of {@code grid}, then
+     * adds the collision of {@code objects} and of every blocked tile.
+     * <p>
+     * This is safe to run concurrently for different regions: blocked and bridged tiles of a region only ever affect
+     * the height adjustment of tiles within that same region.
+     *
+     * @param region The region.
+     * @param grid The tile grid of the region, or {@code null} if it has none.
+     * @param objects The static objects registered within the region.
+     * @return The collision update for the region.
+     */
+    private CollisionUpdate buildRegion(Region region, MapTileGrid grid, List<GameObject> objects) {
+        // Tile collision (water, borders, bridges, map features).
+        List<Position> blockedTiles = new ArrayList<>();
+        if (grid != null) {
+            grid.forEach(tile -> {
                 if (tile.isBlocked()) {
-                    block(tile.getAbsPosition(region));
+                    blockedTiles.add(tile.getAbsPosition(region));
                 } else if (tile.isBridge()) {
                     markBridged(tile.getAbsPosition(region));
                 }
             });
         }
 
-        for (MapObject mapObject : table.getObjectSet().getObjects()) {
-            world.getObjects().register(mapObject.toGameObject(context));
+        CollisionUpdate.Builder builder = new CollisionUpdate.Builder();
+        builder.type(CollisionUpdateType.ADDING);
+        for (GameObject object : objects) {
+            builder.object(object);
         }
 
-        // Apply global blocked tiles.
-        CollisionUpdate.Builder tiles = new CollisionUpdate.Builder();
-        tiles.type(CollisionUpdateType.ADDING);
-        for (Position position : blocked.values()) {
+        // Apply blocked tiles.
+        for (Position position : blockedTiles) {
             int x = position.getX();
             int y = position.getY();
             int height = position.getZ();
 
             // Handle bridged tiles by dropping one level when needed.
-            if (bridges.contains(new Position(x, y, 1))) {
+            if (isBridged(x, y)) {
                 height--;
             }
 
             if (height >= 0) {
-                tiles.tile(new Position(x, y, height), false, Direction.NESW);
+                builder.tile(new Position(x, y, height), false, Direction.NESW);
             }
         }
-        apply(tiles.build(), true);
+        return builder.build();
+    }
 
-        // Snapshot final built state.
-        for (ChunkRepository repository : chunks.getAll()) {
-            repository.snapshotCollisionMap();
+    /**
+     * Registers every static map object into the world without applying its collision.
+     *
+     * @param context The context instance.
+     * @param table The decoded map index table.
+     * @return The successfully registered objects, grouped by region.
+     */
+    private Map<Region, List<GameObject>> registerStaticObjects(LunaContext context, MapIndexTable table) {
+        Map<Region, List<GameObject>> registered = new HashMap<>();
+        skipEntityUpdates = true;
+        try {
+            for (MapObject mapObject : table.getObjectSet().getObjects()) {
+                GameObject object = mapObject.toGameObject(context);
+                if (world.getObjects().register(object)) {
+                    registered.computeIfAbsent(object.getPosition().getRegion(), key -> new ArrayList<>()).add(object);
+                }
+            }
+        } finally {
+            skipEntityUpdates = false;
+        }
+        return registered;
+    }
+
+    /**
+     * Opens the {@link CollisionImage} for the current cache.
+     *
+     * @param cache The cache the image is tied to.
+     * @return The collision image, or {@code null} if the cache checksum could not be computed.
+     */
+    private CollisionImage openImage(Cache cache) {
+        try {
+            return new CollisionImage(CollisionImage.FILE, cache.computeChecksum());
+        } catch (IOException e) {
+            logger.warn("Cache checksum could not be computed, collision image will not be used.", e);
+            return null;
         }
     }
 
@@ -180,7 +400,7 @@ public final class CollisionManager {
      * @param removal {@code true} to remove collision, {@code false} to add it.
      */
     public void updateEntity(Entity entity, boolean removal) {
-        if (entity.getType() == EntityType.PLAYER) {
+        if (entity.getType() == EntityType.PLAYER || skipEntityUpdates) {
             return;
         }
 
@@ -203,7 +423,7 @@ public final class CollisionManager {
      * <p>
      * Each flagged tile in the update is translated into one or more {@link CollisionFlag}s on the appropriate
      * {@link CollisionMatrix}, with bridge height adjustments applied where necessary. When the world is live, the
-     * modified repositories are queued for snapshot refresh.
+     * modified repositories are queued for snapshot refresh and relabelled in the {@link ReachabilityIndex}.
      *
      * @param update The collision update to apply.
      * @param building {@code true} if this update is part of the initial build process, otherwise {@code false}.
@@ -216,47 +436,126 @@ public final class CollisionManager {
         Set<ChunkRepository> snapshots = new HashSet<>();
 
         for (Map.Entry<Position, Collection<DirectionFlag>> entry : map.entrySet()) {
-            Position position = entry.getKey();
-            Chunk chunk = position.getChunk();
-
-            int height = position.getZ();
-            // Adjust for bridges: some tiles are effectively one level lower.
-            if (bridges.contains(new Position(position.getX(), position.getY(), 1))) {
-                if (--height < 0) {
-                    continue;
-                }
+            ChunkRepository repository = applyTile(type, entry.getKey(), entry.getValue(), prev);
+            if (repository != null) {
+                prev = repository;
+                snapshots.add(repository);
             }
+        }
 
-            if (prev == null || !prev.getChunk().equals(chunk)) {
-                prev = chunks.load(position);
-            }
+        if (!building) {
+            // Server is live: refresh snapshots only for the repositories that were modified.
+            pendingSnapshots.addAll(snapshots);
+            reachability.update(snapshots);
+        }
+    }
 
-            int localX = position.getX() % Chunk.SIZE;
-            int localY = position.getY() % Chunk.SIZE;
+    /**
+     * Applies many {@link CollisionUpdate}s during the build, sharded by region across {@code pool}.
+     * <p>
+     * Walls and corners flag tiles in neighbouring chunks, which may belong to a neighbouring region. Each update is
+     * therefore first partitioned by the region of every flagged tile, and the partitions are merged in update
+     * order. Every region is then applied by exactly one task, so no {@link CollisionMatrix} is ever modified by two
+     * threads. The result is identical to applying every update in order through
+     * {@link #apply(CollisionUpdate, boolean)} with {@code building = true}.
+     *
+     * @param updates The updates to apply. All updates must be of the same type.
+     * @param pool The pool to apply the updates on.
+     * @throws IllegalArgumentException If the updates are not all of the same type.
+     */
+    void applyParallel(List<CollisionUpdate> updates, ForkJoinPool pool) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        CollisionUpdateType type = updates.get(0).getType();
+
+        // Partition each update by the region of its flagged tiles.
+        List<ForkJoinTask<ListMultimap<Region, Map.Entry<Position, Collection<DirectionFlag>>>>> partitions =
+                new ArrayList<>(updates.size());
+        for (CollisionUpdate update : updates) {
+            checkArgument(update.getType() == type, "All updates must be of the same type.");
+            partitions.add(pool.submit(() -> {
+                ListMultimap<Region, Map.Entry<Position, Collection<DirectionFlag>>> partition =
+                        ArrayListMultimap.create();
+                for (Map.Entry<Position, Collection<DirectionFlag>> entry : update.getFlags().asMap().entrySet()) {
+                    partition.put(entry.getKey().getRegion(), entry);
+                }
+                return partition;
+            }));
+        }
 
-            CollisionMatrix matrix = prev.getMatrices()[height];
-            ImmutableList<CollisionFlag> mobs = CollisionFlag.MOBS;
-            ImmutableList<CollisionFlag> projectiles = CollisionFlag.PROJECTILES;
+        // Merge partitions deterministically, in update order.
+        ListMultimap<Region, Map.Entry<Position, Collection<DirectionFlag>>> merged =
+                MultimapBuilder.linkedHashKeys().arrayListValues().build();
+        for (ForkJoinTask<ListMultimap<Region, Map.Entry<Position, Collection<DirectionFlag>>>> partition : partitions) {
+            merged.putAll(partition.join());
+        }
 
-            for (DirectionFlag flag : entry.getValue()) {
-                Direction direction = flag.getDirection();
-                if (direction == Direction.NONE) {
-                    continue;
+        // Apply each region on its own task.
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(merged.keySet().size());
+        for (Collection<Map.Entry<Position, Collection<DirectionFlag>>> entries : merged.asMap().values()) {
+            tasks.add(pool.submit(() -> {
+                ChunkRepository prev = null;
+                for (Map.Entry<Position, Collection<DirectionFlag>> entry : entries) {
+                    ChunkRepository repository = applyTile(type, entry.getKey(), entry.getValue(), prev);
+                    if (repository != null) {
+                        prev = repository;
+                    }
                 }
+            }));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
 
-                int orientation = direction.getId();
-                if (flag.isImpenetrable()) {
-                    flag(type, matrix, localX, localY, projectiles.get(orientation));
-                }
-                flag(type, matrix, localX, localY, mobs.get(orientation));
+    /**
+     * Applies the direction flags of a single tile to its {@link CollisionMatrix}.
+     *
+     * @param type The update type.
+     * @param position The tile position.
+     * @param flags The direction flags for the tile.
+     * @param prev The repository used for the previous tile, or {@code null}. Reused when the chunk is the same.
+     * @return The repository that was modified, or {@code null} if the tile was skipped due to bridge adjustment.
+     */
+    private ChunkRepository applyTile(CollisionUpdateType type,
+                                      Position position,
+                                      Collection<DirectionFlag> flags,
+                                      ChunkRepository prev) {
+        int height = position.getZ();
+        ChunkRepository repository = prev;
+        if (repository == null || !contains(repository.getChunk(), position.getX(), position.getY())) {
+            repository = chunks.load(position);
+        }
+
+        // Adjust for bridges: some tiles are effectively one level lower.
+        if (repository.isBridged(position.getX(), position.getY(), 1)) {
+            if (--height < 0) {
+                return null;
             }
-            snapshots.add(prev);
         }
 
-        if (!building) {
-            // Server is live: refresh snapshots only for the repositories that were modified.
-            pendingSnapshots.addAll(snapshots);
+        int localX = position.getX() % Chunk.SIZE;
+        int localY = position.getY() % Chunk.SIZE;
+
+        CollisionMatrix matrix = repository.getMatrices()[height];
+        repository.markCollisionDirty(height);
+        ImmutableList<CollisionFlag> mobs = CollisionFlag.MOBS;
+        ImmutableList<CollisionFlag> projectiles = CollisionFlag.PROJECTILES;
+
+        for (DirectionFlag flag : flags) {
+            Direction direction = flag.getDirection();
+            if (direction == Direction.NONE) {
+                continue;
+            }
+
+            int orientation = direction.getId();
+            if (flag.isImpenetrable()) {
+                flag(type, matrix, localX, localY, projectiles.get(orientation));
+            }
+            flag(type, matrix, localX, localY, mobs.get(orientation));
         }
+        return repository;
     }
 
     /**
@@ -418,17 +717,6 @@ public final class CollisionManager {
         }
     }
 
-    /**
-     * Marks {@code position} as globally blocked.
-     * <p>
-     * Blocked positions are applied as fully blocked tiles during {@link #build(boolean)}.
-     *
-     * @param position The tile to block.
-     */
-    public void block(Position position) {
-        blocked.put(position.getChunk(), position);
-    }
-
     /**
      * Marks {@code position} as bridged.
      * <p>
@@ -438,7 +726,19 @@ public final class CollisionManager {
      * @param position The bridged position.
      */
     public void markBridged(Position position) {
-        bridges.add(position);
+        chunks.load(position).markBridged(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Determines if the tile at {@code x}, {@code y} on height level {@code 1} is bridged, which drops collision on
+     * that tile one level lower.
+     *
+     * @param x The absolute x coordinate.
+     * @param y The absolute y coordinate.
+     * @return {@code true} if the tile is bridged.
+     */
+    private boolean isBridged(int x, int y) {
+        return chunks.load(x, y).isBridged(x, y, 1);
     }
 
     /**
@@ -457,25 +757,41 @@ public final class CollisionManager {
                                EntityType type,
                                Direction direction,
                                boolean safe) {
+        return traversable(position.getX(), position.getY(), position.getZ(), type, direction, safe);
+    }
 
-        Position next = position.translate(1, direction);
-        ChunkRepository repository = chunks.load(next);
+    /**
+     * Returns whether an entity of {@code type} may move one step from the tile at {@code x}, {@code y}, {@code z}
+     * in {@code direction}. Identical to {@link #traversable(Position, EntityType, Direction, boolean)}, but takes raw
+     * coordinates and creates no positions, for callers that check many steps.
+     *
+     * @param x The absolute x coordinate of the starting tile.
+     * @param y The absolute y coordinate of the starting tile.
+     * @param z The height level.
+     * @param type The entity type attempting the move.
+     * @param direction The direction being attempted.
+     * @param safe {@code true} to use snapshot matrices, otherwise {@code false} to use live matrices.
+     * @return {@code true} if the move is traversable, otherwise {@code false}.
+     */
+    public boolean traversable(int x, int y, int z, EntityType type, Direction direction, boolean safe) {
+        int nextX = x + direction.getTranslateX();
+        int nextY = y + direction.getTranslateY();
+        ChunkRepository repository = chunks.load(nextX, nextY);
 
-        if (!repository.traversable(next, type, direction, safe)) {
+        if (!repository.traversable(nextX, nextY, z, type, direction, safe)) {
             return false;
         }
 
         // For diagonals, both orthogonal components must also be traversable.
         if (direction.isDiagonal()) {
             for (Direction component : Direction.diagonalComponents(direction)) {
-                next = position.translate(1, component);
-
-                Chunk nextChunk = next.getChunk();
-                if (!repository.getChunk().equals(nextChunk)) {
-                    repository = chunks.load(nextChunk);
+                nextX = x + component.getTranslateX();
+                nextY = y + component.getTranslateY();
+                if (!contains(repository.getChunk(), nextX, nextY)) {
+                    repository = chunks.load(nextX, nextY);
                 }
 
-                if (!repository.traversable(next, type, component, safe)) {
+                if (!repository.traversable(nextX, nextY, z, type, component, safe)) {
                     return false;
                 }
             }
@@ -483,6 +799,20 @@ public final class CollisionManager {
         return true;
     }
 
+    /**
+     * Determines if the tile at {@code x}, {@code y} is within {@code chunk}.
+     *
+     * @param chunk The chunk.
+     * @param x The absolute x coordinate.
+     * @param y The absolute y coordinate.
+     * @return {@code true} if the tile is within the chunk.
+     */
+    static boolean contains(Chunk chunk, int x, int y) {
+        int deltaX = x - chunk.getAbsX();
+        int deltaY = y - chunk.getAbsY();
+        return deltaX >= 0 && deltaY >= 0 && deltaX < Chunk.SIZE && deltaY < Chunk.SIZE;
+    }
+
     /**
      * Convenience overload of {@link #traversable(Position, EntityType, Direction, boolean)} that uses live matrices.
      *
@@ -505,7 +835,7 @@ public final class CollisionManager {
     public boolean isBlocked(Position position, boolean safe) {
         int z = position.getZ();
         ChunkRepository chunk = world.getChunks().load(position);
-        CollisionMatrix collisionData = safe ? chunk.getSnapshot()[z] : chunk.getMatrices()[z];
+        CollisionMatrix collisionData = safe ? chunk.getSnapshot().getMatrix(z) : chunk.getMatrices()[z];
         if (collisionData == null) {
             return true;
         }
@@ -670,4 +1000,53 @@ public final class CollisionManager {
 
         return Math.max(dx, dy) <= distance;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return The index of walkable connected components.
+     */
+    public ReachabilityIndex getReachability() {
+        return reachability;
+    }
+
+    /**
+     * @return The graph of chunk border portals, used to route long paths.
+     */
+    public PortalGraph getPortalGraph() {
+        return portals;
+    }
+
+    /**
+     * @return The epoch of the latest published collision snapshots.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * @return The amount of bytes copied into snapshots on the last tick.
+     */
+    public long getLastBytesCopied() {
+        return lastBytesCopied;
+    }
+
+    /**
+     * @return The amount of planes copied into snapshots on the last tick.
+     */
+    public int getLastPlanesCopied() {
+        return lastPlanesCopied;
+    }
+
+    /**
+     * @return The total amount of bytes copied into snapshots since startup.
+     */
+    public long getTotalBytesCopied() {
+        return totalBytesCopied;
+    }
+
+    /**
+     * @return The amount of currently pinned {@link CollisionView}s.
+     */
+    public int getPinnedViews() {
+        return pins.size();
+    }
+}
@@ -14,6 +14,7 @@ import io.luna.game.model.object.GameObject;
 import io.luna.game.model.object.ObjectDirection;
 import io.luna.game.model.object.ObjectType;
 
+import java.nio.ShortBuffer;
 import java.util.Arrays;
 import java.util.OptionalInt;
 
@@ -202,6 +203,18 @@ public final class CollisionMatrix {
         return matrix[indexOf(x, y)] & 0xFFFF;
     }
 
+    /**
+     * Retrieves the packed collision value for the tile at (x, y), without the bounds checks of {@link #get(int, int)}.
+     * Only for hot loops that already keep their coordinates in range.
+     *
+     * @param x The local X coordinate.
+     * @param y The local Y coordinate.
+     * @return The packed 16-bit collision value for that tile.
+     */
+    int getUnchecked(int x, int y) {
+        return matrix[y * width + x] & 0xFFFF;
+    }
+
     /**
      * Retrieves the packed collision value for the tile at the given absolute position.
      * <p>
@@ -607,4 +620,39 @@ public final class CollisionMatrix {
     public CollisionMatrix copy() {
         return new CollisionMatrix(width, length, Arrays.copyOf(matrix, matrix.length));
     }
+
+    /**
+     * Merges (ORs) packed flags from {@code buffer} into this matrix. Values are read in the same flat order as the
+     * underlying array, advancing the buffer by {@code width * length} values.
+     *
+     * @param buffer The buffer to read packed flags from.
+     */
+    void read(ShortBuffer buffer) {
+        for (int index = 0; index < matrix.length; index++) {
+            matrix[index] |= buffer.get();
+        }
+    }
+
+    /**
+     * Writes the packed flags of this matrix into {@code buffer}, in the same flat order as the underlying array.
+     *
+     * @param buffer The buffer to write packed flags to.
+     */
+    void write(ShortBuffer buffer) {
+        buffer.put(matrix);
+    }
+
+    /**
+     * Returns whether every tile in this matrix is fully open.
+     *
+     * @return {@code true} if no collision flags are set, otherwise {@code false}.
+     */
+    boolean isEmpty() {
+        for (short value : matrix) {
+            if (value != ALL_ALLOWED) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,131 @@
+package io.luna.game.model.collision;
+
+import io.luna.game.model.chunk.ChunkRepository;
+
+/**
+ * An immutable, epoch-versioned copy of the collision planes of a single chunk.
+ * <p>
+ * Snapshots form a copy-on-write chain owned by a {@link ChunkRepository}. Each time the repository's live matrices
+ * change, the game thread publishes a new snapshot through {@link #publish(CollisionMatrix[], int, long, long)}:
+ * only the modified planes are copied, and unchanged planes are shared with the previous snapshot. Snapshots are
+ * never modified after publication, so sharing planes between them is safe.
+ * <p>
+ * Each snapshot links to the one it replaced, so that readers pinned to an older epoch through a
+ * {@link CollisionView} can still resolve the planes that were current at that epoch. Links that no pinned reader
+ * can reach anymore are dropped on the next publish.
+ *
+ * @author lare96
+ */
+public final class CollisionSnapshot {
+
+    /**
+     * The epoch used to resolve the latest published snapshot.
+     */
+    public static final long LATEST = Long.MAX_VALUE;
+
+    /**
+     * Creates the initial snapshot of a chunk, where every plane is fully open.
+     *
+     * @param count The amount of planes.
+     * @param width The width (X dimension) of each plane.
+     * @param length The length (Y dimension) of each plane.
+     * @return The initial snapshot, at epoch {@code 0}.
+     */
+    public static CollisionSnapshot create(int count, int width, int length) {
+        return new CollisionSnapshot(0, CollisionMatrix.createMatrices(count, width, length), null);
+    }
+
+    /**
+     * The epoch this snapshot was published at.
+     */
+    private final long epoch;
+
+    /**
+     * The immutable planes of this snapshot, one per height level.
+     */
+    private final CollisionMatrix[] planes;
+
+    /**
+     * The snapshot this one replaced, or {@code null} if it is no longer reachable by any pinned reader.
+     */
+    private volatile CollisionSnapshot previous;
+
+    /**
+     * Creates a new {@link CollisionSnapshot}.
+     *
+     * @param epoch The epoch this snapshot was published at.
+     * @param planes The immutable planes of this snapshot.
+     * @param previous The snapshot this one replaced.
+     */
+    private CollisionSnapshot(long epoch, CollisionMatrix[] planes, CollisionSnapshot previous) {
+        this.epoch = epoch;
+        this.planes = planes;
+        this.previous = previous;
+    }
+
+    /**
+     * Publishes a new snapshot that replaces this one. Only the planes flagged in {@code dirtyPlanes} are copied
+     * from {@code live}, the rest are shared with this snapshot.
+     * <p>
+     * Older snapshots in the chain that are no longer needed to resolve {@code retainEpoch} (the oldest epoch any
+     * reader is pinned to) are unlinked so they can be collected.
+     *
+     * @param live The live matrices to copy modified planes from.
+     * @param dirtyPlanes A bit mask of the modified planes.
+     * @param epoch The epoch to publish the new snapshot at.
+     * @param retainEpoch The oldest epoch that must remain resolvable.
+     * @return The new snapshot.
+     */
+    public CollisionSnapshot publish(CollisionMatrix[] live, int dirtyPlanes, long epoch, long retainEpoch) {
+        CollisionMatrix[] copy = planes.clone();
+        for (int plane = 0; plane < copy.length; plane++) {
+            if ((dirtyPlanes & (1 << plane)) != 0) {
+                copy[plane] = live[plane].copy();
+            }
+        }
+
+        // The first snapshot at or before the retained epoch is the oldest one a pinned reader can still need.
+        for (CollisionSnapshot node = this; node != null; node = node.previous) {
+            if (node.epoch <= retainEpoch) {
+                node.previous = null;
+                break;
+            }
+        }
+        return new CollisionSnapshot(epoch, copy, this);
+    }
+
+    /**
+     * Resolves the snapshot that was current at {@code epoch}, by walking back from this snapshot.
+     *
+     * @param epoch The epoch to resolve. Use {@link #LATEST} for this snapshot.
+     * @return The snapshot current at {@code epoch}, or the oldest retained one if it is no longer available.
+     */
+    public CollisionSnapshot resolve(long epoch) {
+        CollisionSnapshot node = this;
+        while (node.epoch > epoch) {
+            CollisionSnapshot next = node.previous;
+            if (next == null) {
+                break;
+            }
+            node = next;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the immutable plane for height level {@code plane}.
+     *
+     * @param plane The height level.
+     * @return The plane.
+     */
+    public CollisionMatrix getMatrix(int plane) {
+        return planes[plane];
+    }
+
+    /**
+     * @return The epoch this snapshot was published at.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+}
@@ -0,0 +1,158 @@
+package io.luna.game.model.collision;
+
+import io.luna.game.model.Direction;
+import io.luna.game.model.EntityType;
+import io.luna.game.model.Position;
+import io.luna.game.model.chunk.Chunk;
+import io.luna.game.model.chunk.ChunkManager;
+import io.luna.game.model.chunk.ChunkRepository;
+
+/**
+ * A read-only view of world collision pinned to a single snapshot epoch.
+ * <p>
+ * Every chunk read through a view resolves the {@link CollisionSnapshot} that was current when the view was opened,
+ * so long running readers such as pathfinders observe one consistent state across all chunks, even while the game
+ * thread publishes newer snapshots. Pinning copies nothing; it only prevents the snapshots at the pinned epoch from
+ * being unlinked. Views must be closed once the reader is done, preferably with try-with-resources.
+ *
+ * @author lare96
+ */
+public final class CollisionView implements AutoCloseable {
+
+    /**
+     * The epoch value of a view that has been registered but not yet assigned an epoch.
+     */
+    static final long UNSET = -1;
+
+    /**
+     * The collision manager that issued this view.
+     */
+    private final CollisionManager manager;
+
+    /**
+     * The chunk manager used to load repositories.
+     */
+    private final ChunkManager chunks;
+
+    /**
+     * The pinned epoch.
+     */
+    private volatile long epoch = UNSET;
+
+    /**
+     * Creates a new {@link CollisionView}.
+     *
+     * @param manager The collision manager that issued this view.
+     * @param chunks The chunk manager used to load repositories.
+     */
+    CollisionView(CollisionManager manager, ChunkManager chunks) {
+        this.manager = manager;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Returns whether an entity of {@code type} may move one step from {@code position} in {@code direction}, as of
+     * the pinned epoch. Diagonal movement checks both orthogonal components, identical to
+     * {@link CollisionManager#traversable(Position, EntityType, Direction, boolean)}.
+     *
+     * @param position The starting position.
+     * @param type The entity type attempting the move.
+     * @param direction The direction being attempted.
+     * @return {@code true} if the move is traversable, otherwise {@code false}.
+     */
+    public boolean traversable(Position position, EntityType type, Direction direction) {
+        return traversable(position.getX(), position.getY(), position.getZ(), type, direction);
+    }
+
+    /**
+     * Returns whether an entity of {@code type} may move one step from the tile at {@code x}, {@code y}, {@code z}
+     * in {@code direction}, as of the pinned epoch. Identical to
+     * {@link #traversable(Position, EntityType, Direction)}, but takes raw coordinates and creates no positions.
+     *
+     * @param x The absolute x coordinate of the starting tile.
+     * @param y The absolute y coordinate of the starting tile.
+     * @param z The height level.
+     * @param type The entity type attempting the move.
+     * @param direction The direction being attempted.
+     * @return {@code true} if the move is traversable, otherwise {@code false}.
+     */
+    public boolean traversable(int x, int y, int z, EntityType type, Direction direction) {
+        int nextX = x + direction.getTranslateX();
+        int nextY = y + direction.getTranslateY();
+        ChunkRepository repository = chunks.load(nextX, nextY);
+
+        if (!repository.traversable(nextX, nextY, z, type, direction, epoch)) {
+            return false;
+        }
+
+        // For diagonals, both orthogonal components must also be traversable.
+        if (direction.isDiagonal()) {
+            for (Direction component : Direction.diagonalComponents(direction)) {
+                nextX = x + component.getTranslateX();
+                nextY = y + component.getTranslateY();
+                if (!CollisionManager.contains(repository.getChunk(), nextX, nextY)) {
+                    repository = chunks.load(nextX, nextY);
+                }
+
+                if (!repository.traversable(nextX, nextY, z, type, component, epoch)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether {@code position} is blocked for player movement, as of the pinned epoch.
+     *
+     * @param position The tile to test.
+     * @return {@code true} if the tile is blocked, otherwise {@code false}.
+     */
+    public boolean isBlocked(Position position) {
+        CollisionMatrix matrix = chunks.load(position).getSnapshot().resolve(epoch).getMatrix(position.getZ());
+        int localX = position.getX() % Chunk.SIZE;
+        int localY = position.getY() % Chunk.SIZE;
+        return matrix.isBlocked(localX, localY, EntityType.PROJECTILE) &&
+                matrix.isBlocked(localX, localY, EntityType.PLAYER);
+    }
+
+    /**
+     * Returns the matrix of the chunk plane containing a tile, as of the pinned epoch.
+     *
+     * @param x The absolute x coordinate of the tile.
+     * @param y The absolute y coordinate of the tile.
+     * @param plane The height level.
+     * @return The matrix, or {@code null} if the chunk has no map data.
+     */
+    CollisionMatrix getMatrix(int x, int y, int plane) {
+        ChunkRepository repository = chunks.load(x, y);
+        if (repository.isUntraversable()) {
+            return null;
+        }
+        return repository.getSnapshot().resolve(epoch).getMatrix(plane);
+    }
+
+    /**
+     * Releases this view, allowing the snapshots at its epoch to be unlinked.
+     */
+    @Override
+    public void close() {
+        manager.unpin(this);
+    }
+
+    /**
+     * Sets the pinned epoch.
+     *
+     * @param epoch The new value.
+     */
+    void setEpoch(long epoch) {
+        this.epoch = epoch;
+    }
+
+    /**
+     * @return The pinned epoch.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+}
@@ -0,0 +1,565 @@
+package io.luna.game.model.collision;
+
+import io.luna.game.model.Direction;
+import io.luna.game.model.Position;
+import io.luna.game.model.chunk.Chunk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An abstract graph over chunk borders, used to route paths across large parts of the map without searching every
+ * tile in between.
+ * <p>
+ * Every chunk plane is a cluster. Wherever a run of tiles along the edge shared by two chunks can be crossed in both
+ * directions, one or two tile pairs of the run become portals: a portal on each side, joined by a single step.
+ * Portals of the same cluster are joined by their shortest distance within it. A route is found with an A* search
+ * over portals alone, and is then refined into tiles one segment at a time, by walking back along the distances of
+ * the cluster the segment lies in.
+ * <p>
+ * Clusters are built lazily and cached. Each one remembers the snapshot matrices it was built from, which are never
+ * modified after publication, and is rebuilt as soon as its own chunk or a neighbouring one publishes a new snapshot.
+ * Routes are always resolved through a {@link CollisionView}, so they observe one consistent collision state.
+ *
+ * @author lare96
+ */
+public final class PortalGraph {
+
+    /**
+     * A single chunk plane, and its portals.
+     */
+    private static final class Cluster {
+
+        /**
+         * The matrices this cluster was built from. Its own comes first, followed by its neighbours in
+         * {@link Direction#NESW} order.
+         */
+        private final CollisionMatrix[] sources;
+
+        /**
+         * The local tile of every portal.
+         */
+        private final int[] tiles;
+
+        /**
+         * The side of every portal, facing its partner in the neighbouring cluster.
+         */
+        private final Direction[] sides;
+
+        /**
+         * The distance from every portal to every tile of this cluster.
+         */
+        private final byte[][] distances;
+
+        /**
+         * Creates a new {@link Cluster}.
+         *
+         * @param sources The matrices this cluster was built from.
+         * @param tiles The local tile of every portal.
+         * @param sides The side of every portal.
+         * @param distances The distance from every portal to every tile.
+         */
+        private Cluster(CollisionMatrix[] sources, int[] tiles, Direction[] sides, byte[][] distances) {
+            this.sources = sources;
+            this.tiles = tiles;
+            this.sides = sides;
+            this.distances = distances;
+        }
+
+        /**
+         * Determines if this cluster was built from exactly {@code matrices}.
+         *
+         * @param matrices The current matrices.
+         * @return {@code true} if this cluster is still valid.
+         */
+        private boolean isBuiltFrom(CollisionMatrix[] matrices) {
+            for (int index = 0; index < sources.length; index++) {
+                if (sources[index] != matrices[index]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Retrieves the distances from a portal tile.
+         *
+         * @param tile The local tile.
+         * @return The distances, or {@code null} if {@code tile} isn't a portal.
+         */
+        private byte[] distancesFrom(int tile) {
+            for (int index = 0; index < tiles.length; index++) {
+                if (tiles[index] == tile) {
+                    return distances[index];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return The matrix of this cluster.
+         */
+        private CollisionMatrix getMatrix() {
+            return sources[0];
+        }
+    }
+
+    /**
+     * A node of a route search.
+     */
+    private static final class Step implements Comparable<Step> {
+
+        /**
+         * The absolute X coordinate.
+         */
+        private final int x;
+
+        /**
+         * The absolute Y coordinate.
+         */
+        private final int y;
+
+        /**
+         * The distance walked from the origin.
+         */
+        private final int cost;
+
+        /**
+         * The distance walked, plus the estimated distance left.
+         */
+        private final int priority;
+
+        /**
+         * The previous step, or {@code null} for the origin.
+         */
+        private final Step parent;
+
+        /**
+         * If this step has been expanded.
+         */
+        private boolean closed;
+
+        /**
+         * Creates a new {@link Step}.
+         *
+         * @param x The absolute X coordinate.
+         * @param y The absolute Y coordinate.
+         * @param cost The distance walked from the origin.
+         * @param priority The distance walked, plus the estimated distance left.
+         * @param parent The previous step.
+         */
+        private Step(int x, int y, int cost, int priority, Step parent) {
+            this.x = x;
+            this.y = y;
+            this.cost = cost;
+            this.priority = priority;
+            this.parent = parent;
+        }
+
+        @Override
+        public int compareTo(Step other) {
+            int result = Integer.compare(priority, other.priority);
+            if (result == 0) {
+                // Among equally promising steps, prefer the one furthest along.
+                return Integer.compare(other.cost, cost);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The distance of a tile that can't be reached.
+     */
+    private static final byte UNREACHABLE = -1;
+
+    /**
+     * Runs of crossable tiles at least this long get a portal at each end, instead of one in the middle.
+     */
+    private static final int LONG_RUN = 6;
+
+    /**
+     * The most portals a route search will expand before giving up.
+     */
+    private static final int MAX_EXPANSIONS = 50_000;
+
+    /**
+     * Every direction, in the order searched.
+     */
+    private static final Direction[] DIRECTIONS = Direction.ALL_EXCEPT_NONE.toArray(new Direction[0]);
+
+    /**
+     * The cached clusters, keyed by chunk and plane.
+     */
+    private final Map<Integer, Cluster> clusters = new ConcurrentHashMap<>();
+
+    /**
+     * Finds a path from {@code origin} to {@code target}, routed over portals.
+     *
+     * @param view The view to read collision from.
+     * @param origin The origin.
+     * @param target The target.
+     * @return The path, excluding {@code origin}, or {@code null} if no route was found.
+     */
+    public Deque<Position> findPath(CollisionView view, Position origin, Position target) {
+        int plane = origin.getZ();
+        if (target.getZ() != plane) {
+            return null;
+        }
+        Map<Integer, Cluster> visited = new HashMap<>();
+        Cluster first = getCluster(view, visited, origin.getX() / Chunk.SIZE, origin.getY() / Chunk.SIZE, plane);
+        Cluster last = getCluster(view, visited, target.getX() / Chunk.SIZE, target.getY() / Chunk.SIZE, plane);
+        if (first == null || last == null) {
+            return null;
+        }
+        byte[] fromOrigin = flood(first.getMatrix(), tileOf(origin.getX(), origin.getY()));
+        int targetTile = tileOf(target.getX(), target.getY());
+
+        Map<Integer, Step> steps = new HashMap<>();
+        Queue<Step> open = new PriorityQueue<>();
+        Step start = new Step(origin.getX(), origin.getY(), 0, estimate(origin.getX(), origin.getY(), target), null);
+        steps.put(keyOf(start.x, start.y), start);
+        open.add(start);
+
+        int expansions = 0;
+        while (!open.isEmpty() && expansions++ < MAX_EXPANSIONS) {
+            Step step = open.poll();
+            if (step.closed || steps.get(keyOf(step.x, step.y)) != step) {
+                continue;
+            }
+            step.closed = true;
+            if (step.x == target.getX() && step.y == target.getY()) {
+                return refine(visited, step, fromOrigin, plane);
+            }
+
+            int chunkX = step.x / Chunk.SIZE;
+            int chunkY = step.y / Chunk.SIZE;
+            Cluster cluster = getCluster(view, visited, chunkX, chunkY, plane);
+            int tile = tileOf(step.x, step.y);
+            byte[] distances = step == start ? fromOrigin : cluster.distancesFrom(tile);
+            if (distances == null) {
+                continue;
+            }
+            int baseX = chunkX * Chunk.SIZE;
+            int baseY = chunkY * Chunk.SIZE;
+
+            for (int index = 0; index < cluster.tiles.length; index++) {
+                int portal = cluster.tiles[index];
+                if (portal == tile) {
+                    // Cross over to the partner portal.
+                    Direction side = cluster.sides[index];
+                    relax(steps, open, step, step.x + side.getTranslateX(), step.y + side.getTranslateY(), 1,
+                            target);
+                } else if (distances[portal] != UNREACHABLE) {
+                    relax(steps, open, step, baseX + portal % Chunk.SIZE, baseY + portal / Chunk.SIZE,
+                            distances[portal], target);
+                }
+            }
+            if (cluster == last && distances[targetTile] != UNREACHABLE) {
+                relax(steps, open, step, target.getX(), target.getY(), distances[targetTile], target);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Opens a step, if it's cheaper than any step to the same tile found so far.
+     *
+     * @param steps The best step to each tile.
+     * @param open The steps waiting to be expanded.
+     * @param parent The step being expanded.
+     * @param x The absolute X coordinate.
+     * @param y The absolute Y coordinate.
+     * @param distance The distance from {@code parent}.
+     * @param target The target.
+     */
+    private void relax(Map<Integer, Step> steps, Queue<Step> open, Step parent, int x, int y, int distance,
+                       Position target) {
+        int key = keyOf(x, y);
+        int cost = parent.cost + distance;
+        Step existing = steps.get(key);
+        if (existing != null && (existing.closed || existing.cost <= cost)) {
+            return;
+        }
+        Step step = new Step(x, y, cost, cost + estimate(x, y, target), parent);
+        steps.put(key, step);
+        open.add(step);
+    }
+
+    /**
+     * Refines a route into a path of tiles. Crossings are single steps, every other segment lies within a single
+     * cluster and is walked back along the distances from where it starts.
+     *
+     * @param visited The clusters visited by the search.
+     * @param end The final step of the route.
+     * @param fromOrigin The distances from the origin, within its cluster.
+     * @param plane The plane.
+     * @return The path, excluding the origin.
+     */
+    private Deque<Position> refine(Map<Integer, Cluster> visited, Step end, byte[] fromOrigin, int plane) {
+        List<Step> route = new ArrayList<>();
+        for (Step step = end; step != null; step = step.parent) {
+            route.add(step);
+        }
+
+        Deque<Position> path = new ArrayDeque<>(end.cost);
+        for (int index = route.size() - 1; index > 0; index--) {
+            Step from = route.get(index);
+            Step to = route.get(index - 1);
+            int chunkX = from.x / Chunk.SIZE;
+            int chunkY = from.y / Chunk.SIZE;
+            if (chunkX != to.x / Chunk.SIZE || chunkY != to.y / Chunk.SIZE) {
+                path.add(new Position(to.x, to.y, plane));
+                continue;
+            }
+
+            Cluster cluster = visited.get(keyOf(chunkX, chunkY, plane));
+            byte[] distances = from.parent == null ? fromOrigin : cluster.distancesFrom(tileOf(from.x, from.y));
+            int tile = tileOf(to.x, to.y);
+            Position[] segment = new Position[distances[tile]];
+            for (int offset = segment.length - 1; offset >= 0; offset--) {
+                segment[offset] = new Position(chunkX * Chunk.SIZE + tile % Chunk.SIZE,
+                        chunkY * Chunk.SIZE + tile / Chunk.SIZE, plane);
+                tile = previous(cluster.getMatrix(), distances, tile);
+            }
+            path.addAll(Arrays.asList(segment));
+        }
+        return path;
+    }
+
+    /**
+     * Retrieves the cluster of a chunk plane, building it if it isn't cached or is out of date.
+     *
+     * @param view The view to read collision from.
+     * @param visited The clusters already retrieved by this search.
+     * @param chunkX The chunk X coordinate.
+     * @param chunkY The chunk Y coordinate.
+     * @param plane The plane.
+     * @return The cluster, or {@code null} if the chunk has no map data.
+     */
+    private Cluster getCluster(CollisionView view, Map<Integer, Cluster> visited, int chunkX, int chunkY,
+                               int plane) {
+        int key = keyOf(chunkX, chunkY, plane);
+        Cluster cluster = visited.get(key);
+        if (cluster != null || visited.containsKey(key)) {
+            return cluster;
+        }
+
+        CollisionMatrix[] sources = new CollisionMatrix[Direction.NESW.size() + 1];
+        sources[0] = view.getMatrix(chunkX * Chunk.SIZE, chunkY * Chunk.SIZE, plane);
+        if (sources[0] != null) {
+            for (int index = 0; index < Direction.NESW.size(); index++) {
+                Direction side = Direction.NESW.get(index);
+                sources[index + 1] = view.getMatrix((chunkX + side.getTranslateX()) * Chunk.SIZE,
+                        (chunkY + side.getTranslateY()) * Chunk.SIZE, plane);
+            }
+            cluster = clusters.get(key);
+            if (cluster == null || !cluster.isBuiltFrom(sources)) {
+                cluster = build(sources);
+                clusters.put(key, cluster);
+            }
+        }
+        visited.put(key, cluster);
+        return cluster;
+    }
+
+    /**
+     * Builds a cluster. Portals are placed along each edge shared with a neighbour, wherever a run of tiles can be
+     * crossed in both directions. Both clusters sharing an edge place the same portals on it, so every portal has a
+     * partner.
+     *
+     * @param sources The matrix of the cluster, followed by those of its neighbours.
+     * @return The cluster.
+     */
+    private static Cluster build(CollisionMatrix[] sources) {
+        CollisionMatrix matrix = sources[0];
+        int[] tiles = new int[Chunk.SIZE * Direction.NESW.size()];
+        Direction[] sides = new Direction[tiles.length];
+        int count = 0;
+        for (int index = 0; index < Direction.NESW.size(); index++) {
+            Direction side = Direction.NESW.get(index);
+            CollisionMatrix neighbour = sources[index + 1];
+            if (neighbour == null) {
+                continue;
+            }
+            int runStart = -1;
+            for (int offset = 0; offset <= Chunk.SIZE; offset++) {
+                boolean crossable = offset < Chunk.SIZE && isCrossable(matrix, neighbour, side, offset);
+                if (crossable && runStart == -1) {
+                    runStart = offset;
+                } else if (!crossable && runStart != -1) {
+                    int length = offset - runStart;
+                    if (length >= LONG_RUN) {
+                        sides[count] = side;
+                        tiles[count++] = borderTile(side, runStart);
+                        sides[count] = side;
+                        tiles[count++] = borderTile(side, offset - 1);
+                    } else {
+                        sides[count] = side;
+                        tiles[count++] = borderTile(side, runStart + length / 2);
+                    }
+                    runStart = -1;
+                }
+            }
+        }
+
+        byte[][] distances = new byte[count][];
+        for (int index = 0; index < count; index++) {
+            distances[index] = flood(matrix, tiles[index]);
+        }
+        return new Cluster(sources, Arrays.copyOf(tiles, count), Arrays.copyOf(sides, count), distances);
+    }
+
+    /**
+     * Determines if a border tile and the tile across the edge from it can be stepped between in both directions.
+     *
+     * @param matrix The matrix of the cluster.
+     * @param neighbour The matrix of the neighbour.
+     * @param side The side of the edge.
+     * @param offset The offset of the tile along the edge.
+     * @return {@code true} if the edge can be crossed there.
+     */
+    private static boolean isCrossable(CollisionMatrix matrix, CollisionMatrix neighbour, Direction side,
+                                       int offset) {
+        int tile = borderTile(side, offset);
+        int across = borderTile(side.opposite(), offset);
+        return !ReachabilityIndex.isUntraversable(neighbour.getUnchecked(across % Chunk.SIZE,
+                across / Chunk.SIZE), side) &&
+                !ReachabilityIndex.isUntraversable(matrix.getUnchecked(tile % Chunk.SIZE, tile / Chunk.SIZE),
+                        side.opposite());
+    }
+
+    /**
+     * Computes the distance from a tile to every other tile of a cluster, without leaving it.
+     *
+     * @param matrix The matrix of the cluster.
+     * @param start The local tile to start from.
+     * @return The distances.
+     */
+    private static byte[] flood(CollisionMatrix matrix, int start) {
+        byte[] distances = new byte[Chunk.SIZE * Chunk.SIZE];
+        Arrays.fill(distances, UNREACHABLE);
+        int[] queue = new int[distances.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        distances[start] = 0;
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile % Chunk.SIZE;
+            int y = tile / Chunk.SIZE;
+            for (Direction direction : DIRECTIONS) {
+                int nextX = x + direction.getTranslateX();
+                int nextY = y + direction.getTranslateY();
+                if (nextX < 0 || nextY < 0 || nextX >= Chunk.SIZE || nextY >= Chunk.SIZE) {
+                    continue;
+                }
+                int next = nextX + nextY * Chunk.SIZE;
+                if (distances[next] == UNREACHABLE && ReachabilityIndex.isTraversable(matrix, x, y, direction)) {
+                    distances[next] = (byte) (distances[tile] + 1);
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Finds the tile a path within a cluster steps onto {@code tile} from.
+     *
+     * @param matrix The matrix of the cluster.
+     * @param distances The distances from the start of the path.
+     * @param tile The local tile.
+     * @return The previous local tile.
+     */
+    private static int previous(CollisionMatrix matrix, byte[] distances, int tile) {
+        int x = tile % Chunk.SIZE;
+        int y = tile / Chunk.SIZE;
+        for (Direction direction : DIRECTIONS) {
+            int previousX = x - direction.getTranslateX();
+            int previousY = y - direction.getTranslateY();
+            if (previousX < 0 || previousY < 0 || previousX >= Chunk.SIZE || previousY >= Chunk.SIZE) {
+                continue;
+            }
+            int previous = previousX + previousY * Chunk.SIZE;
+            if (distances[previous] == distances[tile] - 1 &&
+                    ReachabilityIndex.isTraversable(matrix, previousX, previousY, direction)) {
+                return previous;
+            }
+        }
+        throw new IllegalStateException("No step onto a reachable tile.");
+    }
+
+    /**
+     * Computes the local tile on the edge of a cluster.
+     *
+     * @param side The side of the edge.
+     * @param offset The offset along the edge.
+     * @return The local tile.
+     */
+    private static int borderTile(Direction side, int offset) {
+        int x = side.getTranslateX() == 0 ? offset : side.getTranslateX() > 0 ? Chunk.SIZE - 1 : 0;
+        int y = side.getTranslateY() == 0 ? offset : side.getTranslateY() > 0 ? Chunk.SIZE - 1 : 0;
+        return x + y * Chunk.SIZE;
+    }
+
+    /**
+     * Estimates the distance left to the target.
+     *
+     * @param x The absolute X coordinate.
+     * @param y The absolute Y coordinate.
+     * @param target The target.
+     * @return The estimate.
+     */
+    private static int estimate(int x, int y, Position target) {
+        return Math.max(Math.abs(x - target.getX()), Math.abs(y - target.getY()));
+    }
+
+    /**
+     * Computes the local tile of an absolute position.
+     *
+     * @param x The absolute X coordinate.
+     * @param y The absolute Y coordinate.
+     * @return The local tile.
+     */
+    private static int tileOf(int x, int y) {
+        return x % Chunk.SIZE + y % Chunk.SIZE * Chunk.SIZE;
+    }
+
+    /**
+     * Computes the key of a tile within a search.
+     *
+     * @param x The absolute X coordinate.
+     * @param y The absolute Y coordinate.
+     * @return The key.
+     */
+    private static int keyOf(int x, int y) {
+        return x << 16 | y;
+    }
+
+    /**
+     * Computes the key of a chunk plane.
+     *
+     * @param chunkX The chunk X coordinate.
+     * @param chunkY The chunk Y coordinate.
+     * @param plane The plane.
+     * @return The key.
+     */
+    private static int keyOf(int chunkX, int chunkY, int plane) {
+        return plane << 26 | chunkX << 13 | chunkY;
+    }
+
+    /**
+     * @return The amount of cached clusters.
+     */
+    public int getCachedClusters() {
+        return clusters.size();
+    }
+}
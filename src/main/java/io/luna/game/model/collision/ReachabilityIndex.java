@@ -0,0 +1,731 @@
+package io.luna.game.model.collision;
+
+import io.luna.game.model.Direction;
+import io.luna.game.model.EntityType;
+import io.luna.game.model.Position;
+import io.luna.game.model.Region;
+import io.luna.game.model.chunk.Chunk;
+import io.luna.game.model.chunk.ChunkManager;
+import io.luna.game.model.chunk.ChunkRepository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+import static io.luna.game.model.collision.CollisionFlag.MOB_EAST;
+import static io.luna.game.model.collision.CollisionFlag.MOB_NORTH;
+import static io.luna.game.model.collision.CollisionFlag.MOB_NORTH_EAST;
+import static io.luna.game.model.collision.CollisionFlag.MOB_NORTH_WEST;
+import static io.luna.game.model.collision.CollisionFlag.MOB_SOUTH;
+import static io.luna.game.model.collision.CollisionFlag.MOB_SOUTH_EAST;
+import static io.luna.game.model.collision.CollisionFlag.MOB_SOUTH_WEST;
+import static io.luna.game.model.collision.CollisionFlag.MOB_WEST;
+
+/**
+ * An index of the connected components of walkable tiles on every plane, used to answer whether one tile can be
+ * reached from another in constant time.
+ * <p>
+ * Tiles are first labelled within each 8x8 chunk plane, then the local components are joined across chunk borders
+ * through a union-find. Two tiles are connected when a player can step between them in either direction, using the
+ * same rules as {@link CollisionManager#traversable(Position, EntityType, Direction)}. Tiles that can't be entered from
+ * any direction, and tiles in regions without map data, belong to no component.
+ * <p>
+ * The index is built along with the rest of the collision data, then kept up to date by relabelling every chunk
+ * modified through {@link CollisionManager#apply(CollisionUpdate, boolean)}. Components are only ever merged: added
+ * collision that splits a component leaves it whole. Answers are therefore conservative, an unreachable tile may be
+ * reported as reachable but never the other way around.
+ *
+ * @author lare96
+ */
+public final class ReachabilityIndex {
+
+    /**
+     * The amount of planes.
+     */
+    private static final int PLANES = Position.HEIGHT_LEVELS.upperEndpoint();
+
+    /**
+     * The label of a tile that can't be entered.
+     */
+    private static final byte BLOCKED = -1;
+
+    /**
+     * The label of a tile that hasn't been visited yet.
+     */
+    private static final byte UNLABELLED = -2;
+
+    /**
+     * The labels of a chunk plane without any collision, shared between all of them.
+     */
+    private static final byte[] OPEN = new byte[Chunk.SIZE * Chunk.SIZE];
+
+    /**
+     * The matrices of a chunk with map data but without a repository. These are never modified.
+     */
+    private static final CollisionMatrix[] EMPTY = CollisionMatrix.createMatrices(PLANES, Chunk.SIZE, Chunk.SIZE);
+
+    /**
+     * Every direction a tile can be left in.
+     */
+    private static final Direction[] DIRECTIONS = Direction.ALL_EXCEPT_NONE.toArray(new Direction[0]);
+
+    /**
+     * The mob flags that prevent entering a tile, indexed by the ordinal of the direction it's entered in. These
+     * match {@link CollisionMatrix#untraversable(int, int, EntityType, Direction)} for players, without going through
+     * its bounds checks for every tile.
+     */
+    private static final int[] ENTRY_MASKS = new int[Direction.values().length];
+
+    static {
+        ENTRY_MASKS[Direction.NORTH_WEST.ordinal()] = mask(MOB_SOUTH_EAST, MOB_SOUTH, MOB_EAST);
+        ENTRY_MASKS[Direction.NORTH.ordinal()] = mask(MOB_SOUTH);
+        ENTRY_MASKS[Direction.NORTH_EAST.ordinal()] = mask(MOB_SOUTH_WEST, MOB_SOUTH, MOB_WEST);
+        ENTRY_MASKS[Direction.EAST.ordinal()] = mask(MOB_WEST);
+        ENTRY_MASKS[Direction.SOUTH_EAST.ordinal()] = mask(MOB_NORTH_WEST, MOB_NORTH, MOB_WEST);
+        ENTRY_MASKS[Direction.SOUTH.ordinal()] = mask(MOB_NORTH);
+        ENTRY_MASKS[Direction.SOUTH_WEST.ordinal()] = mask(MOB_NORTH_EAST, MOB_NORTH, MOB_EAST);
+        ENTRY_MASKS[Direction.WEST.ordinal()] = mask(MOB_EAST);
+    }
+
+    /**
+     * The chunk manager.
+     */
+    private final ChunkManager chunks;
+
+    /**
+     * Guards every field below. Queries may come from pathfinding threads, while the index is only ever modified by
+     * the game thread.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * If the index has been built. Every query succeeds until it has.
+     */
+    private boolean built;
+
+    /**
+     * The lowest chunk X coordinate with map data.
+     */
+    private int baseX;
+
+    /**
+     * The lowest chunk Y coordinate with map data.
+     */
+    private int baseY;
+
+    /**
+     * The amount of chunks covered on the X axis.
+     */
+    private int width;
+
+    /**
+     * The amount of chunks covered on the Y axis.
+     */
+    private int length;
+
+    /**
+     * The collision matrices of every chunk, or {@code null} for chunks without map data.
+     */
+    private CollisionMatrix[][] matrices;
+
+    /**
+     * The local component label of every tile, for every chunk plane.
+     */
+    private byte[][] labels;
+
+    /**
+     * The union-find node of every local component, for every chunk plane.
+     */
+    private int[][] nodes;
+
+    /**
+     * The parent of every union-find node.
+     */
+    private int[] parents = new int[0];
+
+    /**
+     * The rank of every union-find node.
+     */
+    private byte[] ranks = new byte[0];
+
+    /**
+     * The amount of union-find nodes.
+     */
+    private int nodeCount;
+
+    /**
+     * Creates a new {@link ReachabilityIndex}.
+     *
+     * @param chunks The chunk manager.
+     */
+    ReachabilityIndex(ChunkManager chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * Builds the index from scratch, using the current collision of every repository. Labelling is done in parallel,
+     * so no collision may be modified while this runs.
+     *
+     * @param regions The regions with map data.
+     */
+    void build(Collection<Region> regions) {
+        lock.writeLock().lock();
+        try {
+            built = false;
+            nodeCount = 0;
+            if (regions.isEmpty()) {
+                matrices = new CollisionMatrix[0][];
+                width = length = 0;
+                built = true;
+                return;
+            }
+
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+            for (Region region : regions) {
+                minX = Math.min(minX, region.getX());
+                minY = Math.min(minY, region.getY());
+                maxX = Math.max(maxX, region.getX());
+                maxY = Math.max(maxY, region.getY());
+            }
+            int chunksPerRegion = Region.SIZE / Chunk.SIZE;
+            baseX = minX * chunksPerRegion;
+            baseY = minY * chunksPerRegion;
+            width = (maxX - minX + 1) * chunksPerRegion;
+            length = (maxY - minY + 1) * chunksPerRegion;
+            matrices = new CollisionMatrix[width * length][];
+            labels = new byte[matrices.length * PLANES][];
+            nodes = new int[labels.length][];
+
+            for (Region region : regions) {
+                int chunkX = region.getX() * chunksPerRegion;
+                int chunkY = region.getY() * chunksPerRegion;
+                for (int x = 0; x < chunksPerRegion; x++) {
+                    for (int y = 0; y < chunksPerRegion; y++) {
+                        matrices[indexOf(chunkX + x, chunkY + y)] = EMPTY;
+                    }
+                }
+            }
+            for (ChunkRepository repository : chunks.getAll()) {
+                int index = indexOf(repository.getChunk());
+                if (index != -1 && matrices[index] != null) {
+                    matrices[index] = repository.getMatrices();
+                }
+            }
+
+            // Label every chunk plane, then give each local component its own node.
+            IntStream.range(0, labels.length).parallel().forEach(index -> {
+                CollisionMatrix[] chunkMatrices = matrices[index / PLANES];
+                if (chunkMatrices != null) {
+                    labels[index] = label(chunkMatrices[index % PLANES]);
+                }
+            });
+            for (int index = 0; index < labels.length; index++) {
+                if (labels[index] != null) {
+                    int[] localNodes = new int[countComponents(labels[index])];
+                    for (int component = 0; component < localNodes.length; component++) {
+                        localNodes[component] = newNode();
+                    }
+                    nodes[index] = localNodes;
+                }
+            }
+
+            // Join components across chunk borders.
+            for (int index = 0; index < matrices.length; index++) {
+                if (matrices[index] != null) {
+                    for (int plane = 0; plane < PLANES; plane++) {
+                        joinBorders(index, plane);
+                    }
+                }
+            }
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Relabels the modified planes of the chunks held by {@code repositories}, after their collision was modified.
+     * Every new local component keeps the node of a component it overlaps, so existing components can only grow.
+     *
+     * @param repositories The modified repositories.
+     */
+    void update(Collection<ChunkRepository> repositories) {
+        lock.writeLock().lock();
+        try {
+            if (!built) {
+                return;
+            }
+            for (ChunkRepository repository : repositories) {
+                int index = indexOf(repository.getChunk());
+                if (index == -1 || matrices[index] == null) {
+                    continue;
+                }
+                matrices[index] = repository.getMatrices();
+                int dirty = repository.getDirtyPlanes();
+                for (int plane = 0; plane < PLANES; plane++) {
+                    if ((dirty & 1 << plane) != 0) {
+                        relabel(index, plane);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Determines if {@code target} can be reached by walking from {@code origin}.
+     *
+     * @param origin The origin.
+     * @param target The target.
+     * @return {@code false} if the target is certainly unreachable, otherwise {@code true}.
+     */
+    public boolean isReachable(Position origin, Position target) {
+        return isReachable(origin, target, 0);
+    }
+
+    /**
+     * Determines if any tile within {@code distance} of {@code target} can be reached by walking from
+     * {@code origin}. When {@code origin} itself can't be entered, such as a tile blocked by the mob standing on it,
+     * the components of the tiles around it are used instead.
+     *
+     * @param origin The origin.
+     * @param target The target.
+     * @param distance The distance around the target, in tiles.
+     * @return {@code false} if every tile is certainly unreachable, or the positions are on different planes,
+     * otherwise {@code true}.
+     */
+    public boolean isReachable(Position origin, Position target, int distance) {
+        int plane = origin.getZ();
+        if (plane != target.getZ()) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            if (!built) {
+                return true;
+            }
+
+            // Resolve the components the origin belongs to.
+            int[] roots = new int[9];
+            int rootCount = 0;
+            int node = nodeAt(origin.getX(), origin.getY(), plane);
+            if (node != -1) {
+                roots[rootCount++] = find(node);
+            } else {
+                for (Direction direction : DIRECTIONS) {
+                    node = nodeAt(origin.getX() + direction.getTranslateX(),
+                            origin.getY() + direction.getTranslateY(), plane);
+                    if (node != -1) {
+                        roots[rootCount++] = find(node);
+                    }
+                }
+                if (rootCount == 0) {
+                    // Nothing to go on.
+                    return true;
+                }
+            }
+
+            for (int x = target.getX() - distance; x <= target.getX() + distance; x++) {
+                for (int y = target.getY() - distance; y <= target.getY() + distance; y++) {
+                    node = nodeAt(x, y, plane);
+                    if (node != -1) {
+                        int root = find(node);
+                        for (int index = 0; index < rootCount; index++) {
+                            if (roots[index] == root) {
+                                return true;
+                            }
+                        }
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Relabels a single chunk plane, and joins it to its neighbours again.
+     *
+     * @param index The chunk index.
+     * @param plane The plane.
+     */
+    private void relabel(int index, int plane) {
+        int planeIndex = index * PLANES + plane;
+        byte[] oldLabels = labels[planeIndex];
+        int[] oldNodes = nodes[planeIndex];
+        byte[] newLabels = label(matrices[index][plane]);
+        if (!Arrays.equals(oldLabels, newLabels)) {
+            int[] newNodes = new int[countComponents(newLabels)];
+            Arrays.fill(newNodes, -1);
+            for (int tile = 0; tile < newLabels.length; tile++) {
+                byte newLabel = newLabels[tile];
+                byte oldLabel = oldLabels[tile];
+                if (newLabel == BLOCKED || oldLabel == BLOCKED) {
+                    continue;
+                }
+                int oldNode = oldNodes[oldLabel];
+                if (newNodes[newLabel] == -1) {
+                    newNodes[newLabel] = oldNode;
+                } else {
+                    union(newNodes[newLabel], oldNode);
+                }
+            }
+            for (int component = 0; component < newNodes.length; component++) {
+                if (newNodes[component] == -1) {
+                    newNodes[component] = newNode();
+                }
+            }
+            labels[planeIndex] = newLabels;
+            nodes[planeIndex] = newNodes;
+        }
+        joinBorders(index, plane);
+    }
+
+    /**
+     * Labels the connected components of a single chunk plane. Moves between tiles of the same chunk never check
+     * tiles of another chunk, so this only reads the chunk's own matrix.
+     *
+     * @param matrix The matrix of the chunk plane.
+     * @return The label of every tile.
+     */
+    private static byte[] label(CollisionMatrix matrix) {
+        if (matrix.isEmpty()) {
+            return OPEN;
+        }
+        byte[] tiles = new byte[Chunk.SIZE * Chunk.SIZE];
+        for (int x = 0; x < Chunk.SIZE; x++) {
+            for (int y = 0; y < Chunk.SIZE; y++) {
+                tiles[x + y * Chunk.SIZE] = isEnterable(matrix.getUnchecked(x, y)) ? UNLABELLED : BLOCKED;
+            }
+        }
+
+        int[] stack = new int[tiles.length];
+        byte next = 0;
+        for (int start = 0; start < tiles.length; start++) {
+            if (tiles[start] != UNLABELLED) {
+                continue;
+            }
+            byte label = next++;
+            int size = 0;
+            stack[size++] = start;
+            tiles[start] = label;
+            while (size > 0) {
+                int tile = stack[--size];
+                int x = tile % Chunk.SIZE;
+                int y = tile / Chunk.SIZE;
+                for (Direction direction : DIRECTIONS) {
+                    int nextX = x + direction.getTranslateX();
+                    int nextY = y + direction.getTranslateY();
+                    if (nextX < 0 || nextY < 0 || nextX >= Chunk.SIZE || nextY >= Chunk.SIZE) {
+                        continue;
+                    }
+                    int nextTile = nextX + nextY * Chunk.SIZE;
+                    if (tiles[nextTile] == UNLABELLED && isConnected(matrix, x, y, direction)) {
+                        tiles[nextTile] = label;
+                        stack[size++] = nextTile;
+                    }
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Joins the components of a chunk plane with those of its neighbours, wherever a border tile is connected to a
+     * tile of a neighbouring chunk.
+     *
+     * @param index The chunk index.
+     * @param plane The plane.
+     */
+    private void joinBorders(int index, int plane) {
+        int chunkX = baseX + index % width;
+        int chunkY = baseY + index / width;
+        int absX = chunkX * Chunk.SIZE;
+        int absY = chunkY * Chunk.SIZE;
+        int planeIndex = index * PLANES + plane;
+        for (int x = 0; x < Chunk.SIZE; x++) {
+            for (int y = 0; y < Chunk.SIZE; y++) {
+                if (x != 0 && y != 0 && x != Chunk.SIZE - 1 && y != Chunk.SIZE - 1) {
+                    continue;
+                }
+                int node = nodeAt(absX + x, absY + y, plane);
+                if (node == -1) {
+                    continue;
+                }
+                for (Direction direction : DIRECTIONS) {
+                    int nextX = absX + x + direction.getTranslateX();
+                    int nextY = absY + y + direction.getTranslateY();
+                    if (nextX >> 3 == chunkX && nextY >> 3 == chunkY) {
+                        continue;
+                    }
+                    int nextNode = nodeAt(nextX, nextY, plane);
+                    if (nextNode == -1) {
+                        continue;
+                    }
+
+                    // Open tiles on either side of a chunk edge are always connected.
+                    int nextIndex = indexOf(nextX >> 3, nextY >> 3) * PLANES + plane;
+                    if (!direction.isDiagonal() && labels[planeIndex] == OPEN && labels[nextIndex] == OPEN ||
+                            isConnected(absX + x, absY + y, plane, direction)) {
+                        union(node, nextNode);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines if a player can step from one tile to the next in {@code direction}, or back, where both tiles are
+     * within the same chunk.
+     *
+     * @param matrix The matrix of the chunk plane.
+     * @param x The local X coordinate.
+     * @param y The local Y coordinate.
+     * @param direction The direction of the next tile.
+     * @return {@code true} if the tiles are connected.
+     */
+    private static boolean isConnected(CollisionMatrix matrix, int x, int y, Direction direction) {
+        return isTraversable(matrix, x, y, direction) ||
+                isTraversable(matrix, x + direction.getTranslateX(), y + direction.getTranslateY(),
+                        direction.opposite());
+    }
+
+    /**
+     * Determines if a player can step from a tile in {@code direction}, where every tile checked is within the same
+     * chunk.
+     *
+     * @param matrix The matrix of the chunk plane.
+     * @param x The local X coordinate.
+     * @param y The local Y coordinate.
+     * @param direction The direction.
+     * @return {@code true} if the step is traversable.
+     */
+    static boolean isTraversable(CollisionMatrix matrix, int x, int y, Direction direction) {
+        int flags = matrix.getUnchecked(x + direction.getTranslateX(), y + direction.getTranslateY());
+        if (isUntraversable(flags, direction)) {
+            return false;
+        }
+        if (direction.isDiagonal()) {
+            for (Direction component : Direction.diagonalComponents(direction)) {
+                flags = matrix.getUnchecked(x + component.getTranslateX(), y + component.getTranslateY());
+                if (isUntraversable(flags, component)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if a player can step from one tile to the next in {@code direction}, or back.
+     *
+     * @param x The absolute X coordinate.
+     * @param y The absolute Y coordinate.
+     * @param plane The plane.
+     * @param direction The direction of the next tile.
+     * @return {@code true} if the tiles are connected.
+     */
+    private boolean isConnected(int x, int y, int plane, Direction direction) {
+        return isTraversable(x, y, plane, direction) ||
+                isTraversable(x + direction.getTranslateX(), y + direction.getTranslateY(), plane,
+                        direction.opposite());
+    }
+
+    /**
+     * Determines if a player can step from a tile in {@code direction}. For diagonals, both orthogonal components must
+     * also be traversable.
+     *
+     * @param x The absolute X coordinate.
+     * @param y The absolute Y coordinate.
+     * @param plane The plane.
+     * @param direction The direction.
+     * @return {@code true} if the step is traversable.
+     */
+    private boolean isTraversable(int x, int y, int plane, Direction direction) {
+        if (isUntraversable(x + direction.getTranslateX(), y + direction.getTranslateY(), plane, direction)) {
+            return false;
+        }
+        if (direction.isDiagonal()) {
+            for (Direction component : Direction.diagonalComponents(direction)) {
+                if (isUntraversable(x + component.getTranslateX(), y + component.getTranslateY(), plane,
+                        component)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if a tile can't be entered in {@code direction}.
+     *
+     * @param x The absolute X coordinate.
+     * @param y The absolute Y coordinate.
+     * @param plane The plane.
+     * @param direction The direction.
+     * @return {@code true} if the tile can't be entered.
+     */
+    private boolean isUntraversable(int x, int y, int plane, Direction direction) {
+        int index = indexOf(x >> 3, y >> 3);
+        if (index == -1 || matrices[index] == null) {
+            return true;
+        }
+        return isUntraversable(matrices[index][plane].getUnchecked(x & 7, y & 7), direction);
+    }
+
+    /**
+     * Determines if a tile can be entered from any direction. Diagonal entry is blocked whenever both of its
+     * cardinal components are, so only those need checking.
+     *
+     * @param flags The packed flags of the tile.
+     * @return {@code true} if the tile can be entered.
+     */
+    private static boolean isEnterable(int flags) {
+        for (Direction direction : Direction.NESW) {
+            if (!isUntraversable(flags, direction)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines if a tile can't be entered in {@code direction} by a player.
+     *
+     * @param flags The packed flags of the tile.
+     * @param direction The direction.
+     * @return {@code true} if the tile can't be entered.
+     */
+    static boolean isUntraversable(int flags, Direction direction) {
+        return (flags & ENTRY_MASKS[direction.ordinal()]) != 0;
+    }
+
+    /**
+     * Combines collision flags into a mask.
+     *
+     * @param flags The flags.
+     * @return The mask.
+     */
+    private static int mask(CollisionFlag... flags) {
+        int mask = 0;
+        for (CollisionFlag flag : flags) {
+            mask |= flag.asShort() & 0xFFFF;
+        }
+        return mask;
+    }
+
+    /**
+     * Retrieves the union-find node of a tile.
+     *
+     * @param x The absolute X coordinate.
+     * @param y The absolute Y coordinate.
+     * @param plane The plane.
+     * @return The node, or {@code -1} if the tile belongs to no component.
+     */
+    private int nodeAt(int x, int y, int plane) {
+        int index = indexOf(x >> 3, y >> 3);
+        if (index == -1 || matrices[index] == null) {
+            return -1;
+        }
+        int planeIndex = index * PLANES + plane;
+        byte label = labels[planeIndex][(x & 7) + (y & 7) * Chunk.SIZE];
+        return label == BLOCKED ? -1 : nodes[planeIndex][label];
+    }
+
+    /**
+     * Computes the index of a chunk.
+     *
+     * @param chunk The chunk.
+     * @return The index, or {@code -1} if the chunk isn't covered.
+     */
+    private int indexOf(Chunk chunk) {
+        return indexOf(chunk.getAbsX() >> 3, chunk.getAbsY() >> 3);
+    }
+
+    /**
+     * Computes the index of a chunk.
+     *
+     * @param chunkX The absolute X coordinate divided by the chunk size.
+     * @param chunkY The absolute Y coordinate divided by the chunk size.
+     * @return The index, or {@code -1} if the chunk isn't covered.
+     */
+    private int indexOf(int chunkX, int chunkY) {
+        int x = chunkX - baseX;
+        int y = chunkY - baseY;
+        if (x < 0 || y < 0 || x >= width || y >= length) {
+            return -1;
+        }
+        return x + y * width;
+    }
+
+    /**
+     * Counts the local components of a chunk plane.
+     *
+     * @param tiles The label of every tile.
+     * @return The amount of components.
+     */
+    private int countComponents(byte[] tiles) {
+        int count = 0;
+        for (byte label : tiles) {
+            count = Math.max(count, label + 1);
+        }
+        return count;
+    }
+
+    /**
+     * Allocates a new union-find node.
+     *
+     * @return The node.
+     */
+    private int newNode() {
+        if (nodeCount == parents.length) {
+            int capacity = Math.max(1024, parents.length * 2);
+            parents = Arrays.copyOf(parents, capacity);
+            ranks = Arrays.copyOf(ranks, capacity);
+        }
+        int node = nodeCount++;
+        parents[node] = node;
+        ranks[node] = 0;
+        return node;
+    }
+
+    /**
+     * Finds the root of a union-find node. Paths are not compressed, so that this can run under the read lock.
+     *
+     * @param node The node.
+     * @return The root.
+     */
+    private int find(int node) {
+        while (parents[node] != node) {
+            node = parents[node];
+        }
+        return node;
+    }
+
+    /**
+     * Merges the components of two union-find nodes.
+     *
+     * @param first The first node.
+     * @param second The second node.
+     */
+    private void union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot == secondRoot) {
+            return;
+        }
+        if (ranks[firstRoot] < ranks[secondRoot]) {
+            parents[firstRoot] = secondRoot;
+        } else if (ranks[firstRoot] > ranks[secondRoot]) {
+            parents[secondRoot] = firstRoot;
+        } else {
+            parents[secondRoot] = firstRoot;
+            ranks[firstRoot]++;
+        }
+    }
+}
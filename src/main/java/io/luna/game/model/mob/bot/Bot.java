@@ -359,6 +359,7 @@ public final class Bot extends Player {
 
         spawnPosition = position;
         botClient = new BotClient(this, context.getServer().getMessageRepository());
+        botClient.setEncodingMessages(Luna.settings().bots().encodeMessages());
         manager = world.getBotManager();
         scriptStack = new BotScriptStack(this, manager.getScriptManager());
         speechStack = new BotSpeechStack(this);
@@ -469,6 +470,7 @@ public final class Bot extends Player {
      *     <li>Run reflex behavior for immediate decisions.</li>
      *     <li>Process speech so the bot can speak while active.</li>
      *     <li>Inject contextual events from the bot injector manager.</li>
+     *     <li>Stop here if this bot is unobserved and skipping this cycle (see {@link #getProcessInterval()}).</li>
      *     <li>Process the active script stack.</li>
      *     <li>Ask the brain for a new coordinator when no script work remains.</li>
      * </ol>
@@ -486,6 +488,11 @@ public final class Bot extends Player {
                 // Process context injectors before scripts so we can still react to events while doing stuff.
                 manager.getInjectorManager().injectEvents(this);
 
+                // Bots that nobody can see only run their scripts and brain every few cycles.
+                if (!isDetailedCycle()) {
+                    return;
+                }
+
                 // Short-circuit if we still have stuff to do (scripts still in buffer).
                 if (!scriptStack.process()) {
                     return;
@@ -502,6 +509,36 @@ public final class Bot extends Player {
         }
     }
 
+    /**
+     * Determines if any human player can currently see this bot.
+     *
+     * @return {@code true} if this bot is observed.
+     */
+    public boolean isObserved() {
+        return !localHumans.isEmpty();
+    }
+
+    /**
+     * Returns the amount of ticks between each step of this bot's scripts and brain. Bots that nobody can see are
+     * processed at a reduced frequency to save CPU, and return to full frequency as soon as a human player can see
+     * them. Reflexes, speech, and context injection are still processed every tick.
+     *
+     * @return The processing interval, in ticks.
+     */
+    public int getProcessInterval() {
+        return isObserved() ? 1 : Math.max(1, Luna.settings().bots().distantProcessInterval());
+    }
+
+    /**
+     * Determines if this bot's scripts and brain should be processed this cycle. Always {@code true} while a human
+     * player can see this bot.
+     *
+     * @return {@code true} if this is a detailed cycle.
+     */
+    public boolean isDetailedCycle() {
+        return cycles % getProcessInterval() == 0;
+    }
+
     /**
      * Appends a message to this bot's internal debug log.
      *
@@ -66,6 +66,17 @@ public final class BotSettings {
      */
     private final int baseLootValue;
 
+    /**
+     * If bot actions should be encoded into packets and decoded again, rather than submitted directly as events. Only
+     * useful for testing the protocol.
+     */
+    private final boolean encodeMessages;
+
+    /**
+     * The amount of ticks between each step of the scripts and brain of bots that no human player can see.
+     */
+    private final int distantProcessInterval;
+
     /**
      * Returns the baseline number of bots the world should try to keep online.
      */
@@ -144,10 +155,26 @@ public final class BotSettings {
         return baseLootValue;
     }
 
+    /**
+     * Returns if bot actions should be encoded into packets and decoded again, rather than submitted directly as
+     * events.
+     */
+    public boolean encodeMessages() {
+        return encodeMessages;
+    }
+
+    /**
+     * Returns the amount of ticks between each step of the scripts and brain of bots that no human player can see.
+     */
+    public int distantProcessInterval() {
+        return distantProcessInterval;
+    }
+
     // Never called.
     private BotSettings(int baseOnlineCount, int baseLoginHours, int baseLogoutHours, int minimumLoginHours,
                         int maximumLoginHours, int minimumLogoutHours, int maximumLogoutHours, double highIntelligenceChance,
-                        double lowIntelligenceChance, double merchantingChance, int baseLootValue) {
+                        double lowIntelligenceChance, double merchantingChance, int baseLootValue,
+                        boolean encodeMessages, int distantProcessInterval) {
         this.baseOnlineCount = baseOnlineCount;
         this.baseLoginHours = baseLoginHours;
         this.baseLogoutHours = baseLogoutHours;
@@ -159,5 +186,7 @@ public final class BotSettings {
         this.lowIntelligenceChance = lowIntelligenceChance;
         this.merchantingChance = merchantingChance;
         this.baseLootValue = baseLootValue;
+        this.encodeMessages = encodeMessages;
+        this.distantProcessInterval = distantProcessInterval;
     }
 }
\ No newline at end of file
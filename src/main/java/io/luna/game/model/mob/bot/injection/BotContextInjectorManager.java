@@ -5,10 +5,13 @@ import io.luna.game.event.Event;
 import io.luna.game.event.impl.InjectableEvent;
 import io.luna.game.model.Locatable;
 import io.luna.game.model.Position;
+import io.luna.game.model.chunk.Chunk;
 import io.luna.game.model.mob.bot.Bot;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Manages the collection of {@link BotContextInjector} instances responsible for injecting contextual behavior
@@ -25,6 +28,10 @@ import java.util.List;
  * {@link InjectableEvent#contextRadius(Bot)}. This ensures that bots only react to events occurring nearby,
  * improving both realism and scalability.
  * <p>
+ * Pending events are indexed by the {@link Chunk} of their {@link InjectableEvent#contextOrigin()} when they're added,
+ * so each bot only looks at events from the chunks within {@link InjectableEvent#MAX_CONTEXT_RADIUS} of it rather
+ * than at every event posted during the tick.
+ * <p>
  * The internal injector list is stored as an immutable snapshot for thread safety and atomic updates through
  * {@link #setInjectors(List)}. The pending event buffer is cleared at the end of each tick using {@link #clearEvents()}.
  *
@@ -42,17 +49,23 @@ public final class BotContextInjectorManager {
     private volatile ImmutableList<BotContextInjector> injectorList = ImmutableList.of();
 
     /**
-     * The temporary buffer of {@link InjectableEvent}s awaiting dispatch.
+     * The temporary buffer of {@link InjectableEvent}s awaiting dispatch, indexed by the chunk of their origin.
      * <p>
-     * This list is populated throughout the tick and flushed at the end of each tick cycle
+     * This map is populated throughout the tick and flushed at the end of each tick cycle
      * using {@link #clearEvents()}.
      */
-    private final List<InjectableEvent> pendingDispatch = new ArrayList<>();
+    private final Map<Chunk, List<InjectableEvent>> pendingDispatch = new HashMap<>();
+
+    /**
+     * The amount of events in {@link #pendingDispatch}.
+     */
+    private int pendingCount;
 
     /**
-     * Dispatches all {@link InjectableEvent}s in {@link #pendingDispatch} to this bot.
+     * Dispatches all nearby {@link InjectableEvent}s in {@link #pendingDispatch} to this bot.
      * <p>
-     * For each event, the spatial context is checked:
+     * Only events from chunks within {@link InjectableEvent#MAX_CONTEXT_RADIUS} of the bot are examined. For each of
+     * those events, the spatial context is checked:
      * <ul>
      *   <li>If {@link InjectableEvent#contextLocatable(Bot)} returns {@code null}, the event is skipped.</li>
      *   <li>If {@link InjectableEvent#contextRadius(Bot)} returns {@code -1}, the event is never viewable and is skipped.</li>
@@ -64,13 +77,50 @@ public final class BotContextInjectorManager {
      * @param bot The bot receiving the event injection pass.
      */
     public void injectEvents(Bot bot) {
-        for (InjectableEvent event : pendingDispatch) {
+        if (pendingCount == 0) {
+            return;
+        }
+        Position botPosition = bot.getPosition();
+        int minChunkX = toChunk(botPosition.getX() - InjectableEvent.MAX_CONTEXT_RADIUS);
+        int minChunkY = toChunk(botPosition.getY() - InjectableEvent.MAX_CONTEXT_RADIUS);
+        int maxChunkX = toChunk(botPosition.getX() + InjectableEvent.MAX_CONTEXT_RADIUS);
+        int maxChunkY = toChunk(botPosition.getY() + InjectableEvent.MAX_CONTEXT_RADIUS);
+
+        if (pendingDispatch.size() < (maxChunkX - minChunkX + 1) * (maxChunkY - minChunkY + 1)) {
+            // Fewer chunks have events than are around the bot, check each of them instead.
+            for (Map.Entry<Chunk, List<InjectableEvent>> entry : pendingDispatch.entrySet()) {
+                Chunk chunk = entry.getKey();
+                if (chunk.getX() >= minChunkX && chunk.getX() <= maxChunkX &&
+                        chunk.getY() >= minChunkY && chunk.getY() <= maxChunkY) {
+                    injectEvents(bot, entry.getValue());
+                }
+            }
+        } else {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+                    List<InjectableEvent> events = pendingDispatch.get(new Chunk(chunkX, chunkY));
+                    if (events != null) {
+                        injectEvents(bot, events);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Dispatches {@code events}, which are all from a single chunk near this bot.
+     *
+     * @param bot The bot receiving the event injection pass.
+     * @param events The events.
+     */
+    private void injectEvents(Bot bot, List<InjectableEvent> events) {
+        for (InjectableEvent event : events) {
             Locatable locatable = event.contextLocatable(bot);
             if (locatable == null || locatable.equals(bot)) {
                 continue;
             }
 
-            int radius = event.contextRadius(bot);
+            int radius = Math.min(event.contextRadius(bot), InjectableEvent.MAX_CONTEXT_RADIUS);
             Position position = locatable.abs();
             if (position == null) {
                 continue;
@@ -88,14 +138,32 @@ public final class BotContextInjectorManager {
     }
 
     /**
-     * Adds a new {@link InjectableEvent} to the pending dispatch buffer.
+     * Converts a tile coordinate to the chunk-space coordinate used by {@link Chunk}.
+     *
+     * @param coordinate The tile coordinate.
+     * @return The chunk-space coordinate.
+     * @see Position#getBottomLeftChunkX()
+     */
+    private static int toChunk(int coordinate) {
+        return coordinate / Chunk.SIZE - 6;
+    }
+
+    /**
+     * Adds a new {@link InjectableEvent} to the pending dispatch buffer, indexed by the chunk of its
+     * {@link InjectableEvent#contextOrigin()}. Events without an origin are never injected and are dropped.
      * <p>
      * The event will be delivered to eligible bots on the next call to {@link #injectEvents(Bot)}.
      *
      * @param event The injectable event to queue.
      */
     public void addEvent(InjectableEvent event) {
-        pendingDispatch.add(event);
+        Locatable origin = event.contextOrigin();
+        Position position = origin == null ? null : origin.abs();
+        if (position == null) {
+            return;
+        }
+        pendingDispatch.computeIfAbsent(position.getChunk(), key -> new ArrayList<>()).add(event);
+        pendingCount++;
     }
 
     /**
@@ -106,6 +174,14 @@ public final class BotContextInjectorManager {
      */
     public void clearEvents() {
         pendingDispatch.clear();
+        pendingCount = 0;
+    }
+
+    /**
+     * @return The amount of events awaiting dispatch.
+     */
+    public int getPendingCount() {
+        return pendingCount;
     }
 
     /**
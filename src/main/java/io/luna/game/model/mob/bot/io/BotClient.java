@@ -1,14 +1,20 @@
 package io.luna.game.model.mob.bot.io;
 
+import io.luna.game.event.Event;
+import io.luna.game.model.mob.Player;
 import io.luna.game.model.mob.bot.Bot;
 import io.luna.net.client.GameClient;
 import io.luna.net.msg.GameMessage;
+import io.luna.net.msg.GameMessageReader;
 import io.luna.net.msg.GameMessageRepository;
 import io.luna.net.msg.GameMessageWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.time.Instant;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiFunction;
 
 /**
  * A specialized {@link GameClient} implementation that simulates network communication for {@link Bot}
@@ -17,14 +23,28 @@ import java.util.concurrent.ConcurrentLinkedQueue;
  * The {@link BotClient} architecture mirrors a real client session:
  * <ul>
  *     <li>{@link #queue(GameMessageWriter)} simulates sending server messages to the bot.</li>
- *     <li>{@link #flush()} delivers all queued server messages to the bot’s {@link BotInputMessageHandler}.</li>
- *     <li>{@link #queueSimulated(GameMessage)} simulates incoming packets from the bot to the server.</li>
+ *     <li>{@link #flush()} delivers all queued server messages to the bot’s {@link BotInputMessageHandler}. Only
+ *     message types the bot is subscribed to are queued.</li>
+ *     <li>{@link #queueIntent(int, BiFunction)} submits events from the bot directly to the server's
+ *     {@link GameMessageReader}s, without encoding them.</li>
+ *     <li>{@link #queueSimulated(GameMessage)} simulates incoming packets from the bot to the server. Only used when
+ *     {@link #isEncodingMessages()} is {@code true}, to test the protocol.</li>
  * </ul>
  *
  * @author lare96
  */
 public final class BotClient extends GameClient {
 
+    /**
+     * The asynchronous logger.
+     */
+    private static final Logger logger = LogManager.getLogger();
+
+    /**
+     * The maximum amount of intents handled per tick.
+     */
+    private static final int MAX_INTENTS = 100;
+
     /**
      * Handles incoming (server -> bot) messages.
      */
@@ -40,6 +60,16 @@ public final class BotClient extends GameClient {
      */
     private final Queue<BotMessage<?>> pendingWriteMessages = new ConcurrentLinkedQueue<>();
 
+    /**
+     * All pending intents awaiting submission to the server, handled when {@link #handleDecodedMessages()} is called.
+     */
+    private final Queue<Runnable> pendingIntents = new ConcurrentLinkedQueue<>();
+
+    /**
+     * If bot actions should be encoded into packets and decoded again, rather than submitted as intents.
+     */
+    private volatile boolean encodingMessages;
+
     /**
      * The bot.
      */
@@ -67,10 +97,13 @@ public final class BotClient extends GameClient {
     }
 
     /**
-     * Simulates a server -> client send.
+     * Simulates a server -> client send. Messages of types that the bot isn't subscribed to are dropped immediately.
      */
     @Override
     public void queue(GameMessageWriter msg) {
+        if (!input.isSubscribed(msg.getClass())) {
+            return;
+        }
         Instant timestamp = Instant.now();
         pendingWriteMessages.add(new BotMessage<>(msg, timestamp));
     }
@@ -85,12 +118,60 @@ public final class BotClient extends GameClient {
             BotMessage<?> writer = pendingWriteMessages.poll();
             if (writer == null) {
                 break;
-
             }
             input.add(writer);
         }
     }
 
+    @Override
+    public void onInactive() {
+        pendingIntents.clear();
+        super.onInactive();
+    }
+
+    /**
+     * Handles simulated packets, and then every pending intent.
+     */
+    @Override
+    public void handleDecodedMessages() {
+        super.handleDecodedMessages();
+        for (int processed = 0; processed < MAX_INTENTS; processed++) {
+            Runnable intent = pendingIntents.poll();
+            if (intent == null) {
+                break;
+            }
+            intent.run();
+        }
+    }
+
+    /**
+     * Queues an intent to be submitted to the reader of {@code opcode} on the next tick. The event is created by
+     * {@code factory} when the intent is handled, so anything it looks up reflects the world at that point just as
+     * it would when decoding a packet. It then goes through {@link GameMessageReader#submitEvent(Player, Event)},
+     * so it's validated and dispatched exactly like an event sent by a real client.
+     *
+     * @param opcode The opcode of the reader.
+     * @param factory Creates the event from the reader and the bot.
+     * @param <R> The reader type.
+     * @param <E> The event type.
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends GameMessageReader<E>, E extends Event> void queueIntent(int opcode,
+                                                                             BiFunction<R, Player, E> factory) {
+        R reader = (R) repository.get(opcode);
+        pendingIntents.add(() -> {
+            E event;
+            try {
+                event = factory.apply(reader, bot);
+            } catch (Exception e) {
+                logger.error("{} failed in creating intent for opcode {}.", bot, opcode, e);
+                bot.forceLogout();
+                return;
+            }
+            reader.submitEvent(bot, event);
+        });
+    }
+
     /**
      * Queues a {@link GameMessage} to be simulated as an incoming packet from the bot to the server. This mimics
      * client-originated packets.
@@ -98,7 +179,24 @@ public final class BotClient extends GameClient {
      * @param msg The message to simulate.
      */
     public void queueSimulated(GameMessage msg) {
-        pendingReadMessages.add(msg);
+        pendingReadMessages.offer(msg);
+    }
+
+    /**
+     * Sets if bot actions should be encoded into packets and decoded again, rather than submitted as intents. This is
+     * slower, and is only useful for testing the protocol.
+     *
+     * @param encodingMessages The new value.
+     */
+    public void setEncodingMessages(boolean encodingMessages) {
+        this.encodingMessages = encodingMessages;
+    }
+
+    /**
+     * @return {@code true} if bot actions are encoded into packets and decoded again.
+     */
+    public boolean isEncodingMessages() {
+        return encodingMessages;
     }
 
     /**
@@ -0,0 +1,103 @@
+package io.luna.game.model.mob.bot.io;
+
+import io.luna.net.msg.GameMessageWriter;
+
+/**
+ * A fixed-capacity ring buffer of {@link BotMessage}s of a single writer type. Once full, adding a message evicts
+ * the oldest one, so an inbox never holds more than {@link #CAPACITY} messages no matter how long nobody reads it.
+ *
+ * @param <T> The writer type.
+ * @author lare96
+ */
+public final class BotInbox<T extends GameMessageWriter> {
+
+    /**
+     * The maximum amount of messages held.
+     */
+    public static final int CAPACITY = 32;
+
+    /**
+     * The messages.
+     */
+    private final BotMessage<?>[] messages = new BotMessage<?>[CAPACITY];
+
+    /**
+     * The index of the oldest message.
+     */
+    private int head;
+
+    /**
+     * The amount of messages held.
+     */
+    private int size;
+
+    /**
+     * The amount of subscribers.
+     */
+    private int subscribers;
+
+    /**
+     * Adds a message, evicting the oldest one if this inbox is full.
+     *
+     * @param msg The message.
+     */
+    synchronized void add(BotMessage<T> msg) {
+        messages[(head + size) % CAPACITY] = msg;
+        if (size == CAPACITY) {
+            head = (head + 1) % CAPACITY;
+        } else {
+            size++;
+        }
+    }
+
+    /**
+     * Retrieves and removes the oldest message.
+     *
+     * @return The oldest message, or {@code null} if this inbox is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized BotMessage<T> poll() {
+        if (size == 0) {
+            return null;
+        }
+        BotMessage<T> msg = (BotMessage<T>) messages[head];
+        messages[head] = null;
+        head = (head + 1) % CAPACITY;
+        size--;
+        return msg;
+    }
+
+    /**
+     * Removes every message.
+     */
+    public synchronized void clear() {
+        while (size > 0) {
+            messages[head] = null;
+            head = (head + 1) % CAPACITY;
+            size--;
+        }
+    }
+
+    /**
+     * @return The amount of messages held.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Adds a subscriber.
+     */
+    synchronized void subscribe() {
+        subscribers++;
+    }
+
+    /**
+     * Removes a subscriber.
+     *
+     * @return {@code true} if there are no subscribers left.
+     */
+    synchronized boolean unsubscribe() {
+        return --subscribers <= 0;
+    }
+}
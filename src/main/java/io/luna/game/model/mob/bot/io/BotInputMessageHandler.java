@@ -1,20 +1,26 @@
 package io.luna.game.model.mob.bot.io;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimap;
 import io.luna.game.model.mob.bot.Bot;
+import io.luna.net.msg.GameMessageWriter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A model responsible for managing input messages received by a {@link Bot} from the server.
+ * <p>
+ * Bots only keep the message types that something is waiting for. Scripts {@link #subscribe(Class)} to a writer type
+ * before reading its {@link BotInbox}, and {@link #unsubscribe(Class)} once they're done. Messages of every other type
+ * are dropped by the {@link BotClient} before they're queued, so memory per bot stays constant.
  *
  * @author lare96
  */
 public final class BotInputMessageHandler {
 
     /**
-     * A multimap of all messages received from the server, keyed by message class.
+     * The inboxes of subscribed writer types.
      */
-    private final Multimap<Class<?>, BotMessage<?>> received = ArrayListMultimap.create();
+    private final Map<Class<?>, BotInbox<?>> inboxes = new ConcurrentHashMap<>();
 
     /**
      * The bot.
@@ -31,19 +37,66 @@ public final class BotInputMessageHandler {
     }
 
     /**
-     * Adds a newly flushed message from the server to the internal multimap.
+     * Adds a newly flushed message from the server to the inbox of its type. Dropped if nothing is subscribed to it.
      *
      * @param msg The message to add. Must not be {@code null}.
      */
-    void add(BotMessage<?> msg) {
-        received.put(msg.getClass(), msg);
+    @SuppressWarnings("unchecked")
+    <T extends GameMessageWriter> void add(BotMessage<T> msg) {
+        BotInbox<T> inbox = (BotInbox<T>) inboxes.get(msg.getMessage().getClass());
+        if (inbox != null) {
+            inbox.add(msg);
+        }
+    }
+
+    /**
+     * Subscribes to messages of {@code type}. Every call must be paired with a call to {@link #unsubscribe(Class)}.
+     *
+     * @param type The writer type.
+     * @return The inbox of the writer type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends GameMessageWriter> BotInbox<T> subscribe(Class<T> type) {
+        BotInbox<T> inbox = (BotInbox<T>) inboxes.computeIfAbsent(type, key -> new BotInbox<>());
+        inbox.subscribe();
+        return inbox;
+    }
+
+    /**
+     * Unsubscribes from messages of {@code type}. The inbox is discarded once it has no subscribers left.
+     *
+     * @param type The writer type.
+     */
+    public void unsubscribe(Class<? extends GameMessageWriter> type) {
+        inboxes.computeIfPresent(type, (key, inbox) -> inbox.unsubscribe() ? null : inbox);
+    }
+
+    /**
+     * Determines if anything is subscribed to messages of {@code type}.
+     *
+     * @param type The writer type.
+     * @return {@code true} if messages of {@code type} are kept.
+     */
+    public boolean isSubscribed(Class<?> type) {
+        return inboxes.containsKey(type);
+    }
+
+    /**
+     * Returns the inbox of {@code type}.
+     *
+     * @param type The writer type.
+     * @return The inbox, or {@code null} if nothing is subscribed to {@code type}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends GameMessageWriter> BotInbox<T> getInbox(Class<T> type) {
+        return (BotInbox<T>) inboxes.get(type);
     }
 
     /**
-     * @return The internal multimap of received messages.
+     * @return The amount of subscribed writer types.
      */
-    public Multimap<Class<?>, BotMessage<?>> getReceived() {
-        return received;
+    public int getSubscriptionCount() {
+        return inboxes.size();
     }
 
     /**
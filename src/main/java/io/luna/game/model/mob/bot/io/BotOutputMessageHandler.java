@@ -1,6 +1,11 @@
 package io.luna.game.model.mob.bot.io;
 
 import com.google.common.collect.ImmutableList;
+import io.luna.game.event.impl.ButtonClickEvent;
+import io.luna.game.event.impl.CloseInterfaceEvent;
+import io.luna.game.event.impl.ContinueDialogueEvent;
+import io.luna.game.event.impl.NumberInputEvent;
+import io.luna.game.event.impl.UseItemEvent.ItemOnItemEvent;
 import io.luna.game.model.item.GroundItem;
 import io.luna.game.model.mob.Npc;
 import io.luna.game.model.mob.Player;
@@ -31,6 +36,8 @@ import io.luna.net.msg.in.PlayerClickMessageReader;
 import io.luna.net.msg.in.WidgetItemClickMessageReader;
 import io.luna.util.StringUtils;
 
+import java.util.function.BiFunction;
+
 /**
  * Handles all outgoing packets that a {@link Bot} can send to the game server.
  * <p>
@@ -38,8 +45,10 @@ import io.luna.util.StringUtils;
  * RuneScape client. All bot actions such as chatting, interacting with NPCs, clicking objects, and using items are
  * executed through this class.
  * <p>
- * Every method in this class builds a fully-formed {@link GameMessage} identical to what an authentic client would
- * send. These messages are then queued for transmission through {@link BotClient#queueSimulated(GameMessage)}.
+ * Every method in this class queues an intent through {@link BotClient#queueIntent(int, BiFunction)}, which creates the
+ * same event the matching reader would decode from an authentic client and submits it without any byte serialization.
+ * If {@link BotClient#isEncodingMessages()} is {@code true}, a fully-formed {@link GameMessage} is built instead and
+ * queued through {@link BotClient#queueSimulated(GameMessage)}, so that it goes through the readers' decoders.
  *
  * @author lare96
  */
@@ -138,6 +147,36 @@ public final class BotOutputMessageHandler {
         }
     }
 
+    /**
+     * The opcodes of the {@link PlayerClickMessageReader} packets, by option.
+     */
+    private static final int[] PLAYER_CLICK_OPCODES = {245, 233, 194, 116, 45};
+
+    /**
+     * The opcodes of the {@link GroundItemClickMessageReader} packets, by option.
+     */
+    private static final int[] GROUND_ITEM_CLICK_OPCODES = {71, 54};
+
+    /**
+     * The opcodes of the {@link ItemClickMessageReader} packets, by option.
+     */
+    private static final int[] ITEM_CLICK_OPCODES = {203, 24, 161, 228, 4};
+
+    /**
+     * The opcodes of the {@link WidgetItemClickMessageReader} packets, by option.
+     */
+    private static final int[] WIDGET_ITEM_CLICK_OPCODES = {3, 177, 91, 231, 158};
+
+    /**
+     * The opcodes of the {@link NpcClickMessageReader} packets, by option.
+     */
+    private static final int[] NPC_CLICK_OPCODES = {112, 13, 67, 42, 8};
+
+    /**
+     * The opcodes of the {@link ObjectClickMessageReader} packets, by option.
+     */
+    private static final int[] OBJECT_CLICK_OPCODES = {181, 241, 50};
+
     /**
      * The bot.
      */
@@ -164,8 +203,13 @@ public final class BotOutputMessageHandler {
      * @return {@code true} if successfully queued.
      */
     public boolean sendCloseInterface() {
-        ByteMessage msg = ByteMessage.raw();
-        client.queueSimulated(new GameMessage(110, MessageType.FIXED, msg));
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            client.queueSimulated(new GameMessage(110, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(110, (CloseInterfaceMessageReader reader, Player player) ->
+                    new CloseInterfaceEvent(player));
+        }
         return true;
     }
 
@@ -189,16 +233,25 @@ public final class BotOutputMessageHandler {
             bot.log("Invalid appearance data.");
             return false;
         }
-        ByteMessage msg = ByteMessage.raw();
-        int index = 0;
-        msg.put(appearance[index++]);
-        for (int i = 0; i < 7; i++) {
-            msg.put(appearance[index++]);
-        }
-        for (int i = 0; i < 5; i++) {
-            msg.put(appearance[index++]);
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            for (int value : appearance) {
+                msg.put(value);
+            }
+            client.queueSimulated(new GameMessage(163, MessageType.FIXED, msg));
+        } else {
+            int gender = appearance[0];
+            byte[] models = new byte[7];
+            byte[] colors = new byte[5];
+            for (int i = 0; i < models.length; i++) {
+                models[i] = (byte) appearance[1 + i];
+            }
+            for (int i = 0; i < colors.length; i++) {
+                colors[i] = (byte) appearance[8 + i];
+            }
+            client.queueIntent(163, (DesignPlayerMessageReader reader, Player player) ->
+                    reader.createEvent(player, gender, models, colors));
         }
-        client.queueSimulated(new GameMessage(163, MessageType.FIXED, msg));
         return true;
     }
 
@@ -220,36 +273,27 @@ public final class BotOutputMessageHandler {
         }
 
         int index = targetPlayer.getIndex();
-        ByteMessage msg = ByteMessage.raw();
-        int opcode = -1;
-
-        switch (option) {
-            case 1:
-                msg.putShort(index, ByteOrder.LITTLE, ValueType.ADD);
-                opcode = 245;
-                break;
-            case 2:
-                msg.putShort(index, ValueType.ADD);
-                opcode = 233;
-                break;
-            case 3:
-                msg.putShort(index, ByteOrder.LITTLE);
-                opcode = 194;
-                break;
-            case 4:
-                msg.putShort(index, ByteOrder.LITTLE);
-                opcode = 116;
-                break;
-            case 5:
-                msg.putShort(index, ValueType.ADD);
-                opcode = 45;
-                break;
-            default:
-                bot.log("Unhandled player interaction option: " + option);
-                return false;
-        }
-
-        client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        int opcode = PLAYER_CLICK_OPCODES[option - 1];
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            switch (option) {
+                case 1:
+                    msg.putShort(index, ByteOrder.LITTLE, ValueType.ADD);
+                    break;
+                case 2:
+                case 5:
+                    msg.putShort(index, ValueType.ADD);
+                    break;
+                case 3:
+                case 4:
+                    msg.putShort(index, ByteOrder.LITTLE);
+                    break;
+            }
+            client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(opcode, (PlayerClickMessageReader reader, Player player) ->
+                    reader.createEvent(player, opcode, index));
+        }
         return true;
     }
 
@@ -273,29 +317,26 @@ public final class BotOutputMessageHandler {
         int x = targetItem.getPosition().getX();
         int y = targetItem.getPosition().getY();
         int id = targetItem.getId();
-
-        ByteMessage msg = ByteMessage.raw();
-        int opcode = -1;
-
-        switch (option) {
-            case 1:
-                msg.putShort(id, ByteOrder.LITTLE, ValueType.ADD);
-                msg.putShort(x, ByteOrder.LITTLE, ValueType.ADD);
-                msg.putShort(y, ValueType.ADD);
-                opcode = 71;
-                break;
-            case 2:
-                msg.putShort(id, ValueType.ADD);
-                msg.putShort(y, ByteOrder.LITTLE);
-                msg.putShort(x);
-                opcode = 54;
-                break;
-            default:
-                bot.log("Unhandled ground item option: " + option);
-                return false;
-        }
-
-        client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        int opcode = GROUND_ITEM_CLICK_OPCODES[option - 1];
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            switch (option) {
+                case 1:
+                    msg.putShort(id, ByteOrder.LITTLE, ValueType.ADD);
+                    msg.putShort(x, ByteOrder.LITTLE, ValueType.ADD);
+                    msg.putShort(y, ValueType.ADD);
+                    break;
+                case 2:
+                    msg.putShort(id, ValueType.ADD);
+                    msg.putShort(y, ByteOrder.LITTLE);
+                    msg.putShort(x);
+                    break;
+            }
+            client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(opcode, (GroundItemClickMessageReader reader, Player player) ->
+                    reader.createEvent(player, opcode, id, x, y));
+        }
         return true;
     }
 
@@ -305,9 +346,14 @@ public final class BotOutputMessageHandler {
      * @return {@code true} if successfully queued, otherwise {@code false}.
      */
     public boolean sendContinueDialogue() {
-        ByteMessage msg = ByteMessage.raw();
-        msg.putShort(0);
-        client.queueSimulated(new GameMessage(226, MessageType.FIXED, msg));
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            msg.putShort(0);
+            client.queueSimulated(new GameMessage(226, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(226, (ContinueDialogueMessageReader reader, Player player) ->
+                    new ContinueDialogueEvent(player, 0));
+        }
         return true;
     }
 
@@ -325,46 +371,41 @@ public final class BotOutputMessageHandler {
             return false;
         }
 
-        ByteMessage msg = ByteMessage.raw();
-        int opcode = -1;
-
-        switch (option) {
-            case 1:
-                msg.putShort(3214, ValueType.ADD);
-                msg.putShort(index, ByteOrder.LITTLE);
-                msg.putShort(itemId, ByteOrder.LITTLE);
-                opcode = 203;
-                break;
-            case 2:
-                msg.putShort(3214, ByteOrder.LITTLE);
-                msg.putShort(itemId, ByteOrder.LITTLE);
-                msg.putShort(index, ValueType.ADD);
-                opcode = 24;
-                break;
-            case 3:
-                msg.putShort(itemId, ValueType.ADD);
-                msg.putShort(index, ByteOrder.LITTLE, ValueType.ADD);
-                msg.putShort(3214, ByteOrder.LITTLE, ValueType.ADD);
-                opcode = 161;
-                break;
-            case 4:
-                msg.putShort(index, ByteOrder.LITTLE);
-                msg.putShort(itemId, ValueType.ADD);
-                msg.putShort(3214);
-                opcode = 228;
-                break;
-            case 5:
-                msg.putShort(itemId, ValueType.ADD);
-                msg.putShort(3214);
-                msg.putShort(index, ValueType.ADD);
-                opcode = 4;
-                break;
-            default:
-                bot.log("Unhandled inventory item option: " + option);
-                return false;
-        }
-
-        client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        int opcode = ITEM_CLICK_OPCODES[option - 1];
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            switch (option) {
+                case 1:
+                    msg.putShort(3214, ValueType.ADD);
+                    msg.putShort(index, ByteOrder.LITTLE);
+                    msg.putShort(itemId, ByteOrder.LITTLE);
+                    break;
+                case 2:
+                    msg.putShort(3214, ByteOrder.LITTLE);
+                    msg.putShort(itemId, ByteOrder.LITTLE);
+                    msg.putShort(index, ValueType.ADD);
+                    break;
+                case 3:
+                    msg.putShort(itemId, ValueType.ADD);
+                    msg.putShort(index, ByteOrder.LITTLE, ValueType.ADD);
+                    msg.putShort(3214, ByteOrder.LITTLE, ValueType.ADD);
+                    break;
+                case 4:
+                    msg.putShort(index, ByteOrder.LITTLE);
+                    msg.putShort(itemId, ValueType.ADD);
+                    msg.putShort(3214);
+                    break;
+                case 5:
+                    msg.putShort(itemId, ValueType.ADD);
+                    msg.putShort(3214);
+                    msg.putShort(index, ValueType.ADD);
+                    break;
+            }
+            client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(opcode, (ItemClickMessageReader reader, Player player) ->
+                    reader.createEvent(player, opcode, itemId, index, 3214));
+        }
         return true;
     }
 
@@ -382,41 +423,41 @@ public final class BotOutputMessageHandler {
             bot.log("Invalid widget item click option: " + option);
             return false;
         }
-        ByteMessage msg = ByteMessage.raw();
-        int opcode = -1;
-        switch (option) {
-            case 1:
-                msg.putShort(itemId, ValueType.ADD);
-                msg.putShort(widgetId);
-                msg.putShort(widgetIndex);
-                opcode = 3;
-                break;
-            case 2:
-                msg.putShort(widgetIndex, ValueType.ADD);
-                msg.putShort(itemId, ByteOrder.LITTLE);
-                msg.putShort(widgetId, ByteOrder.LITTLE);
-                opcode = 177;
-                break;
-            case 3:
-                msg.putShort(itemId, ByteOrder.LITTLE);
-                msg.putShort(widgetIndex, ByteOrder.LITTLE, ValueType.ADD);
-                msg.putShort(widgetId);
-                opcode = 91;
-                break;
-            case 4:
-                msg.putShort(widgetId, ByteOrder.LITTLE, ValueType.ADD);
-                msg.putShort(widgetIndex, ByteOrder.LITTLE);
-                msg.putShort(itemId);
-                opcode = 231;
-                break;
-            case 5:
-                msg.putShort(widgetIndex, ByteOrder.LITTLE, ValueType.ADD);
-                msg.putShort(itemId, ByteOrder.LITTLE, ValueType.ADD);
-                msg.putShort(widgetId, ByteOrder.LITTLE);
-                opcode = 158;
-                break;
-        }
-        client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        int opcode = WIDGET_ITEM_CLICK_OPCODES[option - 1];
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            switch (option) {
+                case 1:
+                    msg.putShort(itemId, ValueType.ADD);
+                    msg.putShort(widgetId);
+                    msg.putShort(widgetIndex);
+                    break;
+                case 2:
+                    msg.putShort(widgetIndex, ValueType.ADD);
+                    msg.putShort(itemId, ByteOrder.LITTLE);
+                    msg.putShort(widgetId, ByteOrder.LITTLE);
+                    break;
+                case 3:
+                    msg.putShort(itemId, ByteOrder.LITTLE);
+                    msg.putShort(widgetIndex, ByteOrder.LITTLE, ValueType.ADD);
+                    msg.putShort(widgetId);
+                    break;
+                case 4:
+                    msg.putShort(widgetId, ByteOrder.LITTLE, ValueType.ADD);
+                    msg.putShort(widgetIndex, ByteOrder.LITTLE);
+                    msg.putShort(itemId);
+                    break;
+                case 5:
+                    msg.putShort(widgetIndex, ByteOrder.LITTLE, ValueType.ADD);
+                    msg.putShort(itemId, ByteOrder.LITTLE, ValueType.ADD);
+                    msg.putShort(widgetId, ByteOrder.LITTLE);
+                    break;
+            }
+            client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(opcode, (WidgetItemClickMessageReader reader, Player player) ->
+                    reader.createEvent(player, opcode, widgetIndex, widgetId, itemId));
+        }
         return true;
     }
 
@@ -431,9 +472,15 @@ public final class BotOutputMessageHandler {
             bot.log("Cannot send empty command.");
             return false;
         }
-        ByteMessage msg = ByteMessage.raw();
-        msg.putString(commandWithArgs.replace("::", ""));
-        client.queueSimulated(new GameMessage(56, MessageType.VAR, msg));
+        String command = commandWithArgs.replace("::", "");
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            msg.putString(command);
+            client.queueSimulated(new GameMessage(56, MessageType.VAR, msg));
+        } else {
+            client.queueIntent(56, (CommandMessageReader reader, Player player) ->
+                    reader.createEvent(player, command));
+        }
         return true;
     }
 
@@ -455,40 +502,34 @@ public final class BotOutputMessageHandler {
         }
 
         int index = localNpc.getIndex();
-        ByteMessage msg = ByteMessage.raw();
-        int opcode = -1;
-
-        switch (option) {
-            case 1:
-                msg.putShort(index, ByteOrder.LITTLE);
-                opcode = 112;
-                break;
-            case 2:
-                msg.putShort(index, ByteOrder.LITTLE, ValueType.ADD);
-                opcode = 13;
-                break;
-            case 3:
-                msg.putShort(index, ValueType.ADD);
-                opcode = 67;
-                break;
-            case 4:
-                msg.putShort(index, ByteOrder.LITTLE);
-                opcode = 42;
-                break;
-            case 5:
-                msg.putShort(index, ByteOrder.LITTLE);
-                opcode = 8;
-                break;
-        }
-
-        client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        int opcode = NPC_CLICK_OPCODES[option - 1];
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            switch (option) {
+                case 1:
+                case 4:
+                case 5:
+                    msg.putShort(index, ByteOrder.LITTLE);
+                    break;
+                case 2:
+                    msg.putShort(index, ByteOrder.LITTLE, ValueType.ADD);
+                    break;
+                case 3:
+                    msg.putShort(index, ValueType.ADD);
+                    break;
+            }
+            client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(opcode, (NpcClickMessageReader reader, Player player) ->
+                    reader.createEvent(player, opcode, index));
+        }
         return true;
     }
 
     /**
      * Sends one of the {@link ObjectClickMessageReader} packets.
      *
-     * @param option The interaction option, between 1-5.
+     * @param option The interaction option, between 1-3.
      * @param localObject The target npc.
      * @return {@code true} if successfully sent.
      */
@@ -504,30 +545,31 @@ public final class BotOutputMessageHandler {
         int x = localObject.getPosition().getX();
         int y = localObject.getPosition().getY();
         int id = localObject.getId();
-
-        ByteMessage msg = ByteMessage.raw();
-        int opcode = -1;
-        switch (option) {
-            case 1:
-                msg.putShort(x, ValueType.ADD);
-                msg.putShort(y, ByteOrder.LITTLE);
-                msg.putShort(id, ByteOrder.LITTLE);
-                opcode = 181;
-                break;
-            case 2:
-                msg.putShort(id);
-                msg.putShort(x);
-                msg.putShort(y, ValueType.ADD);
-                opcode = 241;
-                break;
-            case 3:
-                msg.putShort(x, ByteOrder.LITTLE);
-                msg.putShort(y);
-                msg.putShort(id, ByteOrder.LITTLE, ValueType.ADD);
-                opcode = 50;
-                break;
-        }
-        client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        int opcode = OBJECT_CLICK_OPCODES[option - 1];
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            switch (option) {
+                case 1:
+                    msg.putShort(x, ValueType.ADD);
+                    msg.putShort(y, ByteOrder.LITTLE);
+                    msg.putShort(id, ByteOrder.LITTLE);
+                    break;
+                case 2:
+                    msg.putShort(id);
+                    msg.putShort(x);
+                    msg.putShort(y, ValueType.ADD);
+                    break;
+                case 3:
+                    msg.putShort(x, ByteOrder.LITTLE);
+                    msg.putShort(y);
+                    msg.putShort(id, ByteOrder.LITTLE, ValueType.ADD);
+                    break;
+            }
+            client.queueSimulated(new GameMessage(opcode, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(opcode, (ObjectClickMessageReader reader, Player player) ->
+                    reader.createEvent(player, opcode, x, y, id));
+        }
         return true;
     }
 
@@ -548,11 +590,17 @@ public final class BotOutputMessageHandler {
         ByteMessage textMsg = ByteMessage.raw();
         try {
             StringUtils.packText(text, textMsg);
-            ByteMessage msg = ByteMessage.raw();
-            msg.put(color.getId(), ValueType.NEGATE);
-            msg.put(effect.getId(), ValueType.ADD);
-            msg.putBytes(textMsg);
-            client.queueSimulated(new GameMessage(49, MessageType.VAR, msg));
+            if (client.isEncodingMessages()) {
+                ByteMessage msg = ByteMessage.raw();
+                msg.put(color.getId(), ValueType.NEGATE);
+                msg.put(effect.getId(), ValueType.ADD);
+                msg.putBytes(textMsg);
+                client.queueSimulated(new GameMessage(49, MessageType.VAR, msg));
+            } else {
+                byte[] message = textMsg.getBytes(textMsg.getBuffer().readableBytes());
+                client.queueIntent(49, (ChatMessageReader reader, Player player) ->
+                        reader.createEvent(player, color.getId(), effect.getId(), message));
+            }
             return true;
         } catch (Exception e) {
             bot.log("Failed to send chat: " + e.getMessage());
@@ -579,9 +627,14 @@ public final class BotOutputMessageHandler {
      * @return {@code true} if successfully queued.
      */
     public boolean clickButton(int buttonId) {
-        ByteMessage msg = ByteMessage.raw();
-        msg.putShort(buttonId);
-        client.queueSimulated(new GameMessage(79, MessageType.FIXED, msg));
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            msg.putShort(buttonId);
+            client.queueSimulated(new GameMessage(79, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(79, (ButtonClickMessageReader reader, Player player) ->
+                    new ButtonClickEvent(player, buttonId));
+        }
         return true;
     }
 
@@ -601,9 +654,14 @@ public final class BotOutputMessageHandler {
      * @return {@code true} if successfully queued.
      */
     public boolean enterAmount(int amount) {
-        ByteMessage msg = ByteMessage.raw();
-        msg.putInt(amount);
-        client.queueSimulated(new GameMessage(75, MessageType.FIXED, msg));
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            msg.putInt(amount);
+            client.queueSimulated(new GameMessage(75, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(75, (NumberInputMessageReader reader, Player player) ->
+                    new NumberInputEvent(player, amount));
+        }
         return true;
     }
 
@@ -617,14 +675,20 @@ public final class BotOutputMessageHandler {
      * @return {@code true} if successfully sent.
      */
     public boolean useItemOnItem(int targetInventoryIndex, int usedInventoryIndex, int targetId, int usedId) {
-        ByteMessage msg = ByteMessage.raw();
-        msg.putShort(targetId);
-        msg.putShort(usedInventoryIndex, ByteOrder.LITTLE);
-        msg.putShort(usedId, ByteOrder.LITTLE);
-        msg.putShort(3214, ByteOrder.LITTLE, ValueType.ADD);
-        msg.putShort(targetInventoryIndex, ValueType.ADD);
-        msg.putShort(3214, ValueType.ADD);
-        client.queueSimulated(new GameMessage(1, MessageType.FIXED, msg));
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            msg.putShort(targetId);
+            msg.putShort(usedInventoryIndex, ByteOrder.LITTLE);
+            msg.putShort(usedId, ByteOrder.LITTLE);
+            msg.putShort(3214, ByteOrder.LITTLE, ValueType.ADD);
+            msg.putShort(targetInventoryIndex, ValueType.ADD);
+            msg.putShort(3214, ValueType.ADD);
+            client.queueSimulated(new GameMessage(1, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(1, (ItemOnItemMessageReader reader, Player player) ->
+                    new ItemOnItemEvent(player, usedId, targetId, usedInventoryIndex, targetInventoryIndex, 3214,
+                            3214));
+        }
         return true;
     }
 
@@ -642,12 +706,18 @@ public final class BotOutputMessageHandler {
             return false;
         }
 
-        ByteMessage msg = ByteMessage.raw();
-        msg.putShort(targetNpc.getIndex());
-        msg.putShort(usedId, ByteOrder.LITTLE);
-        msg.putShort(3214, ByteOrder.LITTLE, ValueType.ADD);
-        msg.putShort(usedInventoryIndex);
-        client.queueSimulated(new GameMessage(57, MessageType.FIXED, msg));
+        int npcIndex = targetNpc.getIndex();
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            msg.putShort(npcIndex);
+            msg.putShort(usedId, ByteOrder.LITTLE);
+            msg.putShort(3214, ByteOrder.LITTLE, ValueType.ADD);
+            msg.putShort(usedInventoryIndex);
+            client.queueSimulated(new GameMessage(57, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(57, (ItemOnNpcMessageReader reader, Player player) ->
+                    reader.createEvent(player, usedId, usedInventoryIndex, 3214, npcIndex));
+        }
         return true;
     }
 
@@ -665,12 +735,18 @@ public final class BotOutputMessageHandler {
             return false;
         }
 
-        ByteMessage msg = ByteMessage.raw();
-        msg.putShort(usedId, ByteOrder.LITTLE);
-        msg.putShort(usedInventoryIndex, ByteOrder.LITTLE, ValueType.ADD);
-        msg.putShort(3214);
-        msg.putShort(targetPlayer.getIndex(), ValueType.ADD);
-        client.queueSimulated(new GameMessage(143, MessageType.FIXED, msg));
+        int playerIndex = targetPlayer.getIndex();
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            msg.putShort(usedId, ByteOrder.LITTLE);
+            msg.putShort(usedInventoryIndex, ByteOrder.LITTLE, ValueType.ADD);
+            msg.putShort(3214);
+            msg.putShort(playerIndex, ValueType.ADD);
+            client.queueSimulated(new GameMessage(143, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(143, (ItemOnPlayerMessageReader reader, Player player) ->
+                    reader.createEvent(player, usedId, usedInventoryIndex, 3214, playerIndex));
+        }
         return true;
     }
 
@@ -687,14 +763,22 @@ public final class BotOutputMessageHandler {
             bot.log("Cannot use item on null object.");
             return false;
         }
-        ByteMessage msg = ByteMessage.raw();
-        msg.putShort(targetObject.getId(), ByteOrder.LITTLE);
-        msg.putShort(3214, ByteOrder.LITTLE);
-        msg.putShort(usedId, ByteOrder.LITTLE);
-        msg.putShort(targetObject.getPosition().getY(), ByteOrder.LITTLE);
-        msg.putShort(usedInventoryIndex);
-        msg.putShort(targetObject.getPosition().getX(), ByteOrder.LITTLE, ValueType.ADD);
-        client.queueSimulated(new GameMessage(152, MessageType.FIXED, msg));
+        int x = targetObject.getPosition().getX();
+        int y = targetObject.getPosition().getY();
+        int id = targetObject.getId();
+        if (client.isEncodingMessages()) {
+            ByteMessage msg = ByteMessage.raw();
+            msg.putShort(id, ByteOrder.LITTLE);
+            msg.putShort(3214, ByteOrder.LITTLE);
+            msg.putShort(usedId, ByteOrder.LITTLE);
+            msg.putShort(y, ByteOrder.LITTLE);
+            msg.putShort(usedInventoryIndex);
+            msg.putShort(x, ByteOrder.LITTLE, ValueType.ADD);
+            client.queueSimulated(new GameMessage(152, MessageType.FIXED, msg));
+        } else {
+            client.queueIntent(152, (ItemOnObjectMessageReader reader, Player player) ->
+                    reader.createEvent(player, usedId, usedInventoryIndex, 3214, x, y, id));
+        }
         return true;
     }
 }
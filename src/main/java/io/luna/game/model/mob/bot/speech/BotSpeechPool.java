@@ -4,19 +4,18 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Table;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import io.luna.game.model.mob.bot.Bot;
 import io.luna.util.GsonUtils;
 import io.luna.util.RandomUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.BufferedReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -82,20 +81,25 @@ public class BotSpeechPool<T extends Enum<T>> {
     }
 
     /**
-     * Loads the speech pool into memory.
+     * Loads the speech pool into memory. The file is streamed, so phrases are stored as they're read.
      */
     public final void load() {
-        try (BufferedReader br = Files.newBufferedReader(path)) {
-            JsonObject object = GsonUtils.GSON.fromJson(br, JsonObject.class);
-            for (Entry<String, JsonElement> entry : object.entrySet()) {
-                T value = Enum.valueOf(enumType, entry.getKey());
-                JsonElement arrayElement = object.get(value.name());
-                if (arrayElement != null && !arrayElement.isJsonNull()) {
-                    for (JsonElement phraseElement : arrayElement.getAsJsonArray()) {
-                        pool.put(value, phraseElement.getAsString());
-                    }
+        try (JsonReader reader = GsonUtils.GSON.newJsonReader(Files.newBufferedReader(path))) {
+            reader.setStrictness(Strictness.LENIENT); // Allow comments.
+            reader.beginObject();
+            while (reader.hasNext()) {
+                T value = Enum.valueOf(enumType, reader.nextName());
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
                 }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    pool.put(value, reader.nextString());
+                }
+                reader.endArray();
             }
+            reader.endObject();
         } catch (Exception e) {
             logger.catching(e);
         }
@@ -1,9 +1,11 @@
 package io.luna.game.model.mob.movement;
 
 import io.luna.game.model.Position;
+import io.luna.game.model.collision.CollisionManager;
 import io.luna.game.model.mob.Mob;
 import io.luna.game.model.path.BotPathfinder;
 import io.luna.game.model.path.GamePathfinder;
+import io.luna.game.model.path.HierarchicalPathfinder;
 import io.luna.game.model.path.PlayerPathfinder;
 import io.luna.game.model.path.SimplePathfinder;
 
@@ -25,9 +27,13 @@ public enum PathfinderType {
     PLAYER(mob -> new PlayerPathfinder(mob.getWorld().getCollisionManager(), mob.getZ())),
 
     /**
-     * A bot-specific pathfinder that uses collision data and the mob's current height level.
+     * A bot-specific pathfinder that uses collision data and the mob's current height level. Long journeys are routed
+     * over chunk border portals.
      */
-    BOT(mob -> new BotPathfinder(mob.getWorld().getCollisionManager(), mob.getZ())),
+    BOT(mob -> {
+        CollisionManager collisionManager = mob.getWorld().getCollisionManager();
+        return new HierarchicalPathfinder(collisionManager, new BotPathfinder(collisionManager, mob.getZ()));
+    }),
 
     /**
      * A simple pathfinder that uses collision data without height-level specific setup.
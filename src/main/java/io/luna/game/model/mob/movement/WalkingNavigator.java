@@ -13,6 +13,7 @@ import io.luna.game.model.mob.interact.InteractionPolicy;
 import io.luna.game.model.mob.interact.InteractionType;
 import io.luna.game.model.path.BotPathfinder;
 import io.luna.game.model.path.GamePathfinder;
+import io.luna.game.model.path.HierarchicalPathfinder;
 import io.luna.game.model.path.PathResult;
 import io.luna.game.model.path.PathResultType;
 import io.luna.game.model.path.PlayerPathfinder;
@@ -391,7 +392,8 @@ public class WalkingNavigator {
     /**
      * Selects the default pathfinder for this mob.
      * <ul>
-     *     <li>{@link Bot} mobs use {@link BotPathfinder}.</li>
+     *     <li>{@link Bot} mobs use {@link BotPathfinder}, routed over portals by {@link HierarchicalPathfinder} for
+     *     long journeys.</li>
      *     <li>{@link Player} mobs use {@link PlayerPathfinder}.</li>
      *     <li>All other mobs use {@link SimplePathfinder}.</li>
      * </ul>
@@ -401,7 +403,7 @@ public class WalkingNavigator {
     GamePathfinder<Position> getDefaultPathfinder() {
         int plane = mob.getPosition().getZ();
         if (mob instanceof Bot) {
-            return new BotPathfinder(collisionManager, plane);
+            return new HierarchicalPathfinder(collisionManager, new BotPathfinder(collisionManager, plane));
         } else if (mob instanceof Player) {
             return new PlayerPathfinder(collisionManager, plane);
         } else {
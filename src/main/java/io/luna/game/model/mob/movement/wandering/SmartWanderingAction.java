@@ -2,11 +2,10 @@ package io.luna.game.model.mob.movement.wandering;
 
 import io.luna.LunaContext;
 import io.luna.game.GameService;
-import io.luna.game.cache.map.MapIndex;
-import io.luna.game.cache.map.MapIndexTable;
-import io.luna.game.cache.map.MapTile;
 import io.luna.game.model.Position;
 import io.luna.game.model.area.Area;
+import io.luna.game.model.collision.CollisionManager;
+import io.luna.game.model.collision.ReachabilityIndex;
 import io.luna.game.model.mob.Mob;
 import io.luna.game.model.path.AStarPathfinder;
 import io.luna.game.model.path.PlayerPathfinder;
@@ -23,7 +22,7 @@ import java.util.function.Supplier;
  * A "smart" {@link WanderingAction} that moves a {@link Mob} around an {@link Area} by:
  * <ul>
  *     <li>Pre-sampling random destinations inside the wander area.</li>
- *     <li>Filtering out obviously invalid tiles (water/blocked tiles from cache + collision blocked tiles).</li>
+ *     <li>Filtering out tiles that can't be reached from the mob's position, or are blocked.</li>
  *     <li>Asynchronously pathfinding to the chosen destination.</li>
  *     <li>Queueing the resulting path in small randomized slices to spread movement over time.</li>
  * </ul>
@@ -109,8 +108,8 @@ public final class SmartWanderingAction extends WanderingAction {
      * Populates {@link #destinations} by sampling random positions within {@link #area} and filtering out tiles that
      * are:
      * <ul>
-     *     <li>Missing map index/tile data (safety guard).</li>
-     *     <li>Water or blocked according to {@link MapTile} flags.</li>
+     *     <li>Unreachable from the mob's position according to the {@link ReachabilityIndex}. This also covers tiles
+     *     without map data, and water or otherwise blocked tiles.</li>
      *     <li>Blocked according to the live collision matrix.</li>
      * </ul>
      *
@@ -120,22 +119,17 @@ public final class SmartWanderingAction extends WanderingAction {
      * </p>
      */
     private void populateDestinationQueue() {
-        MapIndexTable indexTable = world.getContext().getCache().getMapIndexTable();
+        CollisionManager collisionManager = world.getCollisionManager();
+        ReachabilityIndex reachability = collisionManager.getReachability();
+        Position origin = mob.getPosition();
         for (int loop = 0; loop < 50; loop++) {
             Position nextPosition = area.randomPosition();
-
-            // Resolve the region's map index, then tile grid, then tile at the chosen position.
-            MapIndex index = indexTable.getIndexTable().get(nextPosition.getRegion());
-            if (index == null) {
-                continue;
-            }
-            MapTile tile = indexTable.getTileSet().getGrid(index).getTile(nextPosition);
-            if (tile == null || tile.isBlocked()) {
+            if (!reachability.isReachable(origin, nextPosition)) {
                 continue;
             }
 
             // Live collision filter (helps avoid picking tiles inside dynamic/static blockage).
-            if (!world.getCollisionManager().isBlocked(nextPosition, false)) {
+            if (!collisionManager.isBlocked(nextPosition, false)) {
                 destinations.add(nextPosition);
             }
         }
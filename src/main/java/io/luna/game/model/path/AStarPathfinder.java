@@ -4,15 +4,12 @@ import io.luna.game.model.Direction;
 import io.luna.game.model.Locatable;
 import io.luna.game.model.Position;
 import io.luna.game.model.collision.CollisionManager;
+import io.luna.game.model.collision.CollisionView;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
-import java.util.Set;
 
 /**
  * A {@link GamePathfinder} implementation that uses the A* search algorithm to find a path.
@@ -21,7 +18,7 @@ import java.util.Set;
  * </p>
  *
  * <ul>
- *     <li>Defining traversability rules via {@link #isTraversable(Locatable, Locatable, Direction)}.</li>
+ *     <li>Defining traversability rules via {@link #isTraversable(Locatable, Direction)}.</li>
  *     <li>Creating neighbor locatables via {@link #createNeighbor(int, int)}.</li>
  *     <li>Providing a {@link Heuristic} via {@link #getHeuristic()}.</li>
  * </ul>
@@ -31,6 +28,129 @@ import java.util.Set;
  */
 public abstract class AStarPathfinder<T extends Locatable> extends GamePathfinder<T> {
 
+    /**
+     * An open addressing table of the nodes discovered by a search, keyed by their packed coordinates. Searches
+     * discover tens of thousands of nodes, and a primitive key avoids hashing a locatable and boxing an entry for
+     * each of them.
+     *
+     * @param <T> The locatable type of the nodes.
+     */
+    private static final class NodeTable<T extends Locatable> {
+
+        /**
+         * The initial capacity, a power of two.
+         */
+        private static final int INITIAL_CAPACITY = 1024;
+
+        /**
+         * The packed coordinates of every slot.
+         */
+        private int[] keys = new int[INITIAL_CAPACITY];
+
+        /**
+         * The node of every slot, or {@code null} if the slot is empty.
+         */
+        private Node<T>[] values = newArray(INITIAL_CAPACITY);
+
+        /**
+         * The amount of nodes.
+         */
+        private int size;
+
+        /**
+         * Retrieves the node at {@code x}, {@code y}.
+         *
+         * @param x The x coordinate.
+         * @param y The y coordinate.
+         * @return The node, or {@code null} if none has been added.
+         */
+        private Node<T> get(int x, int y) {
+            int key = Position.pack(x, y, 0);
+            int mask = keys.length - 1;
+            for (int index = mix(key) & mask; values[index] != null; index = (index + 1) & mask) {
+                if (keys[index] == key) {
+                    return values[index];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds a node. There must not already be a node at its coordinates.
+         *
+         * @param node The node.
+         */
+        private void add(Node<T> node) {
+            if (++size > keys.length >> 1) {
+                grow();
+            }
+            T locatable = node.getLocatable();
+            insert(keys, values, Position.pack(locatable.getX(), locatable.getY(), 0), node);
+        }
+
+        /**
+         * Doubles the capacity, and reinserts every node.
+         */
+        private void grow() {
+            int[] oldKeys = keys;
+            Node<T>[] oldValues = values;
+            keys = new int[oldKeys.length << 1];
+            values = newArray(oldKeys.length << 1);
+            for (int index = 0; index < oldKeys.length; index++) {
+                if (oldValues[index] != null) {
+                    insert(keys, values, oldKeys[index], oldValues[index]);
+                }
+            }
+        }
+
+        /**
+         * Places a node in the first free slot for {@code key}.
+         *
+         * @param keys The packed coordinates of every slot.
+         * @param values The node of every slot.
+         * @param key The packed coordinates of the node.
+         * @param node The node.
+         */
+        private static <T extends Locatable> void insert(int[] keys, Node<T>[] values, int key, Node<T> node) {
+            int mask = keys.length - 1;
+            int index = mix(key) & mask;
+            while (values[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = node;
+        }
+
+        /**
+         * Spreads the bits of packed coordinates, so neighbouring tiles don't cluster into neighbouring slots.
+         *
+         * @param key The packed coordinates.
+         * @return The mixed hash.
+         */
+        private static int mix(int key) {
+            int hash = key * 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+
+        /**
+         * Creates a node array.
+         *
+         * @param length The length.
+         * @return The array.
+         */
+        @SuppressWarnings("unchecked")
+        private static <T extends Locatable> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node[length];
+        }
+
+        /**
+         * @return The amount of nodes.
+         */
+        private int size() {
+            return size;
+        }
+    }
+
     /**
      * Creates a new  {@link AStarPathfinder}.
      *
@@ -40,26 +160,50 @@ public abstract class AStarPathfinder<T extends Locatable> extends GamePathfinde
         super(collisionManager);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The search runs against a {@link CollisionView} pinned for its whole duration, so every step observes the same
+     * collision state regardless of how many chunks the search spans.
+     */
     @Override
-   public final PathResult<T> find(T origin, T target) {
+    public final PathResult<T> find(T origin, T target) {
+        try (CollisionView pinned = collisionManager.pin()) {
+            view = pinned;
+            return search(origin, target);
+        } finally {
+            view = null;
+        }
+    }
+
+    /**
+     * Runs the A* search from {@code origin} to {@code target}.
+     *
+     * @param origin The starting locatable.
+     * @param target The target locatable.
+     * @return The search result.
+     */
+    private PathResult<T> search(T origin, T target) {
         Heuristic heuristic = getHeuristic();
-        Map<T, Node<T>> nodes = new HashMap<>();
+        NodeTable<T> nodes = new NodeTable<>();
         Node<T> start = new Node<>(origin);
-        Node<T> end = new Node<>(target);
-        nodes.put(origin, start);
-        nodes.put(target, end);
+        nodes.add(start);
         Node<T> best = start;
         Position originAbs = origin.abs();
         Position targetAbs = target.abs();
         int bestDistance = originAbs.computeLongestDistance(targetAbs);
 
-        Set<Node<T>> open = new HashSet<>();
         Queue<Node<T>> sorted = new PriorityQueue<>();
-        open.add(start);
+        start.setOpen(true);
         sorted.add(start);
+        int open = 1;
         if (origin.equals(target)) {
             return new PathResult<>(PathResultType.EMPTY, new ArrayDeque<>(0));
         }
+        int minimumDistance = computeMinimumDistance(origin, target);
+        if (minimumDistance < 0) {
+            return new PathResult<>(PathResultType.FAILED, new ArrayDeque<>(0));
+        }
         do {
             if (nodes.size() >= 250_000) {
                 break;
@@ -80,7 +224,14 @@ public abstract class AStarPathfinder<T extends Locatable> extends GamePathfinde
                 Deque<T> path = buildPath(origin, active);
                 return new PathResult<>(PathResultType.COMPLETE, path);
             }
-            open.remove(active);
+            if (bestDistance <= minimumDistance) {
+                // No partial path can end any closer.
+                break;
+            }
+            if (active.isOpen()) {
+                active.setOpen(false);
+                open--;
+            }
             active.close();
 
             int x = locatable.getX();
@@ -95,19 +246,25 @@ public abstract class AStarPathfinder<T extends Locatable> extends GamePathfinde
                         continue;
                     }
 
-                    T adjacent = createNeighbor(nextX, nextY);
-                    if (adjacent == null) {
+                    // Check the step first, so blocked neighbours never create a locatable or a node.
+                    Direction direction = Direction.between(x, y, nextX, nextY);
+                    if (!isTraversable(locatable, direction)) {
                         continue;
                     }
 
-                    Direction direction = Direction.between(x, y, nextX, nextY);
-                    if (isTraversable(locatable, adjacent, direction)) {
-                        Node<T> neighbor = nodes.computeIfAbsent(adjacent, Node::new);
-                        compare(active, neighbor, open, sorted, heuristic);
+                    Node<T> neighbor = nodes.get(nextX, nextY);
+                    if (neighbor == null) {
+                        T adjacent = createNeighbor(nextX, nextY);
+                        if (adjacent == null) {
+                            continue;
+                        }
+                        neighbor = new Node<>(adjacent);
+                        nodes.add(neighbor);
                     }
+                    open += compare(active, neighbor, sorted, heuristic);
                 }
             }
-        } while (!open.isEmpty());
+        } while (open > 0);
         Deque<T> partial = buildPath(origin, best);
         if (!partial.isEmpty()) {
             return new PathResult<>(PathResultType.PARTIAL, partial);
@@ -133,14 +290,14 @@ public abstract class AStarPathfinder<T extends Locatable> extends GamePathfinde
     }
 
     /**
-     * Determines if a move from {@code locatable} to {@code adjacent} in the given {@code direction} is traversable.
-     * 
+     * Determines if a move from {@code locatable} in the given {@code direction} is traversable. This is checked
+     * before the neighboring locatable is created, so it must not depend on one.
+     *
      * @param locatable The current location.
-     * @param adjacent The candidate neighboring location.
      * @param direction The direction from the current location to the neighbor.
-     * @return {@code true} if movement to {@code adjacent} is allowed, otherwise {@code false}.
+     * @return {@code true} if the move is allowed, otherwise {@code false}.
      */
-    public abstract boolean isTraversable(T locatable, T adjacent, Direction direction);
+    public abstract boolean isTraversable(T locatable, Direction direction);
 
     /**
      * Returns the heuristic used for estimating costs between locatables.
@@ -158,6 +315,18 @@ public abstract class AStarPathfinder<T extends Locatable> extends GamePathfinde
      */
     public abstract T createNeighbor(int nextX, int nextY);
 
+    /**
+     * Computes how close to {@code target} a path from {@code origin} can end at best. The search stops as soon as it
+     * reaches a locatable that close, since expanding further can't produce a better partial path.
+     *
+     * @param origin The starting locatable.
+     * @param target The target locatable.
+     * @return The distance in tiles, or {@code -1} to fail without searching.
+     */
+    protected int computeMinimumDistance(T origin, T target) {
+        return 0;
+    }
+
     /**
      * Adjusts the heuristic estimate, allowing subclasses to globally bias or scale the values produced 
      * by {@link Heuristic#estimate(Locatable, Locatable)}.
@@ -171,32 +340,35 @@ public abstract class AStarPathfinder<T extends Locatable> extends GamePathfinde
 
     /**
      * Compares the specified neighbor {@link Node} to the active node, updating its cost and parent if a cheaper path
-     * is discovered, and adding it to the open sets as needed.
+     * is discovered, and opening it as needed.
      *
      * @param active The node currently being expanded.
      * @param neighbor The neighboring node being evaluated.
-     * @param open The set of open nodes.
      * @param sorted The priority queue ordered by node cost.
      * @param heuristic The heuristic used for estimating relative movement cost.
+     * @return The change in the amount of open nodes.
      */
-    private void compare(Node<T> active,
-                         Node<T> neighbor,
-                         Set<Node<T>> open,
-                         Queue<Node<T>> sorted,
-                         Heuristic heuristic) {
+    private int compare(Node<T> active,
+                        Node<T> neighbor,
+                        Queue<Node<T>> sorted,
+                        Heuristic heuristic) {
         int estimate = heuristic.estimate(active.getLocatable(), neighbor.getLocatable());
         estimate = adjustHeuristic(estimate);
         int cost = active.getCost() + estimate;
 
         if (neighbor.getCost() > cost) {
-            open.remove(neighbor);
+            boolean wasOpen = neighbor.isOpen();
+            neighbor.setOpen(false);
             neighbor.close();
-        } else if (!neighbor.isClosed() && !open.contains(neighbor)) {
+            return wasOpen ? -1 : 0;
+        } else if (!neighbor.isClosed() && !neighbor.isOpen()) {
             neighbor.setCost(cost);
             neighbor.setParent(active);
-            open.add(neighbor);
+            neighbor.setOpen(true);
             sorted.add(neighbor);
+            return 1;
         }
+        return 0;
     }
 
     /**
@@ -14,6 +14,9 @@ import java.util.concurrent.ThreadLocalRandom;
  * </ul>
  * The resulting paths remain valid but exhibit organic detours and varied shapes, preventing bots from all following
  * identical tile lines.
+ * <p>
+ * Bots don't settle for a partial path that can't even end next to the target, so those searches fail immediately
+ * rather than spending the node budget.
  *
  * @author lare96
  */
@@ -45,6 +48,11 @@ public final class BotPathfinder extends PlayerPathfinder {
         }
     }
 
+    @Override
+    protected boolean isDistantPathAccepted() {
+        return false;
+    }
+
     @Override
     public int adjustHeuristic(int estimate) {
         // TODO@1.0 Greater intelligence = less likely to deviate from their heuristic estimation.
@@ -6,6 +6,7 @@ import io.luna.game.model.Locatable;
 import io.luna.game.model.Position;
 import io.luna.game.model.Region;
 import io.luna.game.model.collision.CollisionManager;
+import io.luna.game.model.collision.CollisionView;
 
 import java.util.Deque;
 
@@ -27,6 +28,11 @@ public abstract class GamePathfinder<T extends Locatable> {
      */
     protected final CollisionManager collisionManager;
 
+    /**
+     * The collision view pinned for the current search, or {@code null} to read the latest snapshots.
+     */
+    protected CollisionView view;
+
     /**
      * Creates a new pathfinder instance.
      *
@@ -54,13 +60,21 @@ public abstract class GamePathfinder<T extends Locatable> {
      * for a player.
      * <p>
      * This is a convenience wrapper around the collision manager's traversability logic. It assumes the moving
-     * entity is a {@link EntityType#PLAYER} and performs a single-tile movement check.
+     * entity is a {@link EntityType#PLAYER} and performs a single-tile movement check. If a {@link #view} is pinned,
+     * the check reads from its epoch so the whole search observes one consistent collision state.
      *
      * @param current The current position.
      * @param direction The direction to test.
      * @return {@code true} if the movement is allowed, otherwise {@code false}.
      */
     protected boolean traversable(Position current, Direction direction) {
-        return collisionManager.traversable(current, EntityType.PLAYER, direction, true);
+        int x = current.getX();
+        int y = current.getY();
+        int z = current.getZ();
+        CollisionView pinned = view;
+        if (pinned != null) {
+            return pinned.traversable(x, y, z, EntityType.PLAYER, direction);
+        }
+        return collisionManager.traversable(x, y, z, EntityType.PLAYER, direction, true);
     }
 }
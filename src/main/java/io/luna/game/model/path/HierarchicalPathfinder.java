@@ -0,0 +1,64 @@
+package io.luna.game.model.path;
+
+import io.luna.game.model.Position;
+import io.luna.game.model.chunk.Chunk;
+import io.luna.game.model.collision.CollisionManager;
+import io.luna.game.model.collision.CollisionView;
+import io.luna.game.model.collision.PortalGraph;
+
+import java.util.Deque;
+
+/**
+ * A {@link GamePathfinder} that routes long paths over the {@link PortalGraph}, and leaves short ones to a tile level
+ * pathfinder.
+ * <p>
+ * A tile level search expands every tile it could reach within the length of the path, so its cost grows with the
+ * square of the distance, and journeys across several regions run into its node limit. Routing over chunk border
+ * portals instead only expands a handful of portals per chunk, and refines the route into tiles afterwards.
+ * <p>
+ * Searches that are short, that cross planes, or whose target isn't reachable are passed to the delegate unchanged,
+ * so partial paths toward unreachable targets behave exactly as before. The delegate is also used when no route
+ * over portals exists, which can happen when a target is only reachable through diagonal steps across a chunk corner.
+ *
+ * @author lare96
+ */
+public final class HierarchicalPathfinder extends GamePathfinder<Position> {
+
+    /**
+     * Paths no longer than this many tiles are searched by the delegate.
+     */
+    private static final int DIRECT_DISTANCE = Chunk.SIZE * 2;
+
+    /**
+     * The pathfinder used for short searches.
+     */
+    private final GamePathfinder<Position> delegate;
+
+    /**
+     * Creates a new {@link HierarchicalPathfinder}.
+     *
+     * @param collisionManager The collision manager.
+     * @param delegate The pathfinder used for short searches.
+     */
+    public HierarchicalPathfinder(CollisionManager collisionManager, GamePathfinder<Position> delegate) {
+        super(collisionManager);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public PathResult<Position> find(Position origin, Position target) {
+        if (origin.getZ() != target.getZ() || origin.computeLongestDistance(target) <= DIRECT_DISTANCE ||
+                !collisionManager.getReachability().isReachable(origin, target)) {
+            return delegate.find(origin, target);
+        }
+
+        Deque<Position> path;
+        try (CollisionView pinned = collisionManager.pin()) {
+            path = collisionManager.getPortalGraph().findPath(pinned, origin, target);
+        }
+        if (path == null) {
+            return delegate.find(origin, target);
+        }
+        return new PathResult<>(PathResultType.COMPLETE, path);
+    }
+}
@@ -28,6 +28,11 @@ final class Node<T extends Locatable> implements Comparable<Node<T>> {
      */
     private boolean closed;
 
+    /**
+     * Whether this node is waiting to be expanded by the search.
+     */
+    private boolean open;
+
     /**
      * The parent node in the discovered path, or {@code null} if this node has no parent.
      */
@@ -126,6 +131,24 @@ final class Node<T extends Locatable> implements Comparable<Node<T>> {
         return closed;
     }
 
+    /**
+     * Returns whether this node is waiting to be expanded by the search.
+     *
+     * @return {@code true} if this node is open, otherwise {@code false}.
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Sets whether this node is waiting to be expanded by the search.
+     *
+     * @param open The new value.
+     */
+    public void setOpen(boolean open) {
+        this.open = open;
+    }
+
     /**
      * Sets the cost associated with this node.
      *
@@ -3,6 +3,7 @@ package io.luna.game.model.path;
 import io.luna.game.model.Direction;
 import io.luna.game.model.Position;
 import io.luna.game.model.collision.CollisionManager;
+import io.luna.game.model.collision.ReachabilityIndex;
 
 /**
  * A deterministic {@link AStarPathfinder} implementation used for all player movement.
@@ -12,6 +13,10 @@ import io.luna.game.model.collision.CollisionManager;
  * use the {@link Heuristic#CHEBYSHEV} heuristic, which exactly matches RuneScape's 8-direction
  * movement model where diagonal and cardinal steps share identical traversal cost.
  * </p>
+ * <p>
+ * Targets are checked against the {@link ReachabilityIndex} first. When a target can't be reached, the search stops at
+ * the first tile as close to it as any reachable tile could be, instead of exhausting the origin's whole area.
+ * </p>
  *
  * @author lare96
  */
@@ -34,7 +39,7 @@ public class PlayerPathfinder extends AStarPathfinder<Position> {
     }
 
     @Override
-    public boolean isTraversable(Position position, Position adjacent, Direction direction) {
+    public boolean isTraversable(Position position, Direction direction) {
         return traversable(position, direction);
     }
 
@@ -47,4 +52,28 @@ public class PlayerPathfinder extends AStarPathfinder<Position> {
     public Heuristic getHeuristic() {
         return Heuristic.CHEBYSHEV;
     }
+
+    @Override
+    protected int computeMinimumDistance(Position origin, Position target) {
+        if (origin.getZ() != plane || target.getZ() != plane) {
+            return 0;
+        }
+        ReachabilityIndex reachability = collisionManager.getReachability();
+        if (reachability.isReachable(origin, target)) {
+            return 0;
+        } else if (reachability.isReachable(origin, target, 1)) {
+            return 1;
+        }
+        return isDistantPathAccepted() ? 2 : -1;
+    }
+
+    /**
+     * Determines if a partial path should still be searched for when no tile next to the target can be reached. If
+     * not, the search fails immediately.
+     *
+     * @return {@code true} to search for a partial path.
+     */
+    protected boolean isDistantPathAccepted() {
+        return true;
+    }
 }
@@ -1,6 +1,7 @@
 package io.luna.game.plugin;
 
 import com.google.common.collect.ImmutableMap;
+import io.luna.Luna;
 import io.luna.LunaContext;
 import io.luna.game.event.Event;
 import io.luna.game.event.EventListenerPipeline;
@@ -8,6 +9,7 @@ import io.luna.game.event.EventListenerPipelineSet;
 import io.luna.game.model.World;
 import io.luna.game.model.mob.bot.injection.BotContextInjectorManager;
 import io.luna.game.event.impl.InjectableEvent;
+import io.luna.game.profile.ListenerProfiler;
 
 import static java.util.Objects.requireNonNull;
 
@@ -23,6 +25,11 @@ public final class PluginManager {
      */
     private final EventListenerPipelineSet pipelines = new EventListenerPipelineSet();
 
+    /**
+     * Attributes event dispatch time to scripts.
+     */
+    private final ListenerProfiler listenerProfiler = new ListenerProfiler(Luna.settings().profiling().listenerSampleRate());
+
     /**
      * The world instance.
      */
@@ -52,7 +59,7 @@ public final class PluginManager {
         if (pipeline == null) {
             return;
         }
-        pipeline.post(msg);
+        pipeline.post(msg, listenerProfiler);
         if (msg instanceof InjectableEvent) {
             BotContextInjectorManager injectorManager = world.getBotManager().getInjectorManager();
             injectorManager.addEvent((InjectableEvent) msg);
@@ -73,6 +80,13 @@ public final class PluginManager {
         return pluginMap.values().stream().mapToInt(scripts -> scripts.getScripts().size()).sum();
     }
 
+    /**
+     * @return The profiler that attributes event dispatch time to scripts.
+     */
+    public ListenerProfiler getListenerProfiler() {
+        return listenerProfiler;
+    }
+
     /**
      * @return The backing plugin map.
      */
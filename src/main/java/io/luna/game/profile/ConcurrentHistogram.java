@@ -0,0 +1,162 @@
+package io.luna.game.profile;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values, such as durations in nanoseconds or byte counts.
+ * <p>
+ * Values are counted in log-linear buckets in the style of an HDR histogram: every power of two is split into
+ * {@link #SUB_BUCKETS} equally sized buckets, so percentiles are accurate to within {@code 1 / SUB_BUCKETS} of the
+ * real value over the entire {@code long} range while using a fixed amount of memory. Recording is a couple of atomic
+ * increments, and can be done from any thread.
+ *
+ * @author lare96
+ */
+public final class ConcurrentHistogram {
+
+    /**
+     * The amount of bits of precision kept for each value.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The amount of buckets every power of two is split into.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The total amount of buckets.
+     */
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * The amount of values in each bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The amount of values recorded.
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * The sum of all values recorded.
+     */
+    private final AtomicLong sum = new AtomicLong();
+
+    /**
+     * The largest value recorded.
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a value. Negative values are recorded as {@code 0}.
+     *
+     * @param value The value.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Removes every recorded value. Values recorded concurrently with a reset may or may not be kept.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKETS; index++) {
+            counts.set(index, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.reset();
+    }
+
+    /**
+     * @return The amount of values recorded.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return The mean of all values recorded, or {@code 0} if none were.
+     */
+    public double getMean() {
+        long total = count.get();
+        return total == 0 ? 0.0 : (double) sum.get() / total;
+    }
+
+    /**
+     * @return The largest value recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of recorded values are less than or equal to. The returned value
+     * is the upper bound of the bucket it falls in, so it may be slightly higher than the real value.
+     *
+     * @param percentile The percentile, between {@code 0} and {@code 100}.
+     * @return The value at {@code percentile}, or {@code 0} if no values were recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int index = 0; index < BUCKETS; index++) {
+            snapshot[index] = counts.get(index);
+            total += snapshot[index];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * (Math.min(percentile, 100.0) / 100.0)));
+        long seen = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            seen += snapshot[index];
+            if (seen >= target) {
+                return Math.min(upperBoundOf(index), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Computes the bucket {@code value} is counted in.
+     *
+     * @param value The value.
+     * @return The bucket index.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Computes the largest value counted in {@code index}.
+     *
+     * @param index The bucket index.
+     * @return The upper bound of the bucket.
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,340 @@
+package io.luna.game.profile;
+
+import io.luna.game.event.Event;
+import io.luna.game.event.EventListener;
+import io.luna.game.event.EventListenerPipeline;
+import io.luna.game.plugin.Plugin;
+import io.luna.game.plugin.PluginManager;
+import io.luna.game.plugin.Script;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attributes event dispatch time to the {@link Script}s that own each {@link EventListener}, aggregated per event type.
+ * <p>
+ * Only one in every {@link #getSampleRate()} posts is profiled, chosen at random, so the cost of profiling is
+ * negligible while still finding slow listeners over time. Invocation counts and total times are estimated from the
+ * samples. Measurements are grouped into one minute windows, and the slowest listeners of the last complete window can
+ * be retrieved with {@link #getLastReport()}.
+ *
+ * @author lare96
+ */
+public final class ListenerProfiler {
+
+    /**
+     * The measurements of a single script's listeners for a single event type, over one window.
+     */
+    public static final class ListenerStats {
+
+        /**
+         * The name of the script.
+         */
+        private final String script;
+
+        /**
+         * The name of the plugin the script belongs to.
+         */
+        private final String plugin;
+
+        /**
+         * The event type.
+         */
+        private final String eventType;
+
+        /**
+         * The estimated amount of invocations.
+         */
+        private final long invocations;
+
+        /**
+         * The estimated total dispatch time, in milliseconds.
+         */
+        private final double totalMs;
+
+        /**
+         * The mean dispatch time, in microseconds.
+         */
+        private final double meanMicros;
+
+        /**
+         * The largest sampled dispatch time, in microseconds.
+         */
+        private final double maxMicros;
+
+        /**
+         * Creates a new {@link ListenerStats}.
+         *
+         * @param key The script and event type.
+         * @param accumulator The measurements.
+         * @param sampleRate The sample rate the measurements were taken at.
+         */
+        private ListenerStats(Key key, Accumulator accumulator, int sampleRate) {
+            if (key.script != null) {
+                Plugin owner = key.script.getPlugin();
+                script = key.script.getInfo().getSimpleName();
+                plugin = owner != null ? owner.getName() : key.script.getPackageName();
+            } else {
+                script = "unknown";
+                plugin = "unknown";
+            }
+            eventType = key.eventType.getSimpleName();
+            long samples = accumulator.samples.sum();
+            long nanos = accumulator.nanos.sum();
+            invocations = samples * sampleRate;
+            totalMs = nanos * sampleRate / 1_000_000.0;
+            meanMicros = samples == 0 ? 0.0 : nanos / (samples * 1_000.0);
+            maxMicros = accumulator.max.get() / 1_000.0;
+        }
+
+        /**
+         * @return The name of the script.
+         */
+        public String getScript() {
+            return script;
+        }
+
+        /**
+         * @return The name of the plugin the script belongs to.
+         */
+        public String getPlugin() {
+            return plugin;
+        }
+
+        /**
+         * @return The event type.
+         */
+        public String getEventType() {
+            return eventType;
+        }
+
+        /**
+         * @return The estimated amount of invocations.
+         */
+        public long getInvocations() {
+            return invocations;
+        }
+
+        /**
+         * @return The estimated total dispatch time, in milliseconds.
+         */
+        public double getTotalMs() {
+            return totalMs;
+        }
+
+        /**
+         * @return The mean dispatch time, in microseconds.
+         */
+        public double getMeanMicros() {
+            return meanMicros;
+        }
+
+        /**
+         * @return The largest sampled dispatch time, in microseconds.
+         */
+        public double getMaxMicros() {
+            return maxMicros;
+        }
+    }
+
+    /**
+     * A script and event type pair that measurements are grouped by.
+     */
+    private static final class Key {
+
+        /**
+         * The script, or {@code null} if the listener has none.
+         */
+        private final Script script;
+
+        /**
+         * The event type.
+         */
+        private final Class<?> eventType;
+
+        /**
+         * Creates a new {@link Key}.
+         *
+         * @param script The script.
+         * @param eventType The event type.
+         */
+        private Key(Script script, Class<?> eventType) {
+            this.script = script;
+            this.eventType = eventType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return script == key.script && eventType == key.eventType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(script) + eventType.hashCode();
+        }
+    }
+
+    /**
+     * Lock-free measurements for a single {@link Key}.
+     */
+    private static final class Accumulator {
+
+        /**
+         * The amount of samples.
+         */
+        private final LongAdder samples = new LongAdder();
+
+        /**
+         * The total sampled dispatch time, in nanoseconds.
+         */
+        private final LongAdder nanos = new LongAdder();
+
+        /**
+         * The largest sampled dispatch time, in nanoseconds.
+         */
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * The asynchronous logger.
+     */
+    private static final Logger logger = LogManager.getLogger();
+
+    /**
+     * The length of each window, in nanoseconds.
+     */
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * The amount of listeners logged at the end of each window.
+     */
+    private static final int LOGGED_LISTENERS = 5;
+
+    /**
+     * The measurements of the current window.
+     */
+    private volatile Map<Key, Accumulator> window = new ConcurrentHashMap<>();
+
+    /**
+     * When the current window started.
+     */
+    private volatile long windowStart = System.nanoTime();
+
+    /**
+     * The slowest listeners of the last complete window, slowest first.
+     */
+    private volatile List<ListenerStats> lastReport = List.of();
+
+    /**
+     * Posts are profiled with a probability of {@code 1 / sampleRate}. Profiling is disabled if {@code 0}.
+     */
+    private volatile int sampleRate;
+
+    /**
+     * Creates a new {@link ListenerProfiler}.
+     *
+     * @param sampleRate Posts are profiled with a probability of {@code 1 / sampleRate}. Profiling is disabled if
+     * {@code 0}.
+     */
+    public ListenerProfiler(int sampleRate) {
+        this.sampleRate = Math.max(0, sampleRate);
+    }
+
+    /**
+     * Determines if the next post should be profiled. Called by {@link PluginManager} before every post.
+     *
+     * @return {@code true} if the post should be profiled.
+     */
+    public boolean shouldSample() {
+        int rate = sampleRate;
+        if (rate == 0) {
+            return false;
+        }
+        if (System.nanoTime() - windowStart >= WINDOW_NANOS) {
+            rotate();
+        }
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    /**
+     * Records the time a listener took to handle a profiled post. Called by {@link EventListenerPipeline} and the
+     * listeners it dispatches to.
+     *
+     * @param script The script that owns the listener, or {@code null} if it has none.
+     * @param eventType The event type.
+     * @param nanos The dispatch time, in nanoseconds.
+     */
+    public void record(Script script, Class<? extends Event> eventType, long nanos) {
+        Accumulator accumulator = window.computeIfAbsent(new Key(script, eventType), key -> new Accumulator());
+        accumulator.samples.increment();
+        accumulator.nanos.add(nanos);
+        accumulator.max.accumulate(nanos);
+    }
+
+    /**
+     * Starts a new window, summarizing the measurements of the current one into {@link #lastReport}.
+     */
+    private synchronized void rotate() {
+        long now = System.nanoTime();
+        if (now - windowStart < WINDOW_NANOS) {
+            // Another thread already rotated.
+            return;
+        }
+        Map<Key, Accumulator> completed = window;
+        window = new ConcurrentHashMap<>();
+        windowStart = now;
+
+        List<ListenerStats> report = new ArrayList<>(completed.size());
+        for (var entry : completed.entrySet()) {
+            report.add(new ListenerStats(entry.getKey(), entry.getValue(), sampleRate));
+        }
+        report.sort(Comparator.comparingDouble(ListenerStats::getTotalMs).reversed());
+        lastReport = List.copyOf(report);
+
+        for (int index = 0; index < Math.min(LOGGED_LISTENERS, report.size()); index++) {
+            ListenerStats stats = report.get(index);
+            logger.info("Slow listener #{}: {}/{} on {}, ~{} invocations, ~{}ms total, {}us mean, {}us max.",
+                    index + 1, stats.plugin, stats.script, stats.eventType, stats.invocations,
+                    String.format("%.2f", stats.totalMs), String.format("%.1f", stats.meanMicros),
+                    String.format("%.1f", stats.maxMicros));
+        }
+    }
+
+    /**
+     * Sets the sample rate, and discards the measurements of the current window.
+     *
+     * @param sampleRate Posts are profiled with a probability of {@code 1 / sampleRate}. Profiling is disabled if
+     * {@code 0}.
+     */
+    public synchronized void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(0, sampleRate);
+        window = new ConcurrentHashMap<>();
+        windowStart = System.nanoTime();
+    }
+
+    /**
+     * @return The sample rate, or {@code 0} if profiling is disabled.
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @return The slowest listeners of the last complete window, slowest first.
+     */
+    public List<ListenerStats> getLastReport() {
+        return lastReport;
+    }
+}
@@ -0,0 +1,53 @@
+package io.luna.game.profile;
+
+/**
+ * Settings parsed from the {@code "profiling"} section of {@code ./data/luna.json}.
+ *
+ * @author lare96
+ */
+public final class ProfilingSettings {
+
+    /**
+     * If the {@link TickProfiler} is enabled on startup.
+     */
+    private final boolean tickProfiler;
+
+    /**
+     * The amount of ticks between each tick profile report.
+     */
+    private final int tickReportInterval;
+
+    /**
+     * Event posts are profiled by the {@link ListenerProfiler} with a probability of {@code 1 / listenerSampleRate}.
+     * Disabled if {@code 0}.
+     */
+    private final int listenerSampleRate;
+
+    /**
+     * Returns if the {@link TickProfiler} is enabled on startup.
+     */
+    public boolean tickProfiler() {
+        return tickProfiler;
+    }
+
+    /**
+     * Returns the amount of ticks between each tick profile report.
+     */
+    public int tickReportInterval() {
+        return tickReportInterval;
+    }
+
+    /**
+     * Returns the rate event posts are profiled at by the {@link ListenerProfiler}, or {@code 0} if disabled.
+     */
+    public int listenerSampleRate() {
+        return listenerSampleRate;
+    }
+
+    // Never called.
+    private ProfilingSettings(boolean tickProfiler, int tickReportInterval, int listenerSampleRate) {
+        this.tickProfiler = tickProfiler;
+        this.tickReportInterval = tickReportInterval;
+        this.listenerSampleRate = listenerSampleRate;
+    }
+}
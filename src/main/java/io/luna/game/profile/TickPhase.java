@@ -0,0 +1,57 @@
+package io.luna.game.profile;
+
+import com.google.common.collect.ImmutableList;
+import io.luna.game.model.World;
+
+/**
+ * The phases of a single {@link World#process()} iteration that are timed by the {@link TickProfiler}.
+ *
+ * @author lare96
+ */
+public enum TickPhase {
+
+    /**
+     * Finishing pending login requests.
+     */
+    LOGINS,
+
+    /**
+     * Finishing pending logout requests.
+     */
+    LOGOUTS,
+
+    /**
+     * Running scheduled tasks.
+     */
+    TASKS,
+
+    /**
+     * Handling client input, and processing NPCs and players.
+     */
+    PRE_SYNCHRONIZE,
+
+    /**
+     * Building update blocks and submitting synchronization tasks to the update pool.
+     */
+    SYNCHRONIZE,
+
+    /**
+     * Waiting for the update pool to finish synchronization tasks.
+     */
+    UPDATE_POOL_WAIT,
+
+    /**
+     * Resetting flags and flushing clients.
+     */
+    POST_SYNCHRONIZE,
+
+    /**
+     * Resetting updated chunks, clearing bot context events, and handling collision snapshots.
+     */
+    HOUSEKEEPING;
+
+    /**
+     * An immutable list of all phases.
+     */
+    public static final ImmutableList<TickPhase> ALL = ImmutableList.copyOf(values());
+}
@@ -0,0 +1,491 @@
+package io.luna.game.profile;
+
+import io.luna.game.model.World;
+import io.luna.util.GsonUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long each {@link TickPhase} of {@link World#process()} takes, how many ticks overrun the 600ms tick
+ * budget, and how much memory the game thread allocates per tick.
+ * <p>
+ * The world calls {@link #beginTick()}, then {@link #mark(TickPhase)} as each phase completes, then
+ * {@link #endTick()}. Measurements are recorded into {@link ConcurrentHistogram}s, and every
+ * {@link ProfilingSettings#tickReportInterval()} ticks they're summarized into a {@link TickReport}, which is logged,
+ * written to {@link #REPORT_PATH}, and kept for {@link #getLastReport()}. When disabled, every method returns almost
+ * immediately.
+ *
+ * @author lare96
+ */
+public final class TickProfiler {
+
+    /**
+     * A summary of a {@link ConcurrentHistogram}.
+     */
+    public static final class HistogramSummary {
+
+        /**
+         * The amount of values.
+         */
+        private final long count;
+
+        /**
+         * The mean value.
+         */
+        private final double mean;
+
+        /**
+         * The 50th percentile value.
+         */
+        private final double p50;
+
+        /**
+         * The 90th percentile value.
+         */
+        private final double p90;
+
+        /**
+         * The 99th percentile value.
+         */
+        private final double p99;
+
+        /**
+         * The largest value.
+         */
+        private final double max;
+
+        /**
+         * Creates a new {@link HistogramSummary}.
+         *
+         * @param histogram The histogram.
+         * @param scale The amount each value is divided by, to convert it to the reported unit.
+         */
+        private HistogramSummary(ConcurrentHistogram histogram, double scale) {
+            count = histogram.getCount();
+            mean = histogram.getMean() / scale;
+            p50 = histogram.getValueAtPercentile(50.0) / scale;
+            p90 = histogram.getValueAtPercentile(90.0) / scale;
+            p99 = histogram.getValueAtPercentile(99.0) / scale;
+            max = histogram.getMax() / scale;
+        }
+
+        /**
+         * @return The amount of values.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return The mean value.
+         */
+        public double getMean() {
+            return mean;
+        }
+
+        /**
+         * @return The 50th percentile value.
+         */
+        public double getP50() {
+            return p50;
+        }
+
+        /**
+         * @return The 90th percentile value.
+         */
+        public double getP90() {
+            return p90;
+        }
+
+        /**
+         * @return The 99th percentile value.
+         */
+        public double getP99() {
+            return p99;
+        }
+
+        /**
+         * @return The largest value.
+         */
+        public double getMax() {
+            return max;
+        }
+    }
+
+    /**
+     * A summary of every tick recorded since the last report. Durations are in milliseconds.
+     */
+    public static final class TickReport {
+
+        /**
+         * When this report was created.
+         */
+        private final String timestamp;
+
+        /**
+         * The amount of ticks that took longer than the tick budget.
+         */
+        private final long overruns;
+
+        /**
+         * The duration of entire ticks.
+         */
+        private final HistogramSummary tickMs;
+
+        /**
+         * The duration of each phase.
+         */
+        private final Map<TickPhase, HistogramSummary> phaseMs;
+
+        /**
+         * The amount of bytes allocated by the game thread per tick, or {@code null} if unsupported.
+         */
+        private final HistogramSummary allocatedBytes;
+
+        /**
+         * Creates a new {@link TickReport}.
+         *
+         * @param overruns The amount of ticks that took longer than the tick budget.
+         * @param tickMs The duration of entire ticks.
+         * @param phaseMs The duration of each phase.
+         * @param allocatedBytes The amount of bytes allocated by the game thread per tick.
+         */
+        private TickReport(long overruns, HistogramSummary tickMs, Map<TickPhase, HistogramSummary> phaseMs,
+                           HistogramSummary allocatedBytes) {
+            timestamp = Instant.now().toString();
+            this.overruns = overruns;
+            this.tickMs = tickMs;
+            this.phaseMs = phaseMs;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * @return When this report was created.
+         */
+        public String getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return The amount of ticks that took longer than the tick budget.
+         */
+        public long getOverruns() {
+            return overruns;
+        }
+
+        /**
+         * @return The duration of entire ticks.
+         */
+        public HistogramSummary getTickMs() {
+            return tickMs;
+        }
+
+        /**
+         * @return The duration of each phase.
+         */
+        public Map<TickPhase, HistogramSummary> getPhaseMs() {
+            return phaseMs;
+        }
+
+        /**
+         * @return The amount of bytes allocated by the game thread per tick, or {@code null} if unsupported.
+         */
+        public HistogramSummary getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    /**
+     * The asynchronous logger.
+     */
+    private static final Logger logger = LogManager.getLogger();
+
+    /**
+     * The path reports are written to.
+     */
+    private static final Path REPORT_PATH = Paths.get("data", "logs", "tick_profile.json");
+
+    /**
+     * The tick budget, in nanoseconds.
+     */
+    private static final long TICK_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(600);
+
+    /**
+     * Nanoseconds in a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * The duration of each phase, in nanoseconds.
+     */
+    private final ConcurrentHistogram[] phaseHistograms = new ConcurrentHistogram[TickPhase.ALL.size()];
+
+    /**
+     * The duration of entire ticks, in nanoseconds.
+     */
+    private final ConcurrentHistogram tickHistogram = new ConcurrentHistogram();
+
+    /**
+     * The amount of bytes allocated by the game thread per tick.
+     */
+    private final ConcurrentHistogram allocationHistogram = new ConcurrentHistogram();
+
+    /**
+     * The amount of ticks that took longer than the tick budget since the last report.
+     */
+    private final AtomicLong overruns = new AtomicLong();
+
+    /**
+     * The thread bean used to measure allocation, or {@code null} if unsupported.
+     */
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    /**
+     * The executor reports are written on.
+     */
+    private final Executor reportExecutor;
+
+    /**
+     * The amount of ticks between each report. Only accessed by the game thread.
+     */
+    private int reportInterval;
+
+    /**
+     * The duration of each phase this tick, in nanoseconds. Only accessed by the game thread.
+     */
+    private final long[] phaseNanos = new long[TickPhase.ALL.size()];
+
+    /**
+     * If this profiler is enabled.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * The last report, or {@code null} if there hasn't been one yet.
+     */
+    private volatile TickReport lastReport;
+
+    /**
+     * If the current tick is being recorded. Only accessed by the game thread.
+     */
+    private boolean recording;
+
+    /**
+     * When the current tick started. Only accessed by the game thread.
+     */
+    private long tickStart;
+
+    /**
+     * When the last phase completed. Only accessed by the game thread.
+     */
+    private long lastMark;
+
+    /**
+     * The amount of bytes the game thread had allocated when the current tick started. Only accessed by the game
+     * thread.
+     */
+    private long allocationStart;
+
+    /**
+     * The amount of ticks recorded since the last report. Only accessed by the game thread.
+     */
+    private int ticksSinceReport;
+
+    /**
+     * Creates a new {@link TickProfiler}.
+     *
+     * @param settings The profiling settings.
+     * @param reportExecutor The executor reports are written on.
+     */
+    public TickProfiler(ProfilingSettings settings, Executor reportExecutor) {
+        this.reportExecutor = reportExecutor;
+        enabled = settings.tickProfiler();
+        reportInterval = Math.max(1, settings.tickReportInterval());
+        for (int index = 0; index < phaseHistograms.length; index++) {
+            phaseHistograms[index] = new ConcurrentHistogram();
+        }
+        threadBean = findThreadBean();
+    }
+
+    /**
+     * Starts recording a tick, if this profiler is enabled.
+     */
+    public void beginTick() {
+        recording = enabled;
+        if (!recording) {
+            return;
+        }
+        tickStart = System.nanoTime();
+        lastMark = tickStart;
+        allocationStart = threadBean != null ? threadBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Marks {@code phase} as completed. Everything since the last mark or the start of the tick is attributed to it.
+     * Phases may be marked more than once per tick.
+     *
+     * @param phase The completed phase.
+     */
+    public void mark(TickPhase phase) {
+        if (!recording) {
+            return;
+        }
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Finishes recording a tick, and creates a report if one is due.
+     */
+    public void endTick() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+
+        long tickNanos = System.nanoTime() - tickStart;
+        tickHistogram.record(tickNanos);
+        if (tickNanos > TICK_BUDGET_NANOS) {
+            overruns.incrementAndGet();
+        }
+        for (int index = 0; index < phaseNanos.length; index++) {
+            phaseHistograms[index].record(phaseNanos[index]);
+            phaseNanos[index] = 0;
+        }
+        if (threadBean != null) {
+            allocationHistogram.record(threadBean.getCurrentThreadAllocatedBytes() - allocationStart);
+        }
+
+        if (++ticksSinceReport >= reportInterval) {
+            ticksSinceReport = 0;
+            report();
+        }
+    }
+
+    /**
+     * Summarizes every tick recorded since the last report without resetting anything.
+     *
+     * @return The report.
+     */
+    public TickReport createReport() {
+        Map<TickPhase, HistogramSummary> phases = new LinkedHashMap<>();
+        for (TickPhase phase : TickPhase.ALL) {
+            phases.put(phase, new HistogramSummary(phaseHistograms[phase.ordinal()], NANOS_PER_MILLI));
+        }
+        return new TickReport(overruns.get(), new HistogramSummary(tickHistogram, NANOS_PER_MILLI), phases,
+                threadBean != null ? new HistogramSummary(allocationHistogram, 1.0) : null);
+    }
+
+    /**
+     * Creates a report, resets all measurements, then logs and writes the report.
+     */
+    private void report() {
+        TickReport report = createReport();
+        reset();
+        lastReport = report;
+
+        TickPhase slowest = null;
+        for (var entry : report.phaseMs.entrySet()) {
+            if (slowest == null || entry.getValue().p99 > report.phaseMs.get(slowest).p99) {
+                slowest = entry.getKey();
+            }
+        }
+        logger.info("Tick profile of {} ticks: {} overruns, mean {}ms, p99 {}ms, max {}ms, slowest phase {} (p99 {}ms).",
+                report.tickMs.count, report.overruns, format(report.tickMs.mean), format(report.tickMs.p99),
+                format(report.tickMs.max), slowest, format(report.phaseMs.get(slowest).p99));
+        reportExecutor.execute(() -> {
+            try {
+                Files.createDirectories(REPORT_PATH.getParent());
+                GsonUtils.writeJson(report, REPORT_PATH);
+            } catch (IOException e) {
+                logger.warn("Tick profile could not be written.", e);
+            }
+        });
+    }
+
+    /**
+     * Resets all measurements without creating a report, and restarts the countdown to the next report. Must be called
+     * from the game thread.
+     */
+    public void reset() {
+        ticksSinceReport = 0;
+        for (ConcurrentHistogram histogram : phaseHistograms) {
+            histogram.reset();
+        }
+        tickHistogram.reset();
+        allocationHistogram.reset();
+        overruns.set(0);
+    }
+
+    /**
+     * Formats a duration in milliseconds for logging.
+     *
+     * @param millis The duration.
+     * @return The formatted duration.
+     */
+    private static String format(double millis) {
+        return String.format("%.2f", millis);
+    }
+
+    /**
+     * Finds the thread bean used to measure allocation.
+     *
+     * @return The thread bean, or {@code null} if allocation can't be measured on this JVM.
+     */
+    private static com.sun.management.ThreadMXBean findThreadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        return threadBean;
+    }
+
+    /**
+     * Sets the amount of ticks between each report. Must be called from the game thread.
+     *
+     * @param reportInterval The new value.
+     */
+    public void setReportInterval(int reportInterval) {
+        this.reportInterval = Math.max(1, reportInterval);
+    }
+
+    /**
+     * Enables or disables this profiler. Takes effect on the next tick.
+     *
+     * @param enabled The new value.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return {@code true} if this profiler is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The last report, or {@code null} if there hasn't been one yet.
+     */
+    public TickReport getLastReport() {
+        return lastReport;
+    }
+}
@@ -0,0 +1,226 @@
+package io.luna.net;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+
+/**
+ * Settings parsed from the {@code "network"} section of {@code ./data/luna.json}.
+ * <p>
+ * These settings select the Netty transport and tune the channels it creates. Thread counts and socket buffer sizes
+ * of {@code 0} leave the Netty or operating system default in place.
+ *
+ * @author lare96
+ */
+public final class NetworkSettings {
+
+    /**
+     * The Netty transport implementation.
+     */
+    public enum TransportType {
+
+        /**
+         * The native epoll transport if it's available on this machine, otherwise NIO.
+         */
+        AUTO,
+
+        /**
+         * The native epoll transport. Only available on Linux.
+         */
+        EPOLL,
+
+        /**
+         * The Java NIO transport. Available everywhere.
+         */
+        NIO;
+
+        /**
+         * Resolves {@link #AUTO} into the transport that will actually be used.
+         *
+         * @return The resolved transport.
+         * @throws IllegalStateException If {@link #EPOLL} was selected but is unavailable.
+         */
+        public TransportType resolve() {
+            switch (this) {
+                case AUTO:
+                    return Epoll.isAvailable() ? EPOLL : NIO;
+                case EPOLL:
+                    if (!Epoll.isAvailable()) {
+                        throw new IllegalStateException("The epoll transport is unavailable.",
+                                Epoll.unavailabilityCause());
+                    }
+                    return EPOLL;
+                case NIO:
+                    return NIO;
+            }
+            throw new IllegalStateException("Invalid transport type!");
+        }
+    }
+
+    /**
+     * The {@link ByteBufAllocator} used by channels.
+     */
+    public enum AllocatorType {
+
+        /**
+         * The pooled allocator, {@link PooledByteBufAllocator#DEFAULT}.
+         */
+        POOLED,
+
+        /**
+         * The unpooled allocator, {@link UnpooledByteBufAllocator#DEFAULT}.
+         */
+        UNPOOLED;
+
+        /**
+         * @return The allocator instance.
+         */
+        public ByteBufAllocator getAllocator() {
+            switch (this) {
+                case POOLED:
+                    return PooledByteBufAllocator.DEFAULT;
+                case UNPOOLED:
+                    return UnpooledByteBufAllocator.DEFAULT;
+            }
+            throw new IllegalStateException("Invalid allocator type!");
+        }
+    }
+
+    /**
+     * The transport implementation.
+     */
+    private final TransportType transport;
+
+    /**
+     * The amount of threads accepting connections.
+     */
+    private final int bossThreads;
+
+    /**
+     * The amount of threads handling accepted connections.
+     */
+    private final int workerThreads;
+
+    /**
+     * Whether Nagle's algorithm is disabled.
+     */
+    private final boolean tcpNoDelay;
+
+    /**
+     * The socket receive buffer size, in bytes.
+     */
+    private final int receiveBufferSize;
+
+    /**
+     * The socket send buffer size, in bytes.
+     */
+    private final int sendBufferSize;
+
+    /**
+     * The outbound buffer size at which a channel becomes writable again, in bytes.
+     */
+    private final int writeBufferLowWatermark;
+
+    /**
+     * The outbound buffer size at which a channel stops being writable, in bytes.
+     */
+    private final int writeBufferHighWatermark;
+
+    /**
+     * The buffer allocator.
+     */
+    private final AllocatorType allocator;
+
+    /**
+     * The maximum amount of click messages accepted from a client per tick.
+     */
+    private final int maxClicksPerTick;
+
+    /**
+     * Returns the transport implementation.
+     */
+    public TransportType transport() {
+        return transport;
+    }
+
+    /**
+     * Returns the amount of threads accepting connections, or {@code 0} for the Netty default.
+     */
+    public int bossThreads() {
+        return bossThreads;
+    }
+
+    /**
+     * Returns the amount of threads handling accepted connections, or {@code 0} for the Netty default (twice the
+     * amount of processors).
+     */
+    public int workerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * Returns whether Nagle's algorithm is disabled. Messages are already batched once per tick, so there is little
+     * reason to delay them further.
+     */
+    public boolean tcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    /**
+     * Returns the socket receive buffer size in bytes, or {@code 0} for the operating system default.
+     */
+    public int receiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    /**
+     * Returns the socket send buffer size in bytes, or {@code 0} for the operating system default.
+     */
+    public int sendBufferSize() {
+        return sendBufferSize;
+    }
+
+    /**
+     * Returns the write buffer watermarks. A channel whose outbound buffer grows past the high watermark is no longer
+     * writable until it drains below the low watermark, which clients use to stop writing to slow connections.
+     */
+    public WriteBufferWaterMark writeBufferWaterMark() {
+        return new WriteBufferWaterMark(writeBufferLowWatermark, writeBufferHighWatermark);
+    }
+
+    /**
+     * Returns the buffer allocator.
+     */
+    public AllocatorType allocator() {
+        return allocator;
+    }
+
+    /**
+     * Returns the maximum amount of click messages accepted from a client per tick. Clicks beyond it are dropped,
+     * not deferred to the next tick.
+     */
+    public int maxClicksPerTick() {
+        return maxClicksPerTick;
+    }
+
+    /**
+     * Private constructor for JSON deserialization.
+     */
+    private NetworkSettings(TransportType transport, int bossThreads, int workerThreads, boolean tcpNoDelay,
+                            int receiveBufferSize, int sendBufferSize, int writeBufferLowWatermark,
+                            int writeBufferHighWatermark, AllocatorType allocator, int maxClicksPerTick) {
+        // Will never be called directly.
+        this.transport = transport;
+        this.bossThreads = bossThreads;
+        this.workerThreads = workerThreads;
+        this.tcpNoDelay = tcpNoDelay;
+        this.receiveBufferSize = receiveBufferSize;
+        this.sendBufferSize = sendBufferSize;
+        this.writeBufferLowWatermark = writeBufferLowWatermark;
+        this.writeBufferHighWatermark = writeBufferHighWatermark;
+        this.allocator = allocator;
+        this.maxClicksPerTick = maxClicksPerTick;
+    }
+}
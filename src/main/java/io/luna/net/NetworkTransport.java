@@ -0,0 +1,166 @@
+package io.luna.net;
+
+import io.luna.net.NetworkSettings.TransportType;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * Creates the Netty event loops and bootstraps for the transport selected by a {@link NetworkSettings} instance, and
+ * applies its channel options.
+ *
+ * @author lare96
+ */
+public final class NetworkTransport {
+
+    /**
+     * The network settings.
+     */
+    private final NetworkSettings settings;
+
+    /**
+     * The resolved transport type.
+     */
+    private final TransportType type;
+
+    /**
+     * The event loops accepting connections.
+     */
+    private final EventLoopGroup bossGroup;
+
+    /**
+     * The event loops handling accepted connections.
+     */
+    private final EventLoopGroup workerGroup;
+
+    /**
+     * Creates a new {@link NetworkTransport}.
+     *
+     * @param settings The network settings.
+     * @throws IllegalStateException If the selected transport is unavailable.
+     */
+    public NetworkTransport(NetworkSettings settings) {
+        this.settings = settings;
+        type = settings.transport().resolve();
+        bossGroup = newEventLoopGroup(type, settings.bossThreads(), "LunaBossThread");
+        workerGroup = newEventLoopGroup(type, settings.workerThreads(), "LunaWorkerThread");
+    }
+
+    /**
+     * Creates a new event loop group for {@code type}.
+     *
+     * @param type The resolved transport type.
+     * @param threads The amount of threads, or {@code 0} for the Netty default.
+     * @param name The thread name prefix.
+     * @return The event loop group.
+     */
+    public static EventLoopGroup newEventLoopGroup(TransportType type, int threads, String name) {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory(name);
+        switch (type) {
+            case EPOLL:
+                return new EpollEventLoopGroup(threads, threadFactory);
+            case NIO:
+                return new NioEventLoopGroup(threads, threadFactory);
+        }
+        throw new IllegalStateException("Transport type must be resolved first.");
+    }
+
+    /**
+     * Returns the client socket channel class for {@code type}, for connecting to a server.
+     *
+     * @param type The resolved transport type.
+     * @return The channel class.
+     */
+    public static Class<? extends SocketChannel> socketChannel(TransportType type) {
+        switch (type) {
+            case EPOLL:
+                return EpollSocketChannel.class;
+            case NIO:
+                return NioSocketChannel.class;
+        }
+        throw new IllegalStateException("Transport type must be resolved first.");
+    }
+
+    /**
+     * Returns the server socket channel class for {@code type}.
+     *
+     * @param type The resolved transport type.
+     * @return The channel class.
+     */
+    public static Class<? extends ServerSocketChannel> serverSocketChannel(TransportType type) {
+        switch (type) {
+            case EPOLL:
+                return EpollServerSocketChannel.class;
+            case NIO:
+                return NioServerSocketChannel.class;
+        }
+        throw new IllegalStateException("Transport type must be resolved first.");
+    }
+
+    /**
+     * Creates a server bootstrap using this transport's event loops, with every configured channel option applied.
+     *
+     * @param childHandler The handler that initializes accepted channels.
+     * @return The server bootstrap, ready to bind.
+     */
+    public ServerBootstrap newServerBootstrap(ChannelHandler childHandler) {
+        ServerBootstrap bootstrap = new ServerBootstrap();
+        bootstrap.group(bossGroup, workerGroup);
+        bootstrap.channel(serverSocketChannel(type));
+        bootstrap.option(ChannelOption.ALLOCATOR, settings.allocator().getAllocator());
+        if (settings.receiveBufferSize() > 0) {
+            // Must be set on the listening socket to take effect for windows larger than 64KB.
+            bootstrap.option(ChannelOption.SO_RCVBUF, settings.receiveBufferSize());
+        }
+        bootstrap.childOption(ChannelOption.ALLOCATOR, settings.allocator().getAllocator());
+        bootstrap.childOption(ChannelOption.TCP_NODELAY, settings.tcpNoDelay());
+        bootstrap.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, settings.writeBufferWaterMark());
+        if (settings.receiveBufferSize() > 0) {
+            bootstrap.childOption(ChannelOption.SO_RCVBUF, settings.receiveBufferSize());
+        }
+        if (settings.sendBufferSize() > 0) {
+            bootstrap.childOption(ChannelOption.SO_SNDBUF, settings.sendBufferSize());
+        }
+        bootstrap.childHandler(childHandler);
+        return bootstrap;
+    }
+
+    /**
+     * Shuts down both event loop groups.
+     */
+    public void shutdownGracefully() {
+        bossGroup.shutdownGracefully();
+        workerGroup.shutdownGracefully();
+    }
+
+    /**
+     * @return The resolved transport type.
+     */
+    public TransportType getType() {
+        return type;
+    }
+
+    /**
+     * @return The event loops accepting connections.
+     */
+    public EventLoopGroup getBossGroup() {
+        return bossGroup;
+    }
+
+    /**
+     * @return The event loops handling accepted connections.
+     */
+    public EventLoopGroup getWorkerGroup() {
+        return workerGroup;
+    }
+}
@@ -1,9 +1,11 @@
 package io.luna.net.client;
 
+import io.luna.Luna;
 import io.luna.game.LogoutService;
 import io.luna.game.LogoutService.LogoutRequest;
 import io.luna.game.model.mob.Player;
 import io.luna.net.msg.GameMessage;
+import io.luna.net.msg.GameMessageBatch;
 import io.luna.net.msg.GameMessageReader;
 import io.luna.net.msg.GameMessageRepository;
 import io.luna.net.msg.GameMessageWriter;
@@ -14,6 +16,9 @@ import org.apache.logging.log4j.Logger;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apache.logging.log4j.util.Unbox.box;
 
 /**
  * Represents an active, post-login client connection responsible for encoding, decoding,
@@ -21,7 +26,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * <p>
  * Each {@link GameClient} instance is bound to a single {@link Player} and operates on a
  * dedicated {@link Channel} after successful login. Incoming messages are decoded and queued
- * into {@link #pendingReadMessages}, while outgoing messages are encoded and stored in
+ * into the bounded {@link #pendingReadMessages}, while outgoing messages are encoded and stored in
  * {@link #pendingWriteMessages} until the next flush cycle.
  * </p>
  *
@@ -44,18 +49,40 @@ public class GameClient extends Client<GameMessage> {
      */
     private static final int MAX_READ_MESSAGES = 100;
 
+    /**
+     * The maximum number of consecutive game cycles the channel can stay unwritable before the client is
+     * disconnected.
+     */
+    private static final int MAX_UNWRITABLE_TICKS = 50;
+
     /**
      * The logger.
      */
     private static final Logger logger = LogManager.getLogger();
 
     /**
-     * A queue of decoded messages awaiting processing.
+     * The total amount of flushes across all clients.
+     */
+    private static final LongAdder totalFlushes = new LongAdder();
+
+    /**
+     * The total amount of messages flushed across all clients.
+     */
+    private static final LongAdder totalFlushedMessages = new LongAdder();
+
+    /**
+     * The total amount of bytes flushed across all clients.
      */
-    protected final Queue<GameMessage> pendingReadMessages = new ConcurrentLinkedQueue<>();
+    private static final LongAdder totalFlushedBytes = new LongAdder();
 
     /**
-     * A queue of encoded messages awaiting transmission to the client. Used to prevent pooled buffer leaks.
+     * A bounded queue of decoded messages awaiting processing.
+     */
+    protected final InboundMessageQueue pendingReadMessages;
+
+    /**
+     * A queue of encoded messages awaiting the next flush. Released instead if the client disconnects first, to
+     * prevent pooled buffer leaks.
      */
     protected final Queue<GameMessage> pendingWriteMessages = new ConcurrentLinkedQueue<>();
 
@@ -82,6 +109,21 @@ public class GameClient extends Client<GameMessage> {
      */
     private volatile boolean forcedLogout;
 
+    /**
+     * The amount of messages written by the last flush.
+     */
+    private int lastFlushMessages;
+
+    /**
+     * The amount of bytes written by the last flush.
+     */
+    private int lastFlushBytes;
+
+    /**
+     * The amount of consecutive flushes skipped because the channel was unwritable.
+     */
+    private int unwritableTicks;
+
     /**
      * Creates a new {@link GameClient} bound to the given network channel and player.
      *
@@ -93,16 +135,18 @@ public class GameClient extends Client<GameMessage> {
         super(channel);
         this.repository = repository;
         this.player = player;
+        pendingReadMessages = new InboundMessageQueue(channel, repository, Luna.settings().network().maxClicksPerTick());
     }
 
     @Override
     public void onInactive() {
+        pendingReadMessages.clear();
         sendLogoutRequest();
     }
 
     @Override
     public void onMessageReceived(GameMessage msg) {
-        pendingReadMessages.add(msg);
+        pendingReadMessages.offer(msg);
     }
 
     /**
@@ -115,13 +159,17 @@ public class GameClient extends Client<GameMessage> {
      *
      * <p>
      * Each message is released after processing to return its underlying buffer to Netty’s
-     * reference pool.
+     * reference pool. Inbound payloads are retained slices of the channel's cumulation buffer, so they are released
+     * exactly once rather than fully.
      * </p>
      */
     public void handleDecodedMessages() {
-        int processed = 0;
-        GameMessage msg;
-        while ((msg = pendingReadMessages.poll()) != null && processed++ < MAX_READ_MESSAGES) {
+        pendingReadMessages.resetBudgets();
+        for (int processed = 0; processed < MAX_READ_MESSAGES; processed++) {
+            GameMessage msg = pendingReadMessages.poll();
+            if (msg == null) {
+                break;
+            }
             try {
                 GameMessageReader<?> reader = repository.get(msg.getOpcode());
                 if (reader == null) {
@@ -132,8 +180,7 @@ public class GameClient extends Client<GameMessage> {
             } catch (Exception e) {
                 logger.error("Error reading packet {}.", msg.getOpcode(), e);
             } finally {
-                msg.getPayload().releaseAll();
-                processed++;
+                msg.getPayload().release();
             }
         }
     }
@@ -141,9 +188,9 @@ public class GameClient extends Client<GameMessage> {
     /**
      * Queues an outgoing message for transmission to the client.
      * <p>
-     * The message is built using the specified {@link GameMessageWriter} and written to the
-     * channel asynchronously. Messages are not flushed immediately but will be sent collectively
-     * when {@link #flush()} is called at the end of the cycle.
+     * The message is built using the specified {@link GameMessageWriter} on the calling thread and added to the
+     * pending batch. Messages are not written immediately but will be sent collectively as one
+     * {@link GameMessageBatch} when {@link #flush()} is called at the end of the cycle.
      * </p>
      *
      * @param writer The writer responsible for building the message to send.
@@ -154,12 +201,7 @@ public class GameClient extends Client<GameMessage> {
             return;
         }
         if (channel.isActive()) {
-            channel.eventLoop().execute(() -> {
-                channel.write(msg, channel.voidPromise());
-                if (msg.getPayload().refCnt() > 0) {
-                    pendingWriteMessages.add(msg);
-                }
-            });
+            pendingWriteMessages.add(msg);
         } else {
             msg.getPayload().releaseAll();
         }
@@ -187,22 +229,48 @@ public class GameClient extends Client<GameMessage> {
     /**
      * Flushes all queued messages to the client immediately.
      * <p>
-     * This method should be called sparingly, as it triggers a full I/O flush on the underlying Netty channel.
-     * Normally invoked once per game cycle.
+     * Every message queued since the last flush is drained into a single {@link GameMessageBatch}, which is written
+     * and flushed by one event loop task and encoded into one buffer. Normally invoked once per game cycle.
      * </p>
      * <p>
-     * If the channel is inactive, all pending messages are released instead.
+     * If the channel is inactive, all pending messages are released instead. If the channel is unwritable because the
+     * client isn't reading fast enough, pending messages are held until it drains below its low write buffer
+     * watermark. A client that stays unwritable for {@link #MAX_UNWRITABLE_TICKS} cycles is disconnected.
      * </p>
      */
     public void flush() {
-        if (channel.isActive()) {
-            channel.eventLoop().submit(() -> {
-                channel.flush();
-                releasePendingWrites();
-            });
-        } else {
+        if (!channel.isActive()) {
             releasePendingWrites();
+            return;
+        }
+        if (!channel.isWritable()) {
+            if (++unwritableTicks >= MAX_UNWRITABLE_TICKS) {
+                logger.warn("Disconnecting {}, outbound buffer has not drained in {} ticks.", player, box(unwritableTicks));
+                channel.close();
+                releasePendingWrites();
+            }
+            return;
         }
+        unwritableTicks = 0;
+
+        GameMessageBatch batch = new GameMessageBatch(lastFlushMessages);
+        for (; ; ) {
+            GameMessage msg = pendingWriteMessages.poll();
+            if (msg == null) {
+                break;
+            }
+            batch.add(msg);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        lastFlushMessages = batch.size();
+        lastFlushBytes = batch.getEncodedSize();
+        totalFlushes.increment();
+        totalFlushedMessages.add(batch.size());
+        totalFlushedBytes.add(batch.getEncodedSize());
+        channel.writeAndFlush(batch, channel.voidPromise());
     }
 
     /**
@@ -241,6 +309,48 @@ public class GameClient extends Client<GameMessage> {
         this.forcedLogout = forcedLogout;
     }
 
+    /**
+     * @return The amount of messages written by the last flush.
+     */
+    public int getLastFlushMessages() {
+        return lastFlushMessages;
+    }
+
+    /**
+     * @return The amount of bytes written by the last flush.
+     */
+    public int getLastFlushBytes() {
+        return lastFlushBytes;
+    }
+
+    /**
+     * @return The total amount of flushes across all clients.
+     */
+    public static long getTotalFlushes() {
+        return totalFlushes.sum();
+    }
+
+    /**
+     * @return The total amount of messages flushed across all clients.
+     */
+    public static long getTotalFlushedMessages() {
+        return totalFlushedMessages.sum();
+    }
+
+    /**
+     * @return The total amount of bytes flushed across all clients.
+     */
+    public static long getTotalFlushedBytes() {
+        return totalFlushedBytes.sum();
+    }
+
+    /**
+     * @return The bounded queue of decoded messages awaiting processing.
+     */
+    public InboundMessageQueue getPendingReadMessages() {
+        return pendingReadMessages;
+    }
+
     /**
      * @return The game message repository.
      */
@@ -0,0 +1,269 @@
+package io.luna.net.client;
+
+import io.luna.game.model.mob.bot.io.BotChannel;
+import io.luna.net.msg.GameMessage;
+import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.GameMessageRepository;
+import io.luna.net.msg.InboundCategory;
+import io.netty.channel.Channel;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded ring buffer of decoded messages waiting to be processed by the game thread for a single
+ * {@link GameClient}.
+ * <p>
+ * Messages are offered by the channel's event loop and polled by the game thread. Each message is budgeted by the
+ * {@link InboundCategory} of its reader:
+ * <ul>
+ *     <li>{@link InboundCategory#WALKING} messages are coalesced, only the latest pending one is kept. It takes the
+ *     place of the latest message, so it's handled after any clicks that came before it, the same order the player
+ *     made them in.</li>
+ *     <li>{@link InboundCategory#CLICK} messages are capped to {@link #maxClicks} per tick. Clicks beyond the cap are
+ *     dropped, not deferred to the next tick, and the player isn't told.</li>
+ *     <li>Every message counts towards the capacity of the buffer. Messages offered while it is full are
+ *     dropped.</li>
+ * </ul>
+ * Auto-read is disabled on the channel once the buffer reaches its high watermark, so the client is throttled by TCP
+ * instead of by dropped messages, and is enabled again once the game thread drains it below its low watermark.
+ * Dropped and coalesced messages are released immediately.
+ *
+ * @author lare96
+ */
+public final class InboundMessageQueue {
+
+    /**
+     * The maximum amount of messages that can be waiting at once.
+     */
+    private static final int CAPACITY = 256;
+
+    /**
+     * The amount of waiting messages at which auto-read is disabled.
+     */
+    private static final int HIGH_WATERMARK = 192;
+
+    /**
+     * The amount of waiting messages at which auto-read is enabled again.
+     */
+    private static final int LOW_WATERMARK = 64;
+
+    /**
+     * The total amount of messages dropped across all clients.
+     */
+    private static final LongAdder totalDropped = new LongAdder();
+
+    /**
+     * The total amount of messages coalesced across all clients.
+     */
+    private static final LongAdder totalCoalesced = new LongAdder();
+
+    /**
+     * The ring buffer.
+     */
+    private final GameMessage[] messages = new GameMessage[CAPACITY];
+
+    /**
+     * The channel to apply backpressure to.
+     */
+    private final Channel channel;
+
+    /**
+     * The message repository, used to determine the category of each message.
+     */
+    private final GameMessageRepository repository;
+
+    /**
+     * The maximum amount of click messages accepted per tick.
+     */
+    private final int maxClicks;
+
+    /**
+     * The index of the next message to poll.
+     */
+    private int head;
+
+    /**
+     * The amount of occupied slots.
+     */
+    private int size;
+
+    /**
+     * The slot holding the pending walking message, or {@code -1} if there is none.
+     */
+    private int walkingIndex = -1;
+
+    /**
+     * The amount of click messages accepted this tick.
+     */
+    private int clicks;
+
+    /**
+     * If auto-read was disabled by this queue.
+     */
+    private boolean throttled;
+
+    /**
+     * The amount of messages dropped by this queue.
+     */
+    private long dropped;
+
+    /**
+     * The amount of messages coalesced by this queue.
+     */
+    private long coalesced;
+
+    /**
+     * Creates a new {@link InboundMessageQueue}.
+     *
+     * @param channel The channel to apply backpressure to.
+     * @param repository The message repository.
+     * @param maxClicks The maximum amount of click messages accepted per tick.
+     */
+    public InboundMessageQueue(Channel channel, GameMessageRepository repository, int maxClicks) {
+        this.channel = channel;
+        this.repository = repository;
+        this.maxClicks = maxClicks;
+    }
+
+    /**
+     * Offers a decoded message to this queue. If the message is rejected, it is released.
+     *
+     * @param msg The message to offer.
+     * @return {@code true} if the message was accepted.
+     */
+    public synchronized boolean offer(GameMessage msg) {
+        GameMessageReader<?> reader = repository.get(msg.getOpcode());
+        InboundCategory category = reader == null ? InboundCategory.OTHER : reader.getCategory();
+        if (size == CAPACITY || (category == InboundCategory.CLICK && clicks >= maxClicks)) {
+            msg.getPayload().release();
+            dropped++;
+            totalDropped.increment();
+            return false;
+        }
+
+        if (category == InboundCategory.WALKING) {
+            if (walkingIndex != -1) {
+                // Only the latest walking request matters. It moves behind any clicks made since the last one.
+                messages[walkingIndex].getPayload().release();
+                remove(walkingIndex);
+                coalesced++;
+                totalCoalesced.increment();
+            }
+            walkingIndex = (head + size) % CAPACITY;
+        } else if (category == InboundCategory.CLICK) {
+            clicks++;
+        }
+        messages[(head + size) % CAPACITY] = msg;
+        size++;
+
+        if (size >= HIGH_WATERMARK && !throttled) {
+            setAutoRead(false);
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves and removes the next message from this queue.
+     *
+     * @return The next message, or {@code null} if this queue is empty.
+     */
+    public synchronized GameMessage poll() {
+        if (size == 0) {
+            return null;
+        }
+        GameMessage msg = messages[head];
+        messages[head] = null;
+        if (head == walkingIndex) {
+            walkingIndex = -1;
+        }
+        head = (head + 1) % CAPACITY;
+        size--;
+        if (throttled && size <= LOW_WATERMARK) {
+            setAutoRead(true);
+        }
+        return msg;
+    }
+
+    /**
+     * Removes the message in a slot, shifting every message after it back by one.
+     *
+     * @param index The slot.
+     */
+    private void remove(int index) {
+        int tail = (head + size - 1) % CAPACITY;
+        while (index != tail) {
+            int next = (index + 1) % CAPACITY;
+            messages[index] = messages[next];
+            index = next;
+        }
+        messages[tail] = null;
+        size--;
+    }
+
+    /**
+     * Resets the per-tick budgets. Called once per tick, before messages are polled.
+     */
+    public synchronized void resetBudgets() {
+        clicks = 0;
+    }
+
+    /**
+     * Removes and releases all messages in this queue.
+     */
+    public synchronized void clear() {
+        while (size > 0) {
+            messages[head].getPayload().release();
+            messages[head] = null;
+            head = (head + 1) % CAPACITY;
+            size--;
+        }
+        walkingIndex = -1;
+    }
+
+    /**
+     * Enables or disables auto-read on the channel.
+     *
+     * @param autoRead The new value.
+     */
+    private void setAutoRead(boolean autoRead) {
+        throttled = !autoRead;
+        if (channel != BotChannel.CHANNEL) {
+            channel.config().setAutoRead(autoRead);
+        }
+    }
+
+    /**
+     * @return The amount of occupied slots.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return The amount of messages dropped by this queue.
+     */
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return The amount of messages coalesced by this queue.
+     */
+    public synchronized long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * @return The total amount of messages dropped across all clients.
+     */
+    public static long getTotalDropped() {
+        return totalDropped.sum();
+    }
+
+    /**
+     * @return The total amount of messages coalesced across all clients.
+     */
+    public static long getTotalCoalesced() {
+        return totalCoalesced.sum();
+    }
+}
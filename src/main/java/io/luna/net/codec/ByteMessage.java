@@ -31,11 +31,6 @@ public final class ByteMessage extends DefaultByteBufHolder {
      */
     private static final int DEFAULT_SIZE = 128;
 
-    /**
-     * Precomputed bit masks from 0 to 31 used for bit-level encoding.
-     */
-    private static final int[] BIT_MASK = new int[32];
-
     /**
      * Creates a raw message with a specified initial size.
      *
@@ -125,12 +120,15 @@ public final class ByteMessage extends DefaultByteBufHolder {
      */
     private int bitIndex = -1;
 
-    static {
-        // Initialize bit masks.
-        for (int i = 0; i < BIT_MASK.length; i++) {
-            BIT_MASK[i] = (1 << i) - 1;
-        }
-    }
+    /**
+     * The bits written in bit access mode that have not been flushed to the buffer yet, right-aligned.
+     */
+    private long bitBuffer;
+
+    /**
+     * The amount of bits in {@link #bitBuffer}, always less than 32 between writes.
+     */
+    private int bitCount;
 
     /**
      * Creates a new {@code ByteMessage}.
@@ -176,6 +174,9 @@ public final class ByteMessage extends DefaultByteBufHolder {
 
     /**
      * Switches the buffer into bit-access mode, allowing bit-level writing.
+     * <p>
+     * Bits are collected in a 64-bit accumulator and flushed to the buffer 32 bits at a time, so the writer index
+     * advances in whole words while in bit access mode.
      *
      * @throws IllegalStateException If already in bit access mode.
      */
@@ -183,17 +184,28 @@ public final class ByteMessage extends DefaultByteBufHolder {
         checkState(bitIndex == -1, "This ByteMessage instance is already in bit access mode.");
 
         bitIndex = buf.writerIndex() << 3;
+        bitBuffer = 0;
+        bitCount = 0;
     }
 
     /**
-     * Ends bit-access mode and realigns the writer index to the next byte boundary.
+     * Ends bit-access mode, flushing any remaining bits and realigning the writer index to the next byte boundary.
+     * Unused bits in the last byte are written as zero.
      *
      * @throws IllegalStateException If not currently in bit access mode.
      */
     public void endBitAccess() {
         checkState(bitIndex != -1, "This ByteMessage instance is not in bit access mode.");
 
-        buf.writerIndex((bitIndex + 7) >> 3);
+        while (bitCount >= 8) {
+            bitCount -= 8;
+            buf.writeByte((int) (bitBuffer >>> bitCount));
+        }
+        if (bitCount > 0) {
+            buf.writeByte((int) (bitBuffer << (8 - bitCount)));
+        }
+        bitBuffer = 0;
+        bitCount = 0;
         bitIndex = -1;
     }
 
@@ -206,38 +218,17 @@ public final class ByteMessage extends DefaultByteBufHolder {
      * @throws IllegalArgumentException If amount is outside valid range.
      */
     public ByteMessage putBits(int amount, int value) {
-        checkState(amount >= 1 && amount <= 32, "Number of bits must be between 1 and 32 inclusive.");
-
-        int bytePos = bitIndex >> 3;
-        int bitOffset = 8 - (bitIndex & 7);
-
-        bitIndex = bitIndex + amount;
-
-        int requiredSpace = bytePos - buf.writerIndex() + 1;
-        requiredSpace += (amount + 7) / 8;
-
-        if (buf.writableBytes() < requiredSpace) {
-            buf.capacity(buf.capacity() + requiredSpace);
-        }
-
-        for (; amount > bitOffset; bitOffset = 8) {
-            byte tmp = buf.getByte(bytePos);
-            tmp &= (byte) ~BIT_MASK[bitOffset];
-            tmp |= (byte) ((value >> (amount - bitOffset)) & BIT_MASK[bitOffset]);
-            buf.setByte(bytePos++, tmp);
-            amount -= bitOffset;
+        if (amount < 1 || amount > 32) {
+            throw new IllegalArgumentException("Number of bits must be between 1 and 32 inclusive.");
         }
 
-        if (amount == bitOffset) {
-            byte tmp = buf.getByte(bytePos);
-            tmp &= (byte) ~BIT_MASK[bitOffset];
-            tmp |= (byte) (value & BIT_MASK[bitOffset]);
-            buf.setByte(bytePos, tmp);
-        } else {
-            byte tmp = buf.getByte(bytePos);
-            tmp &= (byte) ~(BIT_MASK[amount] << (bitOffset - amount));
-            tmp |= (byte) ((value & BIT_MASK[amount]) << (bitOffset - amount));
-            buf.setByte(bytePos, tmp);
+        // Bits above bitCount are stale, but they are shifted out or truncated before they reach the buffer.
+        bitBuffer = (bitBuffer << amount) | (value & (-1L >>> (64 - amount)));
+        bitCount += amount;
+        bitIndex += amount;
+        if (bitCount >= 32) {
+            bitCount -= 32;
+            buf.writeInt((int) (bitBuffer >>> bitCount));
         }
         return this;
     }
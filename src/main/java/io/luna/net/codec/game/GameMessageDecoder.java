@@ -53,6 +53,11 @@ public final class GameMessageDecoder extends ProgressiveMessageDecoder<GameMess
      */
     private MessageType type = MessageType.RAW;
 
+    /**
+     * If the current message will be discarded without being decoded.
+     */
+    private boolean discard;
+
     /**
      * Creates a new {@link GameMessageDecoder}.
      *
@@ -84,6 +89,7 @@ public final class GameMessageDecoder extends ProgressiveMessageDecoder<GameMess
         opcode = -1;
         size = -1;
         type = MessageType.RAW;
+        discard = false;
     }
 
     /**
@@ -99,6 +105,9 @@ public final class GameMessageDecoder extends ProgressiveMessageDecoder<GameMess
             opcode = in.readUnsignedByte();
             opcode = (opcode - decryptor.nextInt()) & 0xFF;
 
+            // Messages for readers that never use them are dropped here, before anything is allocated.
+            discard = repository.isDiscardable(opcode);
+
             // Handle the message size.
             size = repository.getSize(opcode);
             switch (size) {
@@ -106,6 +115,10 @@ public final class GameMessageDecoder extends ProgressiveMessageDecoder<GameMess
                 // No size, don't have to decode size or payload.
                 case 0:
                     type = MessageType.FIXED;
+                    if (discard) {
+                        reset();
+                        return null;
+                    }
                     return createDecodedMessage(Unpooled.EMPTY_BUFFER);
 
                 // Variable sized packet.
@@ -153,15 +166,23 @@ public final class GameMessageDecoder extends ProgressiveMessageDecoder<GameMess
 
     /**
      * Decodes the payload.
+     * <p>
+     * The payload is a retained slice of the cumulation buffer rather than a copy, so it must be released exactly
+     * once (see {@link ByteMessage#release()}) after it has been read.
      *
      * @param in The buffer to read from.
      * @return The decoded game message.
      */
     private Object payload(ByteBuf in) {
         if (in.isReadable(size)) {
+            if (discard) {
+                in.skipBytes(size);
+                reset();
+                return null;
+            }
 
             // Create payload using decoded size.
-            ByteBuf newBuffer = in.readBytes(size);
+            ByteBuf newBuffer = in.readRetainedSlice(size);
             return createDecodedMessage(newBuffer);
         }
         return null;
@@ -3,16 +3,18 @@ package io.luna.net.codec.game;
 import io.luna.net.codec.IsaacCipher;
 import io.luna.net.codec.MessageType;
 import io.luna.net.msg.GameMessage;
+import io.luna.net.msg.GameMessageBatch;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 
 /**
- * A {@link MessageToByteEncoder} implementation that encodes game messages.
+ * A {@link MessageToByteEncoder} implementation that encodes game messages. Accepts either a single
+ * {@link GameMessage} or a {@link GameMessageBatch}, which is encoded into one pre-sized buffer.
  *
  * @author lare96
  */
-public final class GameMessageEncoder extends MessageToByteEncoder<GameMessage> {
+public final class GameMessageEncoder extends MessageToByteEncoder<Object> {
 
     /**
      * The encryptor.
@@ -29,7 +31,36 @@ public final class GameMessageEncoder extends MessageToByteEncoder<GameMessage>
     }
 
     @Override
-    public void encode(ChannelHandlerContext ctx, GameMessage msg, ByteBuf out) throws Exception {
+    public boolean acceptOutboundMessage(Object msg) {
+        return msg instanceof GameMessage || msg instanceof GameMessageBatch;
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) {
+        int size = msg instanceof GameMessageBatch ? ((GameMessageBatch) msg).getEncodedSize() :
+                GameMessageBatch.encodedSize((GameMessage) msg);
+        return preferDirect ? ctx.alloc().ioBuffer(size) : ctx.alloc().heapBuffer(size);
+    }
+
+    @Override
+    public void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
+        if (msg instanceof GameMessageBatch) {
+            // Payloads are released as they are encoded, the batch releases any left over on failure.
+            for (GameMessage next : ((GameMessageBatch) msg).getMessages()) {
+                encode(next, out);
+            }
+        } else {
+            encode((GameMessage) msg, out);
+        }
+    }
+
+    /**
+     * Encodes a single game message into {@code out}, and then releases its payload.
+     *
+     * @param msg The message to encode.
+     * @param out The buffer to encode into.
+     */
+    private void encode(GameMessage msg, ByteBuf out) {
         try {
             out.writeByte(msg.getOpcode() + encryptor.nextInt());
             if (msg.getType() == MessageType.VAR) {
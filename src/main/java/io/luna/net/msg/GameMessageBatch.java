@@ -0,0 +1,106 @@
+package io.luna.net.msg;
+
+import io.luna.net.codec.MessageType;
+import io.luna.net.codec.game.GameMessageEncoder;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.ReferenceCounted;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An ordered batch of outgoing {@link GameMessage}s that is written to a channel as a single unit, and encoded into
+ * a single pre-sized buffer by the {@link GameMessageEncoder}.
+ * <p>
+ * The batch is reference counted so that the payloads of its messages are released even if the batch never reaches
+ * the encoder, for example when the channel closes with the write still pending.
+ *
+ * @author lare96
+ */
+public final class GameMessageBatch extends AbstractReferenceCounted {
+
+    /**
+     * The messages in this batch.
+     */
+    private final List<GameMessage> messages;
+
+    /**
+     * The size of this batch once encoded, including message headers.
+     */
+    private int encodedSize;
+
+    /**
+     * Creates a new {@link GameMessageBatch}.
+     *
+     * @param expectedSize The expected amount of messages.
+     */
+    public GameMessageBatch(int expectedSize) {
+        messages = new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Adds a message to the end of this batch.
+     *
+     * @param msg The message to add.
+     */
+    public void add(GameMessage msg) {
+        messages.add(msg);
+        encodedSize += encodedSize(msg);
+    }
+
+    /**
+     * Computes the size of {@code msg} once encoded, including its header.
+     *
+     * @param msg The message.
+     * @return The encoded size.
+     */
+    public static int encodedSize(GameMessage msg) {
+        int header = 1;
+        if (msg.getType() == MessageType.VAR) {
+            header += Byte.BYTES;
+        } else if (msg.getType() == MessageType.VAR_SHORT) {
+            header += Short.BYTES;
+        }
+        return header + msg.getSize();
+    }
+
+    @Override
+    protected void deallocate() {
+        for (GameMessage msg : messages) {
+            msg.getPayload().releaseAll();
+        }
+    }
+
+    @Override
+    public ReferenceCounted touch(Object hint) {
+        return this;
+    }
+
+    /**
+     * @return The messages in this batch.
+     */
+    public List<GameMessage> getMessages() {
+        return messages;
+    }
+
+    /**
+     * @return The amount of messages in this batch.
+     */
+    public int size() {
+        return messages.size();
+    }
+
+    /**
+     * @return {@code true} if this batch has no messages.
+     */
+    public boolean isEmpty() {
+        return messages.isEmpty();
+    }
+
+    /**
+     * @return The size of this batch once encoded, including message headers.
+     */
+    public int getEncodedSize() {
+        return encodedSize;
+    }
+}
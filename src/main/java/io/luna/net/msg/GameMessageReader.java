@@ -85,12 +85,31 @@ public abstract class GameMessageReader<E extends Event> {
 
     }
 
+    /**
+     * Determines if messages handled by this reader can be dropped by the network layer before they are decoded.
+     * This should only return {@code true} for readers that never produce an event and have no side effects, such as
+     * keep-alive and mouse tracking messages. Discarded messages never reach {@link #decode(Player, GameMessage)}.
+     *
+     * @return {@code true} if messages handled by this reader are discardable.
+     */
+    public boolean isDiscardable() {
+        return false;
+    }
+
+    /**
+     * Returns the category of messages handled by this reader, which determines how they are budgeted while
+     * waiting to be processed.
+     *
+     * @return The inbound category.
+     */
+    public InboundCategory getCategory() {
+        return InboundCategory.OTHER;
+    }
+
     /**
      * Submits a raw {@link GameMessage} for decoding and dispatch.
      * <p>
-     * This method decodes the message, validates the produced event, checks controller restrictions for
-     * {@link ControllableEvent}s, performs reader-specific handling, and then dispatches the event either through
-     * the interaction system or directly to plugins.
+     * This method decodes the message and then passes the produced event to {@link #submitEvent(Player, Event)}.
      * <p>
      * Any exception during this flow is treated as fatal to the session and causes the player to be logged out.
      *
@@ -98,13 +117,37 @@ public abstract class GameMessageReader<E extends Event> {
      * @param msg The raw game message.
      */
     public final void submitMessage(Player player, GameMessage msg) {
+        E event;
         try {
             // Decode event object from raw client data.
             if(msg.getPayload().refCnt() == 0) {
                 return;
             }
-            E event = decode(player, msg);
+            event = decode(player, msg);
+        } catch (Exception e) {
 
+            // Disconnect on exception.
+            logger.error("{} failed in reading game message.", player, e);
+            player.forceLogout();
+            return;
+        }
+        submitEvent(player, event);
+    }
+
+    /**
+     * Submits an already built event for validation and dispatch, exactly as if it had been decoded by this reader.
+     * This is the entry point for senders that don't need to go through the byte protocol, such as bots.
+     * <p>
+     * The event is validated, checked against controller restrictions if it's a {@link ControllableEvent}, handled,
+     * and then dispatched either through the interaction system or directly to plugins.
+     * <p>
+     * Any exception during this flow is treated as fatal to the session and causes the player to be logged out.
+     *
+     * @param player The player that sent the event.
+     * @param event The event.
+     */
+    public final void submitEvent(Player player, E event) {
+        try {
             // Validate the event with the decoder and the current controller if needed.
             if (event != VoidEvent.INSTANCE && validate(player, event) && !player.isLocked()) {
                 if (event instanceof ControllableEvent) {
@@ -123,7 +166,7 @@ public abstract class GameMessageReader<E extends Event> {
         } catch (Exception e) {
 
             // Disconnect on exception.
-            logger.error("{} failed in reading game message.", player, e);
+            logger.error("{} failed in handling game event.", player, e);
             player.forceLogout();
         }
     }
@@ -57,6 +57,17 @@ public final class GameMessageRepository implements Iterable<GameMessageReader<?
         return get(opcode).getSize();
     }
 
+    /**
+     * Determines if messages with {@code opcode} can be dropped by the network layer without being decoded.
+     *
+     * @param opcode The opcode.
+     * @return {@code true} if messages with the opcode are discardable.
+     * @see GameMessageReader#isDiscardable()
+     */
+    public boolean isDiscardable(int opcode) {
+        return get(opcode).isDiscardable();
+    }
+
     /**
      * Locks this repository, making it read-only. Has no effect if already locked.
      */
@@ -0,0 +1,27 @@
+package io.luna.net.msg;
+
+import io.luna.net.client.InboundMessageQueue;
+
+/**
+ * An enum representing categories of incoming game messages, which determine how they are budgeted by an
+ * {@link InboundMessageQueue}.
+ *
+ * @author lare96
+ */
+public enum InboundCategory {
+
+    /**
+     * A walking request. Only the latest pending walking request is kept, older ones are coalesced into it.
+     */
+    WALKING,
+
+    /**
+     * A click on an entity, item, or interface. Capped to a fixed amount per tick.
+     */
+    CLICK,
+
+    /**
+     * Any other message. Only limited by the capacity of the queue.
+     */
+    OTHER
+}
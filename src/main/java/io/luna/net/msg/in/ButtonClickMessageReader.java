@@ -5,6 +5,7 @@ import io.luna.game.event.impl.ButtonClickEvent;
 import io.luna.game.model.mob.Player;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent when a widget is clicked.
@@ -30,4 +31,9 @@ public final class ButtonClickMessageReader extends GameMessageReader<ButtonClic
             player.sendMessage("[ButtonClickMessageReader]: " + event.getId());
         }
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
@@ -21,8 +21,21 @@ public final class ChatMessageReader extends GameMessageReader<ChatEvent> {
         int effect = msg.getPayload().get(false, ValueType.ADD);
         int size = msg.getSize() - 2;
         byte[] message = msg.getPayload().getBytes(size);
+        return createEvent(player, color, effect, message);
+    }
+
+    /**
+     * Creates the event for a chat message from its decoded fields.
+     *
+     * @param player The player.
+     * @param color The chat color.
+     * @param effect The chat effect.
+     * @param message The packed message text.
+     * @return The event.
+     */
+    public ChatEvent createEvent(Player player, int color, int effect, byte[] message) {
         String unpackedMessage = StringUtils.unpackText(message).trim();
-        return new ChatEvent(player, effect, color, size, message, unpackedMessage);
+        return new ChatEvent(player, effect, color, message.length, message, unpackedMessage);
     }
 
     @Override
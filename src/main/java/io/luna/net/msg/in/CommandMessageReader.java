@@ -28,7 +28,18 @@ public final class CommandMessageReader extends GameMessageReader<CommandEvent>
 
     @Override
     public CommandEvent decode(Player player, GameMessage msg) {
-        String string = msg.getPayload().getString().toLowerCase();
+        return createEvent(player, msg.getPayload().getString());
+    }
+
+    /**
+     * Creates the event for a command from its decoded fields.
+     *
+     * @param player The player.
+     * @param command The command, with its arguments.
+     * @return The event.
+     */
+    public CommandEvent createEvent(Player player, String command) {
+        String string = command.toLowerCase();
         int index = string.indexOf(' ');
         if (index == -1) {
             return new CommandEvent(player, string, string);
@@ -19,6 +19,19 @@ public final class DesignPlayerMessageReader extends GameMessageReader<DesignPla
         int gender = msg.getPayload().get();
         byte[] models = msg.getPayload().getBytes(7);
         byte[] colors = msg.getPayload().getBytes(5);
+        return createEvent(player, gender, models, colors);
+    }
+
+    /**
+     * Creates the event for a character design from its decoded fields.
+     *
+     * @param player The player.
+     * @param gender The gender.
+     * @param models The 7 model identifiers.
+     * @param colors The 5 colors.
+     * @return The event.
+     */
+    public DesignPlayerEvent createEvent(Player player, int gender, byte[] models, byte[] colors) {
         int[] values = new int[13];
         int index = 0;
         values[index++] = gender;
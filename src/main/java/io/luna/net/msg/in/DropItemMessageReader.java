@@ -7,6 +7,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data for when an item is dropped.
@@ -39,4 +40,9 @@ public final class DropItemMessageReader extends GameMessageReader<DropItemEvent
         // Check if inventory item ID is equal to event item ID.
         return player.getInventory().contains(index, itemId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
+}
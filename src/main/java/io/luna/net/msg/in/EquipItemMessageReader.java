@@ -6,6 +6,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data for when an item is equipped.
@@ -31,4 +32,9 @@ public final class EquipItemMessageReader extends GameMessageReader<EquipItemEve
         }
         return player.getInventory().contains(event.getIndex(), event.getItemId());
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
@@ -10,6 +10,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent on ground item clicks.
@@ -29,11 +30,31 @@ public final class GroundItemClickMessageReader extends GameMessageReader<Ground
                 itemId = msg.getPayload().getShort(false, ValueType.ADD);
                 itemY = msg.getPayload().getShort(false, ByteOrder.LITTLE);
                 itemX = msg.getPayload().getShort(false);
-                return new GroundItemSecondClickEvent(player, findItem(player, itemId, itemX, itemY));
+                return createEvent(player, opcode, itemId, itemX, itemY);
             case 71:
                 itemId = msg.getPayload().getShort(false, ByteOrder.LITTLE, ValueType.ADD);
                 itemX = msg.getPayload().getShort(false, ByteOrder.LITTLE, ValueType.ADD);
                 itemY = msg.getPayload().getShort(false, ValueType.ADD);
+                return createEvent(player, opcode, itemId, itemX, itemY);
+        }
+        throw new IllegalStateException("Invalid opcode [" + opcode + "]");
+    }
+
+    /**
+     * Creates the event for a ground item click from its decoded fields.
+     *
+     * @param player The player.
+     * @param opcode The opcode of the click.
+     * @param itemId The item identifier.
+     * @param itemX The x coordinate of the item.
+     * @param itemY The y coordinate of the item.
+     * @return The event.
+     */
+    public GroundItemClickEvent createEvent(Player player, int opcode, int itemId, int itemX, int itemY) {
+        switch (opcode) {
+            case 54:
+                return new GroundItemSecondClickEvent(player, findItem(player, itemId, itemX, itemY));
+            case 71:
                 return new PickupItemEvent(player, findItem(player, itemId, itemX, itemY));
         }
         throw new IllegalStateException("Invalid opcode [" + opcode + "]");
@@ -55,4 +76,9 @@ public final class GroundItemClickMessageReader extends GameMessageReader<Ground
                 filter(item -> item.getId() == id &&
                         item.isVisibleTo(player)).findFirst().orElse(null);
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
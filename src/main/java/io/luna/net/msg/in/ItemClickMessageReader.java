@@ -13,6 +13,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent on item clicks.
@@ -34,26 +35,52 @@ public final class ItemClickMessageReader extends GameMessageReader<ItemClickEve
                 interfaceId = payload.getShort(true, ValueType.ADD);
                 index = payload.getShort(false, ByteOrder.LITTLE);
                 id = payload.getShort(true, ByteOrder.LITTLE);
-                return new ItemFirstClickEvent(player, id, index, interfaceId);
+                return createEvent(player, opcode, id, index, interfaceId);
             case 24:
                 id = payload.getShort(false);
                 index = payload.getShort(false, ValueType.ADD);
                 interfaceId = payload.getShort(false, ValueType.ADD);
-                return new ItemSecondClickEvent(player, id, index, interfaceId);
+                return createEvent(player, opcode, id, index, interfaceId);
             case 161:
                 id = payload.getShort(false, ValueType.ADD);
                 index = payload.getShort(true, ByteOrder.LITTLE, ValueType.ADD);
                 interfaceId = payload.getShort(true, ByteOrder.LITTLE, ValueType.ADD);
-                return new ItemThirdClickEvent(player, id, index, interfaceId);
+                return createEvent(player, opcode, id, index, interfaceId);
             case 228:
                 index = payload.getShort(true, ByteOrder.LITTLE);
                 id = payload.getShort(false, ValueType.ADD);
                 interfaceId = payload.getShort(true);
-                return new ItemFourthClickEvent(player, id, index, interfaceId);
+                return createEvent(player, opcode, id, index, interfaceId);
             case 4:
                 id = payload.getShort(false, ValueType.ADD);
                 interfaceId = payload.getShort(false);
                 index = payload.getShort(false, ValueType.ADD);
+                return createEvent(player, opcode, id, index, interfaceId);
+        }
+        throw new IllegalStateException("invalid opcode");
+    }
+
+    /**
+     * Creates the event for an item click from its decoded fields.
+     *
+     * @param player The player.
+     * @param opcode The opcode of the click.
+     * @param id The item identifier.
+     * @param index The index of the item on the widget.
+     * @param interfaceId The widget identifier.
+     * @return The event.
+     */
+    public ItemClickEvent createEvent(Player player, int opcode, int id, int index, int interfaceId) {
+        switch (opcode) {
+            case 203:
+                return new ItemFirstClickEvent(player, id, index, interfaceId);
+            case 24:
+                return new ItemSecondClickEvent(player, id, index, interfaceId);
+            case 161:
+                return new ItemThirdClickEvent(player, id, index, interfaceId);
+            case 228:
+                return new ItemFourthClickEvent(player, id, index, interfaceId);
+            case 4:
                 return new ItemFifthClickEvent(player, id, index, interfaceId);
         }
         throw new IllegalStateException("invalid opcode");
@@ -77,4 +104,9 @@ public final class ItemClickMessageReader extends GameMessageReader<ItemClickEve
     public void handle(Player player, ItemClickEvent event){
         player.getOverlays().closeWindows();
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
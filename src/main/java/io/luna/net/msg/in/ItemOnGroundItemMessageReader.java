@@ -9,6 +9,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent when an item is used on a ground item.
@@ -51,4 +52,9 @@ public final class ItemOnGroundItemMessageReader extends GameMessageReader<ItemO
         }
         return false;
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
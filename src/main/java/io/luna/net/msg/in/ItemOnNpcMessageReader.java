@@ -8,6 +8,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent when an item is used on a npc.
@@ -18,11 +19,25 @@ public final class ItemOnNpcMessageReader extends GameMessageReader<ItemOnNpcEve
 
     @Override
     public ItemOnNpcEvent decode(Player player, GameMessage msg) {
-        World world = player.getWorld();
         int npcIndex = msg.getPayload().getShort();
         int itemId = msg.getPayload().getShort(ByteOrder.LITTLE);
         int itemInterfaceId = msg.getPayload().getShort(ByteOrder.LITTLE, ValueType.ADD);
         int itemIndex = msg.getPayload().getShort();
+        return createEvent(player, itemId, itemIndex, itemInterfaceId, npcIndex);
+    }
+
+    /**
+     * Creates the event for an item used on an NPC from its decoded fields.
+     *
+     * @param player The player.
+     * @param itemId The used item identifier.
+     * @param itemIndex The used item index.
+     * @param itemInterfaceId The used item widget identifier.
+     * @param npcIndex The index of the NPC.
+     * @return The event.
+     */
+    public ItemOnNpcEvent createEvent(Player player, int itemId, int itemIndex, int itemInterfaceId, int npcIndex) {
+        World world = player.getWorld();
         return new ItemOnNpcEvent(player, itemId, itemIndex, itemInterfaceId, world.getNpcs().get(npcIndex));
     }
 
@@ -44,4 +59,9 @@ public final class ItemOnNpcMessageReader extends GameMessageReader<ItemOnNpcEve
     public void handle(Player player, ItemOnNpcEvent event) {
         player.getOverlays().closeWindows();
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
@@ -9,6 +9,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent when an item is used on an object.
@@ -25,7 +26,23 @@ public final class ItemOnObjectMessageReader extends GameMessageReader<ItemOnObj
         int objectY = msg.getPayload().getShort(true, ByteOrder.LITTLE);
         int itemIndexId = msg.getPayload().getShort(true);
         int objectX = msg.getPayload().getShort(true, ByteOrder.LITTLE, ValueType.ADD);
+        return createEvent(player, itemId, itemIndexId, itemInterfaceId, objectX, objectY, objectId);
+    }
 
+    /**
+     * Creates the event for an item used on an object from its decoded fields.
+     *
+     * @param player The player.
+     * @param itemId The used item identifier.
+     * @param itemIndexId The used item index.
+     * @param itemInterfaceId The used item widget identifier.
+     * @param objectX The x coordinate of the object.
+     * @param objectY The y coordinate of the object.
+     * @param objectId The object identifier.
+     * @return The event.
+     */
+    public ItemOnObjectEvent createEvent(Player player, int itemId, int itemIndexId, int itemInterfaceId,
+                                         int objectX, int objectY, int objectId) {
         Position objectPosition = new Position(objectX, objectY, player.getPosition().getZ());
         GameObject gameObject = player.getWorld().getObjects().findAll(objectPosition).
                 filter(nextObject -> nextObject.getId() == objectId &&
@@ -53,4 +70,9 @@ public final class ItemOnObjectMessageReader extends GameMessageReader<ItemOnObj
     public void handle(Player player, ItemOnObjectEvent event) {
         player.getOverlays().closeWindows();
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
@@ -8,6 +8,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} that intercepts data sent for when a player uses an item on a player.
@@ -18,11 +19,26 @@ public final class ItemOnPlayerMessageReader extends GameMessageReader<ItemOnPla
 
     @Override
     public ItemOnPlayerEvent decode(Player player, GameMessage msg) {
-        World world = player.getWorld();
         int itemId = msg.getPayload().getShort(ByteOrder.LITTLE);
         int itemIndex = msg.getPayload().getShort(ByteOrder.LITTLE, ValueType.ADD);
         int itemInterfaceId = msg.getPayload().getShort();
         int playerIndex = msg.getPayload().getShort(ValueType.ADD);
+        return createEvent(player, itemId, itemIndex, itemInterfaceId, playerIndex);
+    }
+
+    /**
+     * Creates the event for an item used on a player from its decoded fields.
+     *
+     * @param player The player.
+     * @param itemId The used item identifier.
+     * @param itemIndex The used item index.
+     * @param itemInterfaceId The used item widget identifier.
+     * @param playerIndex The index of the target player.
+     * @return The event.
+     */
+    public ItemOnPlayerEvent createEvent(Player player, int itemId, int itemIndex, int itemInterfaceId,
+                                         int playerIndex) {
+        World world = player.getWorld();
         return new ItemOnPlayerEvent(player, itemId, itemIndex, itemInterfaceId, world.getPlayers().get(playerIndex));
     }
 
@@ -44,4 +60,9 @@ public final class ItemOnPlayerMessageReader extends GameMessageReader<ItemOnPla
     public void handle(Player player, ItemOnPlayerEvent event) {
         player.getOverlays().closeWindows();
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
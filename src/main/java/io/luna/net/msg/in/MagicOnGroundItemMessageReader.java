@@ -9,6 +9,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} that intercepts data sent for when a player uses magic on a ground item.
@@ -40,5 +41,9 @@ public final class MagicOnGroundItemMessageReader extends GameMessageReader<Magi
             player.sendMessage("[MagicOnGroundItemMessageReader]: spellId: " + event.getSpellId() + ", itemId: " + event.getTargetItem().getId());
         }
     }
-}
 
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
+}
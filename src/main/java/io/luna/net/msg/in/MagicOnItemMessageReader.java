@@ -6,6 +6,7 @@ import io.luna.game.model.mob.Player;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} that intercepts data sent for when a player uses magic on an inventory item.
@@ -38,4 +39,9 @@ public final class MagicOnItemMessageReader extends GameMessageReader<MagicOnIte
                     event.getTargetItemInterface() + ", index: " + event.getTargetItemIndex() + ", id: " + event.getTargetItemId());
         }
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
@@ -8,6 +8,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} that generates and submits a {@link MagicOnNpcEvent} when a player attempts to cast
@@ -31,4 +32,9 @@ public final class MagicOnNpcMessageReader extends GameMessageReader<MagicOnNpcE
     public boolean validate(Player player, MagicOnNpcEvent event) {
         return event.getTargetNpc() != null;
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
@@ -8,6 +8,7 @@ import io.luna.game.model.mob.Player;
 import io.luna.net.codec.ByteOrder;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} that generates and submits a {@link MagicOnPlayerEvent} when a player attempts to cast
@@ -38,4 +39,9 @@ public final class MagicOnPlayerMessageReader extends GameMessageReader<MagicOnP
                     ", player: " + event.getTargetPlr().getUsername());
         }
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
@@ -17,4 +17,9 @@ public final class MouseClickMessageReader extends GameMessageReader<VoidEvent>
         int value = msg.getPayload().getInt(true);
         return VoidEvent.INSTANCE;
     }
+
+    @Override
+    public boolean isDiscardable() {
+        return true;
+    }
 }
@@ -16,4 +16,9 @@ public final class MouseFlaggedMessageReader extends GameMessageReader<VoidEvent
     public VoidEvent decode(Player player, GameMessage msg) {
         return VoidEvent.INSTANCE;
     }
+
+    @Override
+    public boolean isDiscardable() {
+        return true;
+    }
 }
@@ -13,6 +13,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent on NPC clicks.
@@ -23,25 +24,41 @@ public final class NpcClickMessageReader extends GameMessageReader<NpcClickEvent
 
     @Override
     public NpcClickEvent decode(Player player, GameMessage msg) {
-        World world = player.getWorld();
         int opcode = msg.getOpcode();
         ByteMessage payload = msg.getPayload();
-        int npcIndex;
         switch (opcode) {
             case 112:
-                npcIndex = payload.getShort(ByteOrder.LITTLE);
+            case 42:
+            case 8:
+                return createEvent(player, opcode, payload.getShort(ByteOrder.LITTLE));
+            case 13:
+                return createEvent(player, opcode, payload.getShort(ByteOrder.LITTLE, ValueType.ADD));
+            case 67:
+                return createEvent(player, opcode, payload.getShort(ValueType.ADD));
+        }
+        throw new IllegalStateException("invalid opcode");
+    }
+
+    /**
+     * Creates the event for an NPC click from its decoded fields.
+     *
+     * @param player The player.
+     * @param opcode The opcode of the click.
+     * @param npcIndex The index of the NPC.
+     * @return The event.
+     */
+    public NpcClickEvent createEvent(Player player, int opcode, int npcIndex) {
+        World world = player.getWorld();
+        switch (opcode) {
+            case 112:
                 return new NpcFirstClickEvent(player, world.getNpcs().get(npcIndex));
             case 13:
-                npcIndex = payload.getShort(ByteOrder.LITTLE, ValueType.ADD);
                 return new NpcSecondClickEvent(player, world.getNpcs().get(npcIndex));
             case 67:
-                npcIndex = payload.getShort(ValueType.ADD);
                 return new AttackNpcEvent(player, world.getNpcs().get(npcIndex));
             case 42:
-                npcIndex = payload.getShort(ByteOrder.LITTLE);
                 return new NpcThirdClickEvent(player, world.getNpcs().get(npcIndex));
             case 8:
-                npcIndex = payload.getShort(ByteOrder.LITTLE);
                 return new NpcFourthClickEvent(player, world.getNpcs().get(npcIndex));
         }
         throw new IllegalStateException("invalid opcode");
@@ -51,5 +68,9 @@ public final class NpcClickMessageReader extends GameMessageReader<NpcClickEvent
     public boolean validate(Player player, NpcClickEvent event) {
         return event.getTargetNpc() != null;
     }
-}
 
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
+}
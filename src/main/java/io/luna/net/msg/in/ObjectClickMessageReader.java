@@ -12,6 +12,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent object clicks.
@@ -27,25 +28,44 @@ public final class ObjectClickMessageReader extends GameMessageReader<ObjectClic
         int objectX;
         int objectY;
         int objectId;
-        GameObject gameObject;
         switch (opcode) {
             case 181:
                 objectX = payload.getShort(true, ValueType.ADD);
                 objectY = payload.getShort(false, ByteOrder.LITTLE);
                 objectId = payload.getShort(false, ByteOrder.LITTLE);
-                gameObject = findObject(player, objectX, objectY, objectId);
-                return new ObjectFirstClickEvent(player, gameObject);
+                return createEvent(player, opcode, objectX, objectY, objectId);
             case 241:
                 objectId = payload.getShort(false);
                 objectX = payload.getShort(true);
                 objectY = payload.getShort(false, ValueType.ADD);
-                gameObject = findObject(player, objectX, objectY, objectId);
-                return new ObjectSecondClickEvent(player, gameObject);
+                return createEvent(player, opcode, objectX, objectY, objectId);
             case 50:
                 objectY = payload.getShort(false, ValueType.ADD);
                 objectId = payload.getShort(false, ByteOrder.LITTLE);
                 objectX = payload.getShort(true, ByteOrder.LITTLE, ValueType.ADD);
-                gameObject = findObject(player, objectX, objectY, objectId);
+                return createEvent(player, opcode, objectX, objectY, objectId);
+        }
+        throw new IllegalStateException("invalid opcode");
+    }
+
+    /**
+     * Creates the event for an object click from its decoded fields.
+     *
+     * @param player The player.
+     * @param opcode The opcode of the click.
+     * @param objectX The x coordinate of the object.
+     * @param objectY The y coordinate of the object.
+     * @param objectId The object ID.
+     * @return The event.
+     */
+    public ObjectClickEvent createEvent(Player player, int opcode, int objectX, int objectY, int objectId) {
+        GameObject gameObject = findObject(player, objectX, objectY, objectId);
+        switch (opcode) {
+            case 181:
+                return new ObjectFirstClickEvent(player, gameObject);
+            case 241:
+                return new ObjectSecondClickEvent(player, gameObject);
+            case 50:
                 return new ObjectThirdClickEvent(player, gameObject);
         }
         throw new IllegalStateException("invalid opcode");
@@ -71,4 +91,9 @@ public final class ObjectClickMessageReader extends GameMessageReader<ObjectClic
                 filter(object -> object.getId() == objectId && object.isVisibleTo(player)).
                 findFirst().orElse(null);
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
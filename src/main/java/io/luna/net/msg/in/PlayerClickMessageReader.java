@@ -13,6 +13,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent on Player interaction menu clicks.
@@ -23,25 +24,41 @@ public final class PlayerClickMessageReader extends GameMessageReader<PlayerClic
 
     @Override
     public PlayerClickEvent decode(Player player, GameMessage msg) {
-        World world = player.getWorld();
         int opcode = msg.getOpcode();
         ByteMessage payload = msg.getPayload();
-        int playerIndex;
         switch (opcode) {
             case 245:
-                playerIndex = payload.getShort(ByteOrder.LITTLE, ValueType.ADD);
+                return createEvent(player, opcode, payload.getShort(ByteOrder.LITTLE, ValueType.ADD));
+            case 233:
+            case 45:
+                return createEvent(player, opcode, payload.getShort(ValueType.ADD));
+            case 194:
+            case 116:
+                return createEvent(player, opcode, payload.getShort(ByteOrder.LITTLE));
+        }
+        throw new IllegalStateException("invalid opcode");
+    }
+
+    /**
+     * Creates the event for a player click from its decoded fields.
+     *
+     * @param player The player.
+     * @param opcode The opcode of the click.
+     * @param playerIndex The index of the clicked player.
+     * @return The event.
+     */
+    public PlayerClickEvent createEvent(Player player, int opcode, int playerIndex) {
+        World world = player.getWorld();
+        switch (opcode) {
+            case 245:
                 return new PlayerFirstClickEvent(player, world.getPlayers().get(playerIndex));
             case 233:
-                playerIndex = payload.getShort(ValueType.ADD);
                 return new PlayerSecondClickEvent(player, world.getPlayers().get(playerIndex));
             case 194:
-                playerIndex = payload.getShort(ByteOrder.LITTLE);
                 return new PlayerThirdClickEvent(player, world.getPlayers().get(playerIndex));
             case 116:
-                playerIndex = payload.getShort(ByteOrder.LITTLE);
                 return new PlayerFourthClickEvent(player, world.getPlayers().get(playerIndex));
             case 45:
-                playerIndex = payload.getShort(ValueType.ADD);
                 return new PlayerFifthClickEvent(player, world.getPlayers().get(playerIndex));
         }
         throw new IllegalStateException("invalid opcode");
@@ -51,4 +68,9 @@ public final class PlayerClickMessageReader extends GameMessageReader<PlayerClic
     public boolean validate(Player player, PlayerClickEvent event) {
         return event.getTargetPlr() != null;
     }
-}
\ No newline at end of file
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
+}
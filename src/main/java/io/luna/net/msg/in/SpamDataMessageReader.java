@@ -17,4 +17,9 @@ public final class SpamDataMessageReader extends GameMessageReader<VoidEvent> {
         byte[] spamData = msg.getPayload().getBytes(msg.getSize());
         return VoidEvent.INSTANCE;
     }
+
+    @Override
+    public boolean isDiscardable() {
+        return true;
+    }
 }
@@ -12,6 +12,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -93,4 +94,9 @@ public final class WalkingMessageReader extends GameMessageReader<WalkingEvent>
         // Only interrupt actions for non-interaction clicks.
         player.getOverlays().closeWindows(event.getOrigin() != WalkingOrigin.INTERACTION);
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.WALKING;
+    }
 }
@@ -13,6 +13,7 @@ import io.luna.net.codec.ByteOrder;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessage;
 import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.InboundCategory;
 
 /**
  * A {@link GameMessageReader} implementation that intercepts data sent on interface item clicks.
@@ -33,26 +34,52 @@ public final class WidgetItemClickMessageReader extends GameMessageReader<Widget
                 itemId = payload.getShort(ValueType.ADD);
                 interfaceId = payload.getShort();
                 index = payload.getShort();
-                return new WidgetItemFirstClickEvent(player, index, interfaceId, itemId);
+                return createEvent(player, opcode, index, interfaceId, itemId);
             case 177:
                 index = payload.getShort(true, ValueType.ADD);
                 itemId = payload.getShort(true, ByteOrder.LITTLE);
                 interfaceId = payload.getShort(true, ByteOrder.LITTLE);
-                return new WidgetItemSecondClickEvent(player, index, interfaceId, itemId);
+                return createEvent(player, opcode, index, interfaceId, itemId);
             case 91:
                 itemId = payload.getShort(ByteOrder.LITTLE);
                 index = payload.getShort(ByteOrder.LITTLE, ValueType.ADD);
                 interfaceId = payload.getShort();
-                return new WidgetItemThirdClickEvent(player, index, interfaceId, itemId);
+                return createEvent(player, opcode, index, interfaceId, itemId);
             case 231:
                 interfaceId = payload.getShort(ByteOrder.LITTLE, ValueType.ADD);
                 index = payload.getShort(ByteOrder.LITTLE);
                 itemId = payload.getShort();
-                return new WidgetItemFourthClickEvent(player, index, interfaceId, itemId);
+                return createEvent(player, opcode, index, interfaceId, itemId);
             case 158:
                 index = payload.getShort(ByteOrder.LITTLE, ValueType.ADD);
                 itemId = payload.getShort(ByteOrder.LITTLE, ValueType.ADD);
                 interfaceId = payload.getShort(ByteOrder.LITTLE);
+                return createEvent(player, opcode, index, interfaceId, itemId);
+        }
+        throw new IllegalStateException("invalid opcode");
+    }
+
+    /**
+     * Creates the event for a widget item click from its decoded fields.
+     *
+     * @param player The player.
+     * @param opcode The opcode of the click.
+     * @param index The index of the item on the widget.
+     * @param interfaceId The widget identifier.
+     * @param itemId The item identifier.
+     * @return The event.
+     */
+    public WidgetItemClickEvent createEvent(Player player, int opcode, int index, int interfaceId, int itemId) {
+        switch (opcode) {
+            case 3:
+                return new WidgetItemFirstClickEvent(player, index, interfaceId, itemId);
+            case 177:
+                return new WidgetItemSecondClickEvent(player, index, interfaceId, itemId);
+            case 91:
+                return new WidgetItemThirdClickEvent(player, index, interfaceId, itemId);
+            case 231:
+                return new WidgetItemFourthClickEvent(player, index, interfaceId, itemId);
+            case 158:
                 return new WidgetItemFifthClickEvent(player, index, interfaceId, itemId);
         }
         throw new IllegalStateException("invalid opcode");
@@ -62,4 +89,9 @@ public final class WidgetItemClickMessageReader extends GameMessageReader<Widget
     public boolean validate(Player player, WidgetItemClickEvent event) {
         return event.getWidgetId() > 0 && event.getIndex() >= 0 && ItemDefinition.isIdValid(event.getItemId());
     }
+
+    @Override
+    public InboundCategory getCategory() {
+        return InboundCategory.CLICK;
+    }
 }
@@ -58,4 +58,9 @@ public final class AddGraphicMessageWriter extends GameMessageWriter implements
         msg.putShort(delay);
         return msg;
     }
+
+    @Override
+    public boolean isViewerIndependent() {
+        return true;
+    }
 }
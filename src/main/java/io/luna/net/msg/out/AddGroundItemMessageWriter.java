@@ -51,4 +51,9 @@ public final class AddGroundItemMessageWriter extends GameMessageWriter implemen
         msg.putShort(amount, ValueType.ADD);
         return msg;
     }
+
+    @Override
+    public boolean isViewerIndependent() {
+        return true;
+    }
 }
@@ -58,4 +58,9 @@ public final class AddLocalSoundMessageWriter extends GameMessageWriter implemen
         msg.put((radius << 4) + (volume & 7));
         return msg;
     }
+
+    @Override
+    public boolean isViewerIndependent() {
+        return true;
+    }
 }
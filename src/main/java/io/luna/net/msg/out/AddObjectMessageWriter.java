@@ -59,4 +59,9 @@ public final class AddObjectMessageWriter extends GameMessageWriter implements C
         msg.put(offset, ValueType.ADD);
         return msg;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isViewerIndependent() {
+        return true;
+    }
+}
@@ -116,4 +116,9 @@ public final class AddProjectileMessageWriter extends GameMessageWriter implemen
         msg.put(startDistance);
         return msg;
     }
+
+    @Override
+    public boolean isViewerIndependent() {
+        return true;
+    }
 }
@@ -58,4 +58,9 @@ public final class AnimateGameObjectMessageWriter extends GameMessageWriter impl
         msg.put(offset);
         return msg;
     }
+
+    @Override
+    public boolean isViewerIndependent() {
+        return true;
+    }
 }
@@ -3,17 +3,22 @@ package io.luna.net.msg.out;
 import io.luna.game.model.Position;
 import io.luna.game.model.chunk.ChunkRepository;
 import io.luna.game.model.chunk.ChunkUpdatableMessage;
+import io.luna.game.model.chunk.ChunkUpdateCache;
 import io.luna.game.model.mob.Player;
 import io.luna.net.codec.ByteMessage;
 import io.luna.net.codec.MessageType;
 import io.luna.net.codec.ValueType;
 import io.luna.net.msg.GameMessageWriter;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 
 import java.util.Collection;
 
 /**
  * A {@link GameMessageWriter} implementation that adds collection of stationary entities to a chunk.
+ * <p>
+ * Viewer-independent messages are encoded once per tick through the chunk's {@link ChunkUpdateCache}. The shared
+ * persistent state of the chunk, if any, is appended as a retained slice rather than copied.
  *
  * @author lare96
  */
@@ -29,6 +34,16 @@ public final class GroupedEntityMessageWriter extends GameMessageWriter {
      */
     private final Position placementPosition;
 
+    /**
+     * The cache of encoded update messages for the placement chunk.
+     */
+    private final ChunkUpdateCache cache;
+
+    /**
+     * The shared persistent state to write before {@link #messages}, or {@code null}.
+     */
+    private final ByteBuf state;
+
     /**
      * The messages to write.
      */
@@ -39,30 +54,53 @@ public final class GroupedEntityMessageWriter extends GameMessageWriter {
      *
      * @param basePosition The base position.
      * @param placementChunkRepository The placement position.
+     * @param state The shared persistent state to write before {@code messages}, or {@code null}.
      * @param messages The messages to write.
      */
-    public GroupedEntityMessageWriter(Position basePosition, ChunkRepository placementChunkRepository, Collection<ChunkUpdatableMessage> messages) {
+    public GroupedEntityMessageWriter(Position basePosition, ChunkRepository placementChunkRepository, ByteBuf state,
+                                      Collection<ChunkUpdatableMessage> messages) {
         this.basePosition = basePosition;
         this.placementPosition = placementChunkRepository.getChunk().getAbsPosition();
+        this.cache = placementChunkRepository.getUpdateCache();
+        this.state = state;
         this.messages = messages;
     }
 
+    /**
+     * Creates a new {@link GroupedEntityMessageWriter} without any shared persistent state.
+     *
+     * @param basePosition The base position.
+     * @param placementChunkRepository The placement position.
+     * @param messages The messages to write.
+     */
+    public GroupedEntityMessageWriter(Position basePosition, ChunkRepository placementChunkRepository, Collection<ChunkUpdatableMessage> messages) {
+        this(basePosition, placementChunkRepository, null, messages);
+    }
+
     @Override
     public ByteMessage write(Player player, ByteBuf buffer) {
         ByteMessage mainMsg = ByteMessage.message(183, MessageType.VAR_SHORT, buffer);
         mainMsg.put(placementPosition.getLocalX(basePosition));
         mainMsg.put(placementPosition.getLocalY(basePosition), ValueType.ADD);
-        for (ChunkUpdatableMessage updatableMessage : messages) {
-            GameMessageWriter subMsg = (GameMessageWriter) updatableMessage;
-            ByteBuf pooledBuf = ByteMessage.pooledBuffer();
-            try {
-                ByteMessage buf = subMsg.write(player, pooledBuf);
-                mainMsg.put(buf.getOpcode());
-                mainMsg.putBytes(buf);
-            } finally {
-                pooledBuf.release(pooledBuf.refCnt());
+        if (state == null) {
+            for (ChunkUpdatableMessage updatableMessage : messages) {
+                cache.write(player, updatableMessage, mainMsg);
+            }
+            return mainMsg;
+        }
+
+        ByteBuf updates = ByteMessage.pooledBuffer();
+        try {
+            ByteMessage updatesMsg = ByteMessage.wrap(updates);
+            for (ChunkUpdatableMessage updatableMessage : messages) {
+                cache.write(player, updatableMessage, updatesMsg);
             }
+        } catch (RuntimeException e) {
+            updates.release();
+            throw e;
         }
-        return mainMsg;
+        CompositeByteBuf composite = buffer.alloc().compositeBuffer(3);
+        composite.addComponents(true, buffer, state.retainedSlice(), updates);
+        return ByteMessage.message(183, MessageType.VAR_SHORT, composite);
     }
 }
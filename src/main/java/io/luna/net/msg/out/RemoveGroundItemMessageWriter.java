@@ -42,4 +42,9 @@ public final class RemoveGroundItemMessageWriter extends GameMessageWriter imple
         msg.put(offset, ValueType.ADD);
         return msg;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isViewerIndependent() {
+        return true;
+    }
+}
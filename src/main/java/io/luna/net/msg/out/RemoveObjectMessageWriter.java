@@ -49,4 +49,9 @@ public final class RemoveObjectMessageWriter extends GameMessageWriter  implemen
         msg.put((type << 2) + (direction & 3), ValueType.SUBTRACT);
         return msg;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isViewerIndependent() {
+        return true;
+    }
+}
@@ -57,4 +57,9 @@ public final class UpdateGroundItemMessageWriter extends GameMessageWriter imple
         msg.putShort(newAmount);
         return msg;
     }
+
+    @Override
+    public boolean isViewerIndependent() {
+        return true;
+    }
 }
@@ -1,8 +1,8 @@
 package io.luna.util.parser;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
 import io.luna.game.model.LocalProjectile;
 import io.luna.game.model.LocalProjectile.TargetBuilder;
 import io.luna.game.model.chunk.ChunkUpdatableView;
@@ -13,16 +13,19 @@ import io.luna.game.model.mob.block.PlayerModelAnimation;
 import io.luna.util.GsonUtils;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.function.BiFunction;
 
 /**
- * A {@link FileParser} implementation designed to parse {@code JSON} tokens.
+ * A {@link FileParser} implementation designed to parse {@code JSON} tokens. Files must contain a single array of
+ * objects, which is streamed so that only the object being parsed is held in memory.
  *
  * @param <R> The token object type.
  * @author lare96
  */
-public abstract class JsonFileParser<R> extends FileParser<JsonArray, JsonObject, R> {
+public abstract class JsonFileParser<R> extends FileParser<JsonReader, JsonObject, R> {
 
     /**
      * Creates a new {@link JsonFileParser}.
@@ -34,20 +37,33 @@ public abstract class JsonFileParser<R> extends FileParser<JsonArray, JsonObject
     }
 
     @Override
-    public JsonObject parse(JsonArray parser) {
-        JsonElement element = parser.get(currentIndex);
-        return element.getAsJsonObject();
+    public JsonObject parse(JsonReader parser) {
+        return GsonUtils.GSON.fromJson(parser, JsonObject.class);
     }
 
     @Override
-    public JsonArray newParser(BufferedReader reader) {
-        JsonElement jsonReader = GsonUtils.GSON.fromJson(reader, JsonElement.class);
-        return jsonReader.getAsJsonArray();
+    public JsonReader newParser(BufferedReader reader) {
+        try {
+            JsonReader jsonReader = GsonUtils.GSON.newJsonReader(reader);
+            jsonReader.setStrictness(Strictness.LENIENT); // Allow comments.
+            jsonReader.beginArray();
+            return jsonReader;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
-    public boolean hasNext(JsonArray parser) {
-        return currentIndex + 1 <= parser.size();
+    public boolean hasNext(JsonReader parser) {
+        try {
+            if (parser.hasNext()) {
+                return true;
+            }
+            parser.endArray();
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
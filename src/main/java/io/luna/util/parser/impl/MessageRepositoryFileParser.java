@@ -42,6 +42,11 @@ public final class MessageRepositoryFileParser extends JsonFileParser<GameMessag
         public VoidEvent decode(Player player, GameMessage msg) {
             return VoidEvent.INSTANCE;
         }
+
+        @Override
+        public boolean isDiscardable() {
+            return true;
+        }
     }
 
     /**
@@ -105,6 +105,9 @@ object Suspendable {
      *  - A matching message arrives and the condition returns true.
      *  - Or the [timeoutSeconds] elapses.
      *
+     * The bot is subscribed to [type] while waiting, so messages of that type are only kept while something is waiting
+     * for them.
+     *
      * @param timeoutSeconds How long to wait before timing out. Default = 5 minutes (300s).
      * @param type The message class type to wait for.
      * @param cond A predicate function that evaluates incoming messages.
@@ -112,32 +115,29 @@ object Suspendable {
      */
     suspend fun <T : GameMessageWriter> BotInputMessageHandler.waitFor(timeoutSeconds: Long = 300, type: KClass<T>,
                                                                        cond: T.() -> Boolean): Boolean {
-        // Drop any messages from before we started waiting.
-        received[type.java].clear()
-
-        val condition = SuspendableCondition {
-            val messages = received[type.java]
-            val iterator = messages.iterator()
-            while (iterator.hasNext()) {
-                val msg = iterator.next()
-
-                @Suppress("UNCHECKED_CAST")
-                val typedMsg = msg.message as? T ?: continue
-
-                if (cond(typedMsg)) {
-                    // Found the message that matches the condition.
-                    return@SuspendableCondition true
+        val inbox = subscribe(type.java)
+        try {
+            // Drop any messages from before we started waiting.
+            inbox.clear()
+
+            val condition = SuspendableCondition {
+                while (true) {
+                    val msg = inbox.poll() ?: break
+                    if (cond(msg.message)) {
+                        // Found the message that matches the condition.
+                        return@SuspendableCondition true
+                    }
                 }
-                // Otherwise remove from buffer.
-                iterator.remove()
+                false
             }
-            false
-        }
-        if (!condition.submit(timeoutSeconds).await()) {
-            bot.log("Timed out waiting for input message {${type.simpleName}}.")
-            return false
+            if (!condition.submit(timeoutSeconds).await()) {
+                bot.log("Timed out waiting for input message {${type.simpleName}}.")
+                return false
+            }
+            return true
+        } finally {
+            unsubscribe(type.java)
         }
-        return true
     }
 }
 
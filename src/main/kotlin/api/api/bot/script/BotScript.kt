@@ -1,6 +1,7 @@
 package api.bot.script
 
 import api.bot.GameCoroutineScope
+import api.bot.Suspendable.waitFor
 import io.luna.game.model.EntityState
 import io.luna.game.model.mob.bot.Bot
 import io.luna.game.model.mob.bot.script.BotScriptSnapshot
@@ -113,7 +114,8 @@ abstract class BotScript(bot: Bot) : AbstractBotScript(bot) {
      *
      * Starting launches a new coroutine on [api.bot.GameCoroutineScope]. The coroutine calls [init], then loops
      * through [run] until the bot becomes inactive, the coroutine is cancelled, or [run] returns `true`.
-     * [finish] is always called before the coroutine exits.
+     * [finish] is always called before the coroutine exits. Bots that no human player can see only [run] on their
+     * detailed cycles, based on [Bot.getProcessInterval], and are checked again every tick until their next one.
      *
      * If this script was previously paused, [init] receives `resumed = true`. If this script is already running or has
      * been permanently terminated, no new coroutine is launched.
@@ -131,6 +133,13 @@ abstract class BotScript(bot: Bot) : AbstractBotScript(bot) {
                     }
                     while (bot.state == EntityState.ACTIVE && isActive) {
                         yield()
+                        if (!bot.isDetailedCycle && !waitFor { bot.isDetailedCycle }) {
+                            // Nobody can see this bot, so its scripts step less often. The condition is checked
+                            // once every tick, so no detailed cycle is missed, and a bot a player can see again
+                            // runs on the next one. It isn't checked again once we resume, since the cycle has
+                            // moved on by then.
+                            continue
+                        }
                         val completed = run()
                         if(completed) {
                             terminated = true
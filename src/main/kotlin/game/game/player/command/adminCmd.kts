@@ -223,3 +223,48 @@ cmd("item", RIGHTS_ADMIN) {
     val amount = if (args.size == 2) asInt(1) else 1
     plr.inventory.add(Item(id, amount))
 }
+
+/**
+ * A command that displays the last tick profile report, or enables and disables the tick profiler.
+ */
+cmd("tickprofile", RIGHTS_ADMIN) {
+    val profiler = world.tickProfiler
+    if (args.isNotEmpty()) {
+        profiler.isEnabled = args[0] == "on"
+        plr.sendMessage("The tick profiler has been ${if (profiler.isEnabled) "enabled" else "disabled"}.")
+        return@cmd
+    }
+    val report = profiler.lastReport ?: profiler.createReport()
+    val tick = report.tickMs
+    plr.sendMessage("Tick profile of ${tick.count} ticks, ${report.overruns} overruns (${report.timestamp}):")
+    plr.sendMessage("Tick: mean ${"%.2f".format(tick.mean)}ms, p99 ${"%.2f".format(tick.p99)}ms, max ${"%.2f".format(tick.max)}ms")
+    for ((phase, summary) in report.phaseMs) {
+        plr.sendMessage("$phase: mean ${"%.2f".format(summary.mean)}ms, p99 ${"%.2f".format(summary.p99)}ms")
+    }
+    val allocated = report.allocatedBytes
+    if (allocated != null) {
+        plr.sendMessage("Allocated: mean ${allocated.mean.toLong() / 1024}kB, p99 ${allocated.p99.toLong() / 1024}kB")
+    }
+}
+
+/**
+ * A command that displays the slowest event listeners of the last minute, or sets the listener profiler's sample rate.
+ */
+cmd("listenerprofile", RIGHTS_ADMIN) {
+    val profiler = plugins.listenerProfiler
+    if (args.isNotEmpty()) {
+        profiler.sampleRate = asInt(0)
+        plr.sendMessage("The listener profiler sample rate has been set to ${profiler.sampleRate}.")
+        return@cmd
+    }
+    val report = profiler.lastReport
+    if (report.isEmpty()) {
+        plr.sendMessage("No listeners were profiled last minute (sample rate ${profiler.sampleRate}).")
+        return@cmd
+    }
+    plr.sendMessage("Slowest listeners of the last minute (sample rate ${profiler.sampleRate}):")
+    for (stats in report.take(10)) {
+        plr.sendMessage("${stats.script} (${stats.eventType}): ~${"%.1f".format(stats.totalMs)}ms, " +
+                                "~${stats.invocations} calls, ${"%.0f".format(stats.meanMicros)}us mean")
+    }
+}
@@ -0,0 +1,72 @@
+package io.luna;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link StartupGraph}.
+ *
+ * @author lare96
+ */
+final class StartupGraphTest {
+
+    @Test
+    void tasksRunAfterTheirDependencies() {
+        List<String> completed = new CopyOnWriteArrayList<>();
+        StartupGraph graph = new StartupGraph();
+        graph.add("map", () -> completed.add("map"));
+        graph.add("objects", () -> completed.add("objects"));
+        graph.add("parser", () -> completed.add("parser"));
+        graph.add("collision", () -> {
+            assertTrue(completed.containsAll(List.of("map", "objects")));
+            completed.add("collision");
+        }, "map", "objects");
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            graph.run(pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(4, completed.size());
+        assertTrue(completed.indexOf("collision") > completed.indexOf("map"));
+        assertTrue(completed.indexOf("collision") > completed.indexOf("objects"));
+    }
+
+    @Test
+    void failedTasksDontStallDependents() {
+        List<String> completed = new CopyOnWriteArrayList<>();
+        StartupGraph graph = new StartupGraph();
+        graph.add("failing", () -> {
+            throw new IllegalStateException();
+        });
+        graph.add("dependent", () -> completed.add("dependent"), "failing");
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            graph.run(pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(List.of("dependent"), completed);
+    }
+
+    @Test
+    void dependenciesMustBeAddedFirst() {
+        StartupGraph graph = new StartupGraph();
+        graph.add("map", () -> {
+        });
+        assertThrows(IllegalArgumentException.class, () -> graph.add("collision", () -> {
+        }, "map", "objects"));
+        assertThrows(IllegalArgumentException.class, () -> graph.add("map", () -> {
+        }));
+    }
+}
@@ -0,0 +1,143 @@
+package io.luna.game.model.collision;
+
+import com.google.common.collect.ImmutableMap;
+import io.luna.LunaContext;
+import io.luna.game.cache.Cache;
+import io.luna.game.cache.map.MapIndexTable;
+import io.luna.game.model.Direction;
+import io.luna.game.model.Position;
+import io.luna.game.model.World;
+import io.luna.game.model.chunk.Chunk;
+import io.luna.game.model.chunk.ChunkManager;
+import io.luna.game.model.chunk.ChunkRepository;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CollisionManager}.
+ *
+ * @author lare96
+ */
+final class CollisionManagerTest {
+
+    static World mockWorld() {
+        MapIndexTable table = mock(MapIndexTable.class);
+        when(table.getIndexTable()).thenReturn(ImmutableMap.of());
+        Cache cache = mock(Cache.class);
+        when(cache.getMapIndexTable()).thenReturn(table);
+        LunaContext context = mock(LunaContext.class);
+        when(context.getCache()).thenReturn(cache);
+
+        World world = mock(World.class);
+        when(world.getContext()).thenReturn(context);
+        ChunkManager chunks = new ChunkManager(world);
+        when(world.getChunks()).thenReturn(chunks);
+        return world;
+    }
+
+    static short[] toArray(CollisionMatrix matrix) {
+        ShortBuffer buffer = ShortBuffer.allocate(64);
+        matrix.write(buffer);
+        return buffer.array();
+    }
+
+    @Test
+    void parallelApplyMatchesSequential() {
+        // Regions around Lumbridge, with walls and corners crossing chunk and region borders.
+        Random random = new Random(377);
+        List<CollisionUpdate> updates = new ArrayList<>();
+        List<Position> bridges = new ArrayList<>();
+        for (int region = 0; region < 64; region++) {
+            CollisionUpdate.Builder builder = new CollisionUpdate.Builder();
+            builder.type(CollisionUpdateType.ADDING);
+            int baseX = 3136 + (region % 8) * 64;
+            int baseY = 3136 + (region / 8) * 64;
+            for (int count = 0; count < 200; count++) {
+                Position position = new Position(baseX + random.nextInt(64), baseY + random.nextInt(64),
+                        random.nextInt(4));
+                switch (random.nextInt(4)) {
+                    case 0 -> builder.tile(position, random.nextBoolean(), Direction.NESW);
+                    case 1 -> builder.wall(position, random.nextBoolean(), Direction.WNES.get(random.nextInt(4)));
+                    case 2 -> builder.wall(position, random.nextBoolean(),
+                            Direction.WNES_DIAGONAL.get(random.nextInt(4)));
+                    case 3 -> builder.largeCornerWall(position, random.nextBoolean(),
+                            Direction.WNES_DIAGONAL.get(random.nextInt(4)));
+                }
+                if (random.nextInt(20) == 0) {
+                    bridges.add(new Position(position.getX(), position.getY(), 1));
+                }
+            }
+            updates.add(builder.build());
+        }
+
+        World sequentialWorld = mockWorld();
+        CollisionManager sequential = new CollisionManager(sequentialWorld);
+        bridges.forEach(sequential::markBridged);
+        for (CollisionUpdate update : updates) {
+            sequential.apply(update, true);
+        }
+
+        World parallelWorld = mockWorld();
+        CollisionManager parallel = new CollisionManager(parallelWorld);
+        bridges.forEach(parallel::markBridged);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.applyParallel(updates, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        ChunkManager sequentialChunks = sequentialWorld.getChunks();
+        ChunkManager parallelChunks = parallelWorld.getChunks();
+        assertEquals(sequentialChunks.getAll().size(), parallelChunks.getAll().size());
+        for (ChunkRepository repository : sequentialChunks.getAll()) {
+            CollisionMatrix[] expected = repository.getMatrices();
+            CollisionMatrix[] actual = parallelChunks.load(repository.getChunk()).getMatrices();
+            for (int plane = 0; plane < expected.length; plane++) {
+                assertArrayEquals(toArray(expected[plane]), toArray(actual[plane]),
+                        repository.getChunk() + " plane " + plane);
+            }
+        }
+    }
+
+    @Test
+    void pinnedViewObservesConsistentEpoch() {
+        World world = mockWorld();
+        CollisionManager manager = new CollisionManager(world);
+        Position wall = new Position(3223, 3222);
+        Position far = new Position(3300, 3300);
+
+        try (CollisionView view = manager.pin()) {
+            long pinned = view.getEpoch();
+            for (Position position : List.of(wall, far)) {
+                CollisionUpdate.Builder builder = new CollisionUpdate.Builder();
+                builder.type(CollisionUpdateType.ADDING);
+                builder.tile(position, true, Direction.NESW);
+                manager.apply(builder.build(), false);
+                manager.handleSnapshots();
+            }
+
+            // Only the single modified plane of each chunk is copied.
+            assertEquals(Chunk.SIZE * Chunk.SIZE * Short.BYTES, manager.getLastBytesCopied());
+            assertEquals(pinned + 2, manager.getEpoch());
+            assertEquals(pinned, view.getEpoch());
+            assertFalse(view.isBlocked(wall));
+            assertFalse(view.isBlocked(far));
+            assertTrue(manager.isBlocked(wall, true));
+            assertTrue(manager.isBlocked(far, true));
+        }
+        assertEquals(0, manager.getPinnedViews());
+    }
+}
@@ -0,0 +1,93 @@
+package io.luna.game.model.collision;
+
+import io.luna.game.model.Direction;
+import io.luna.game.model.EntityType;
+import io.luna.game.model.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.Deque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link PortalGraph}.
+ *
+ * @author lare96
+ */
+final class PortalGraphTest {
+
+    /**
+     * Creates a collision manager with a blocked ring of tiles, published to its snapshots.
+     *
+     * @return The collision manager.
+     */
+    private static CollisionManager ringManager() {
+        CollisionManager manager = new CollisionManager(ReachabilityIndexTest.mockWorld());
+        manager.apply(ReachabilityIndexTest.ring(), false);
+        manager.handleSnapshots();
+        return manager;
+    }
+
+    /**
+     * Finds a path, and checks that every step of it is traversable.
+     *
+     * @param manager The collision manager.
+     * @param origin The origin.
+     * @param target The target.
+     * @return The path, or {@code null} if no route was found.
+     */
+    private static Deque<Position> findPath(CollisionManager manager, Position origin, Position target) {
+        try (CollisionView view = manager.pin()) {
+            Deque<Position> path = manager.getPortalGraph().findPath(view, origin, target);
+            if (path != null) {
+                Position current = origin;
+                for (Position next : path) {
+                    assertEquals(1, current.computeLongestDistance(next));
+                    Direction direction = Direction.between(current, next);
+                    assertTrue(view.traversable(current, EntityType.PLAYER, direction), current + " " + next);
+                    current = next;
+                }
+                assertEquals(target, current);
+            }
+            return path;
+        }
+    }
+
+    @Test
+    void routesAroundCollision() {
+        CollisionManager manager = ringManager();
+        Position origin = new Position(3250, 3214);
+        Position target = new Position(3290, 3214);
+        Deque<Position> path = findPath(manager, origin, target);
+        assertNotNull(path);
+
+        // Walking straight through would take 40 steps, going around the ring takes a few more.
+        assertTrue(path.size() > 40 && path.size() < 50, "length " + path.size());
+    }
+
+    @Test
+    void enclosedTargetHasNoRoute() {
+        CollisionManager manager = ringManager();
+        assertNull(findPath(manager, new Position(3250, 3214), new Position(3264, 3214)));
+        assertNull(findPath(manager, new Position(3250, 3214), new Position(3350, 3214)));
+    }
+
+    @Test
+    void clustersRebuiltAfterCollisionChanges() {
+        CollisionManager manager = ringManager();
+        Position origin = new Position(3240, 3214);
+        Position inside = new Position(3264, 3214);
+        assertNull(findPath(manager, origin, inside));
+
+        // Open a gap in the ring.
+        CollisionUpdate.Builder builder = new CollisionUpdate.Builder();
+        builder.type(CollisionUpdateType.REMOVING);
+        builder.tile(new Position(3260, 3214), false, Direction.NESW);
+        manager.apply(builder.build(), false);
+        manager.handleSnapshots();
+        assertNotNull(findPath(manager, origin, inside));
+    }
+}
@@ -0,0 +1,136 @@
+package io.luna.game.model.collision;
+
+import com.google.common.collect.ImmutableMap;
+import io.luna.LunaContext;
+import io.luna.game.cache.Cache;
+import io.luna.game.cache.map.MapIndex;
+import io.luna.game.cache.map.MapIndexTable;
+import io.luna.game.model.Direction;
+import io.luna.game.model.EntityType;
+import io.luna.game.model.Position;
+import io.luna.game.model.Region;
+import io.luna.game.model.World;
+import io.luna.game.model.chunk.ChunkManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReachabilityIndex}.
+ *
+ * @author lare96
+ */
+final class ReachabilityIndexTest {
+
+    /**
+     * The regions with map data, around Lumbridge.
+     */
+    private static final List<Region> REGIONS = List.of(new Region(50, 50), new Region(51, 50));
+
+    static World mockWorld() {
+        ImmutableMap.Builder<Region, MapIndex> indexes = ImmutableMap.builder();
+        for (Region region : REGIONS) {
+            indexes.put(region, new MapIndex(region, -1, -1, false));
+        }
+        MapIndexTable table = mock(MapIndexTable.class);
+        when(table.getIndexTable()).thenReturn(indexes.build());
+        Cache cache = mock(Cache.class);
+        when(cache.getMapIndexTable()).thenReturn(table);
+        LunaContext context = mock(LunaContext.class);
+        when(context.getCache()).thenReturn(cache);
+
+        World world = mock(World.class);
+        when(world.getContext()).thenReturn(context);
+        ChunkManager chunks = new ChunkManager(world);
+        when(world.getChunks()).thenReturn(chunks);
+        return world;
+    }
+
+    /**
+     * Creates an update that blocks a square ring of tiles, crossing the border between both regions.
+     *
+     * @return The update.
+     */
+    static CollisionUpdate ring() {
+        CollisionUpdate.Builder builder = new CollisionUpdate.Builder();
+        builder.type(CollisionUpdateType.ADDING);
+        for (int x = 3260; x <= 3268; x++) {
+            for (int y = 3210; y <= 3218; y++) {
+                if (x == 3260 || x == 3268 || y == 3210 || y == 3218) {
+                    builder.tile(new Position(x, y), false, Direction.NESW);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Test
+    void blockedRingSeparatesComponents() {
+        CollisionManager manager = new CollisionManager(mockWorld());
+        manager.apply(ring(), true);
+        ReachabilityIndex index = manager.getReachability();
+        index.build(REGIONS);
+
+        Position inside = new Position(3264, 3214);
+        Position outside = new Position(3250, 3214);
+        assertTrue(index.isReachable(inside, new Position(3261, 3217)));
+        assertTrue(index.isReachable(outside, new Position(3300, 3250)));
+        assertFalse(index.isReachable(outside, inside));
+        assertFalse(index.isReachable(inside, outside));
+
+        // The ring itself can't be entered, but tiles next to it can.
+        assertFalse(index.isReachable(outside, new Position(3260, 3214)));
+        assertTrue(index.isReachable(outside, new Position(3260, 3214), 1));
+        assertFalse(index.isReachable(outside, new Position(3264, 3214), 3));
+
+        // Regions without map data, and other planes, are never reachable.
+        assertFalse(index.isReachable(outside, new Position(3350, 3214)));
+        assertFalse(index.isReachable(outside, new Position(3250, 3214, 1)));
+    }
+
+    @Test
+    void removedCollisionMergesComponents() {
+        CollisionManager manager = new CollisionManager(mockWorld());
+        manager.apply(ring(), true);
+        ReachabilityIndex index = manager.getReachability();
+        index.build(REGIONS);
+
+        Position inside = new Position(3264, 3214);
+        Position outside = new Position(3250, 3214);
+        assertFalse(index.isReachable(outside, inside));
+
+        // Open a gap in the ring while the world is live.
+        Position gap = new Position(3268, 3214);
+        CollisionUpdate.Builder builder = new CollisionUpdate.Builder();
+        builder.type(CollisionUpdateType.REMOVING);
+        builder.tile(gap, false, Direction.NESW);
+        manager.apply(builder.build(), false);
+        assertTrue(index.isReachable(outside, inside));
+        assertTrue(index.isReachable(inside, outside));
+        assertTrue(index.isReachable(outside, gap));
+    }
+
+    @Test
+    void entryMasksMatchMatrix() {
+        CollisionMatrix matrix = new CollisionMatrix(1, 1);
+        for (CollisionFlag flag : CollisionFlag.values()) {
+            matrix.set(0, 0, flag);
+            for (Direction direction : Direction.ALL_EXCEPT_NONE) {
+                assertEquals(matrix.untraversable(0, 0, EntityType.PLAYER, direction),
+                        ReachabilityIndex.isUntraversable(matrix.get(0, 0), direction), flag + " " + direction);
+            }
+        }
+    }
+
+    @Test
+    void unbuiltIndexAllowsEverything() {
+        ReachabilityIndex index = new CollisionManager(mockWorld()).getReachability();
+        assertTrue(index.isReachable(new Position(3250, 3214), new Position(3350, 3214)));
+    }
+}
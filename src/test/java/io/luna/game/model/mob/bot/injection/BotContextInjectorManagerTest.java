@@ -0,0 +1,117 @@
+package io.luna.game.model.mob.bot.injection;
+
+import io.luna.game.event.impl.InjectableEvent;
+import io.luna.game.model.Locatable;
+import io.luna.game.model.Position;
+import io.luna.game.model.mob.bot.Bot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link BotContextInjectorManager}.
+ *
+ * @author lare96
+ */
+final class BotContextInjectorManagerTest {
+
+    /**
+     * An event posted at a fixed position.
+     */
+    static final class TestEvent implements InjectableEvent {
+
+        final Position origin;
+        final int radius;
+
+        TestEvent(Position origin, int radius) {
+            this.origin = origin;
+            this.radius = radius;
+        }
+
+        @Override
+        public Locatable contextOrigin() {
+            return origin;
+        }
+
+        @Override
+        public int contextRadius(Bot bot) {
+            return radius;
+        }
+    }
+
+    BotContextInjectorManager manager;
+    Set<InjectableEvent> injected;
+
+    @BeforeEach
+    void initManager() {
+        manager = new BotContextInjectorManager();
+        injected = new HashSet<>();
+        manager.setInjectors(List.of((bot, event) -> injected.add(event)));
+    }
+
+    @Test
+    void onlyNearbyEventsAreInjected() {
+        Bot bot = bot(new Position(3200, 3200));
+        TestEvent near = new TestEvent(new Position(3185, 3215), 15);
+        TestEvent tooFar = new TestEvent(new Position(3216, 3200), 15);
+        TestEvent otherPlane = new TestEvent(new Position(3200, 3200, 1), 15);
+        TestEvent smallRadius = new TestEvent(new Position(3206, 3200), 5);
+        TestEvent neverViewable = new TestEvent(new Position(3200, 3201), -1);
+        TestEvent farAway = new TestEvent(new Position(3400, 3400), 15);
+        for (TestEvent event : List.of(near, tooFar, otherPlane, smallRadius, neverViewable, farAway)) {
+            manager.addEvent(event);
+        }
+
+        manager.injectEvents(bot);
+        assertEquals(Set.of(near), injected);
+
+        manager.clearEvents();
+        injected.clear();
+        manager.injectEvents(bot);
+        assertEquals(Set.of(), injected);
+    }
+
+    @Test
+    void matchesLinearScan() {
+        Random random = new Random(377);
+        List<TestEvent> events = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Position position = new Position(3100 + random.nextInt(100), 3100 + random.nextInt(100));
+            TestEvent event = new TestEvent(position, random.nextInt(InjectableEvent.MAX_CONTEXT_RADIUS + 1));
+            events.add(event);
+            manager.addEvent(event);
+        }
+        assertEquals(events.size(), manager.getPendingCount());
+
+        for (int i = 0; i < 200; i++) {
+            Bot bot = bot(new Position(3090 + random.nextInt(120), 3090 + random.nextInt(120)));
+            Set<InjectableEvent> expected = new HashSet<>();
+            for (TestEvent event : events) {
+                if (bot.getPosition().isWithinDistance(event.origin, event.radius)) {
+                    expected.add(event);
+                }
+            }
+            injected.clear();
+            manager.injectEvents(bot);
+            assertEquals(expected, injected);
+        }
+    }
+
+    /**
+     * Creates a bot standing on {@code position}.
+     */
+    static Bot bot(Position position) {
+        Bot bot = mock(Bot.class);
+        when(bot.getPosition()).thenReturn(position);
+        return bot;
+    }
+}
@@ -0,0 +1,105 @@
+package io.luna.game.model.mob.bot.io;
+
+import io.luna.game.event.impl.ButtonClickEvent;
+import io.luna.game.model.mob.bot.Bot;
+import io.luna.net.msg.GameMessageRepository;
+import io.luna.net.msg.in.ButtonClickMessageReader;
+import io.luna.net.msg.out.GameChatboxMessageWriter;
+import io.luna.net.msg.out.WidgetTextMessageWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link BotClient} and {@link BotInputMessageHandler}.
+ *
+ * @author lare96
+ */
+final class BotClientTest {
+
+    Bot bot;
+    GameMessageRepository repository;
+    BotClient client;
+    BotInputMessageHandler input;
+
+    @BeforeEach
+    void initClient() {
+        bot = mock(Bot.class);
+        repository = mock(GameMessageRepository.class);
+        client = new BotClient(bot, repository);
+        input = client.getInput();
+    }
+
+    @Test
+    void unsubscribedMessagesAreDropped() {
+        for (int i = 0; i < 10_000; i++) {
+            client.queue(new GameChatboxMessageWriter("hello"));
+            client.flush();
+        }
+        assertEquals(0, input.getSubscriptionCount());
+        assertNull(input.getInbox(GameChatboxMessageWriter.class));
+    }
+
+    @Test
+    void inboxIsBounded() {
+        BotInbox<GameChatboxMessageWriter> inbox = input.subscribe(GameChatboxMessageWriter.class);
+        GameChatboxMessageWriter last = null;
+        for (int i = 0; i < 10_000; i++) {
+            last = new GameChatboxMessageWriter("hello " + i);
+            client.queue(last);
+            client.queue(new WidgetTextMessageWriter("ignored", 1));
+            client.flush();
+        }
+        assertEquals(BotInbox.CAPACITY, inbox.size());
+        assertFalse(input.isSubscribed(WidgetTextMessageWriter.class));
+
+        // Only the newest messages are kept.
+        BotMessage<GameChatboxMessageWriter> msg = null;
+        for (int i = 0; i < BotInbox.CAPACITY; i++) {
+            msg = inbox.poll();
+        }
+        assertSame(last, msg.getMessage());
+        assertNull(inbox.poll());
+    }
+
+    @Test
+    void inboxIsDiscardedWithLastSubscriber() {
+        input.subscribe(GameChatboxMessageWriter.class);
+        input.subscribe(GameChatboxMessageWriter.class);
+        input.unsubscribe(GameChatboxMessageWriter.class);
+        assertTrue(input.isSubscribed(GameChatboxMessageWriter.class));
+
+        input.unsubscribe(GameChatboxMessageWriter.class);
+        assertFalse(input.isSubscribed(GameChatboxMessageWriter.class));
+        client.queue(new GameChatboxMessageWriter("hello"));
+        client.flush();
+        assertEquals(0, input.getSubscriptionCount());
+    }
+
+    @Test
+    void intentsAreSubmittedWithoutEncoding() {
+        ButtonClickMessageReader reader = mock(ButtonClickMessageReader.class);
+        when(repository.get(79)).thenAnswer(invocation -> reader);
+
+        client.getOutput().clickButton(2458);
+        verify(reader, never()).submitEvent(any(), any());
+
+        client.handleDecodedMessages();
+        ArgumentCaptor<ButtonClickEvent> event = ArgumentCaptor.forClass(ButtonClickEvent.class);
+        verify(reader).submitEvent(same(bot), event.capture());
+        verify(reader, never()).submitMessage(any(), any());
+        assertEquals(2458, event.getValue().getId());
+    }
+}
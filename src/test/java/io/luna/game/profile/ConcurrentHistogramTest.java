@@ -0,0 +1,48 @@
+package io.luna.game.profile;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ConcurrentHistogram}.
+ *
+ * @author lare96
+ */
+final class ConcurrentHistogramTest {
+
+    @Test
+    void bucketsContainTheirValues() {
+        Random random = new Random(377);
+        for (int i = 0; i < 100_000; i++) {
+            long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            int index = ConcurrentHistogram.indexOf(value);
+            assertTrue(value <= ConcurrentHistogram.upperBoundOf(index));
+            assertTrue(index == 0 || value > ConcurrentHistogram.upperBoundOf(index - 1));
+        }
+        assertEquals(Long.MAX_VALUE, ConcurrentHistogram.upperBoundOf(ConcurrentHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void percentilesAreWithinPrecision() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(5_000_500.0, histogram.getMean());
+        assertEquals(10_000_000, histogram.getMax());
+        for (double percentile : new double[]{50.0, 90.0, 99.0}) {
+            double expected = percentile * 100_000;
+            long actual = histogram.getValueAtPercentile(percentile);
+            assertTrue(actual >= expected && actual <= expected * (1.0 + 1.0 / 16), percentile + ": " + actual);
+        }
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99.0));
+    }
+}
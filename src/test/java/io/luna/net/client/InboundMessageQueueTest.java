@@ -0,0 +1,130 @@
+package io.luna.net.client;
+
+import io.luna.net.codec.ByteMessage;
+import io.luna.net.codec.MessageType;
+import io.luna.net.msg.GameMessage;
+import io.luna.net.msg.GameMessageReader;
+import io.luna.net.msg.GameMessageRepository;
+import io.luna.net.msg.InboundCategory;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link InboundMessageQueue}.
+ *
+ * @author lare96
+ */
+final class InboundMessageQueueTest {
+
+    static final int WALKING = 213;
+    static final int CLICK = 155;
+    static final int OTHER = 4;
+
+    ChannelConfig config;
+    InboundMessageQueue queue;
+
+    static GameMessageReader<?> reader(InboundCategory category) {
+        GameMessageReader<?> reader = mock(GameMessageReader.class);
+        when(reader.getCategory()).thenReturn(category);
+        return reader;
+    }
+
+    static GameMessage message(int opcode) {
+        return new GameMessage(opcode, MessageType.FIXED, ByteMessage.wrap(Unpooled.buffer(1).writeByte(0)));
+    }
+
+    @BeforeEach
+    void initQueue() {
+        GameMessageRepository repository = mock(GameMessageRepository.class);
+        GameMessageReader<?> walking = reader(InboundCategory.WALKING);
+        GameMessageReader<?> click = reader(InboundCategory.CLICK);
+        GameMessageReader<?> other = reader(InboundCategory.OTHER);
+        when(repository.get(WALKING)).then(invocation -> walking);
+        when(repository.get(CLICK)).then(invocation -> click);
+        when(repository.get(OTHER)).then(invocation -> other);
+
+        config = mock(ChannelConfig.class);
+        Channel channel = mock(Channel.class);
+        when(channel.config()).thenReturn(config);
+        queue = new InboundMessageQueue(channel, repository, 10);
+    }
+
+    @Test
+    void walkingIsCoalesced() {
+        GameMessage first = message(WALKING);
+        GameMessage other = message(OTHER);
+        GameMessage latest = message(WALKING);
+        queue.offer(first);
+        queue.offer(other);
+        queue.offer(latest);
+
+        assertEquals(0, first.getPayload().getBuffer().refCnt());
+        assertEquals(1, queue.getCoalesced());
+        assertSame(other, queue.poll());
+        assertSame(latest, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void coalescedWalkingMovesBehindClicks() {
+        GameMessage first = message(WALKING);
+        GameMessage click = message(CLICK);
+        GameMessage other = message(OTHER);
+        GameMessage latest = message(WALKING);
+        queue.offer(first);
+        queue.offer(click);
+        queue.offer(other);
+        queue.offer(latest);
+
+        // The replaced message leaves no empty slot behind.
+        assertEquals(3, queue.size());
+        assertSame(click, queue.poll());
+        assertSame(other, queue.poll());
+        assertSame(latest, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void clicksAreCappedPerTick() {
+        int accepted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (queue.offer(message(CLICK))) {
+                accepted++;
+            }
+        }
+        assertEquals(10, accepted);
+        assertEquals(10, queue.getDropped());
+
+        queue.resetBudgets();
+        assertTrue(queue.offer(message(CLICK)));
+    }
+
+    @Test
+    void fullQueueAppliesBackpressure() {
+        for (int i = 0; i < 256; i++) {
+            assertTrue(queue.offer(message(OTHER)));
+        }
+        verify(config).setAutoRead(false);
+        assertFalse(queue.offer(message(OTHER)));
+        assertEquals(1, queue.getDropped());
+
+        while (queue.size() > 64) {
+            queue.poll().getPayload().release();
+        }
+        verify(config).setAutoRead(true);
+        queue.clear();
+        assertEquals(0, queue.size());
+    }
+}
@@ -0,0 +1,146 @@
+package io.luna.net.codec;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates bit streams shaped like the bit sections of player and npc updating, and writes them using the original
+ * byte-at-a-time {@link ByteMessage#putBits(int, int)} algorithm for comparison.
+ *
+ * @author lare96
+ */
+public final class BitStreams {
+
+    /**
+     * Generates a bit stream resembling a player update for {@code locals} local players and {@code added} new ones.
+     * Each write is stored as two consecutive entries, the amount of bits followed by the value.
+     *
+     * @param seed The random seed.
+     * @param locals The amount of local players.
+     * @param added The amount of added players.
+     * @return The bit stream.
+     */
+    public static int[] playerUpdate(long seed, int locals, int added) {
+        Random random = new Random(seed);
+        int[] stream = new int[32 + (locals + added) * 16];
+        int size = 0;
+
+        // The local player: update required, walking, one direction, block flag.
+        size = put(stream, size, 1, 1);
+        size = put(stream, size, 2, 1);
+        size = put(stream, size, 3, random.nextInt(8));
+        size = put(stream, size, 1, random.nextInt(2));
+        size = put(stream, size, 8, locals);
+        for (int i = 0; i < locals; i++) {
+            int type = random.nextInt(4);
+            if (type == 0) {
+                size = put(stream, size, 1, 0);
+                continue;
+            }
+            size = put(stream, size, 1, 1);
+            size = put(stream, size, 2, type);
+            if (type == 1) {
+                size = put(stream, size, 3, random.nextInt(8));
+                size = put(stream, size, 1, random.nextInt(2));
+            } else if (type == 2) {
+                size = put(stream, size, 3, random.nextInt(8));
+                size = put(stream, size, 3, random.nextInt(8));
+                size = put(stream, size, 1, random.nextInt(2));
+            }
+        }
+        for (int i = 0; i < added; i++) {
+            size = put(stream, size, 11, random.nextInt(2048));
+            size = put(stream, size, 1, 1);
+            size = put(stream, size, 1, 1);
+            size = put(stream, size, 5, random.nextInt(32));
+            size = put(stream, size, 5, random.nextInt(32));
+        }
+        size = put(stream, size, 11, 2047);
+
+        // Occasionally write full words too, which the update protocol never does but the writer supports.
+        size = put(stream, size, 32, random.nextInt());
+        size = put(stream, size, 17, random.nextInt());
+        return Arrays.copyOf(stream, size);
+    }
+
+    /**
+     * Adds a write to {@code stream}.
+     */
+    private static int put(int[] stream, int size, int amount, int value) {
+        stream[size++] = amount;
+        stream[size++] = value;
+        return size;
+    }
+
+    /**
+     * Writes {@code stream} into {@code msg} in bit access mode.
+     *
+     * @param msg The message to write to.
+     * @param stream The bit stream.
+     */
+    public static void write(ByteMessage msg, int[] stream) {
+        msg.startBitAccess();
+        for (int i = 0; i < stream.length; i += 2) {
+            msg.putBits(stream[i], stream[i + 1]);
+        }
+        msg.endBitAccess();
+    }
+
+    /**
+     * Writes {@code stream} into {@code buf} using the original bit writing algorithm.
+     *
+     * @param buf The buffer to write to.
+     * @param stream The bit stream.
+     */
+    public static void writeLegacy(ByteBuf buf, int[] stream) {
+        int bitIndex = buf.writerIndex() << 3;
+        for (int i = 0; i < stream.length; i += 2) {
+            int amount = stream[i];
+            int value = stream[i + 1];
+            int bytePos = bitIndex >> 3;
+            int bitOffset = 8 - (bitIndex & 7);
+
+            bitIndex = bitIndex + amount;
+
+            int requiredSpace = bytePos - buf.writerIndex() + 1;
+            requiredSpace += (amount + 7) / 8;
+
+            if (buf.writableBytes() < requiredSpace) {
+                buf.capacity(buf.capacity() + requiredSpace);
+            }
+
+            for (; amount > bitOffset; bitOffset = 8) {
+                byte tmp = buf.getByte(bytePos);
+                tmp &= (byte) ~mask(bitOffset);
+                tmp |= (byte) ((value >> (amount - bitOffset)) & mask(bitOffset));
+                buf.setByte(bytePos++, tmp);
+                amount -= bitOffset;
+            }
+
+            if (amount == bitOffset) {
+                byte tmp = buf.getByte(bytePos);
+                tmp &= (byte) ~mask(bitOffset);
+                tmp |= (byte) (value & mask(bitOffset));
+                buf.setByte(bytePos, tmp);
+            } else {
+                byte tmp = buf.getByte(bytePos);
+                tmp &= (byte) ~(mask(amount) << (bitOffset - amount));
+                tmp |= (byte) ((value & mask(amount)) << (bitOffset - amount));
+                buf.setByte(bytePos, tmp);
+            }
+        }
+        buf.writerIndex((bitIndex + 7) >> 3);
+    }
+
+    /**
+     * Returns a mask of the lowest {@code bits} bits.
+     */
+    private static int mask(int bits) {
+        return (1 << bits) - 1;
+    }
+
+    private BitStreams() {
+    }
+}
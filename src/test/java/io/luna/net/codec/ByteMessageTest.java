@@ -0,0 +1,58 @@
+package io.luna.net.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link ByteMessage}.
+ *
+ * @author lare96
+ */
+final class ByteMessageTest {
+
+    @Test
+    void bitsMatchLegacyWriter() {
+        for (long seed = 0; seed < 200; seed++) {
+            int[] stream = BitStreams.playerUpdate(seed, (int) (seed % 255), (int) (seed % 26));
+
+            // Start from an unaligned byte, after a header written in byte mode.
+            ByteBuf expected = Unpooled.buffer(1).writeByte(90);
+            BitStreams.writeLegacy(expected, stream);
+
+            ByteMessage msg = ByteMessage.wrap(Unpooled.buffer(1));
+            msg.put(90);
+            BitStreams.write(msg, stream);
+            msg.put(7);
+            expected.writeByte(7);
+
+            assertEquals(ByteBufUtil.hexDump(expected), ByteBufUtil.hexDump(msg.getBuffer()), "seed " + seed);
+        }
+    }
+
+    @Test
+    void bitIndexTracksWrites() {
+        ByteMessage msg = ByteMessage.wrap(Unpooled.buffer());
+        msg.put(0);
+        msg.startBitAccess();
+        assertEquals(8, msg.getBitIndex());
+        msg.putBits(13, 1);
+        msg.putBits(32, -1);
+        assertEquals(53, msg.getBitIndex());
+        msg.endBitAccess();
+        assertEquals(-1, msg.getBitIndex());
+        assertEquals(7, msg.getBuffer().writerIndex());
+    }
+
+    @Test
+    void invalidBitAmount() {
+        ByteMessage msg = ByteMessage.wrap(Unpooled.buffer());
+        msg.startBitAccess();
+        assertThrows(IllegalArgumentException.class, () -> msg.putBits(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> msg.putBits(33, 0));
+    }
+}
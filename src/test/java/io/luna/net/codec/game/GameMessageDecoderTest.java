@@ -0,0 +1,70 @@
+package io.luna.net.codec.game;
+
+import io.luna.net.codec.IsaacCipher;
+import io.luna.net.msg.GameMessage;
+import io.luna.net.msg.GameMessageRepository;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link GameMessageDecoder}.
+ *
+ * @author lare96
+ */
+final class GameMessageDecoderTest {
+
+    @Test
+    void decodeMessages() {
+        GameMessageRepository repository = mock(GameMessageRepository.class);
+        when(repository.getSize(19)).thenReturn(4);
+        when(repository.isDiscardable(19)).thenReturn(true);
+        when(repository.getSize(248)).thenReturn(0);
+        when(repository.isDiscardable(248)).thenReturn(true);
+        when(repository.getSize(4)).thenReturn(3);
+        when(repository.getSize(56)).thenReturn(-1);
+
+        IsaacCipher encryptor = new IsaacCipher(new int[]{0, 0, 0, 0});
+        ByteBuf in = Unpooled.buffer();
+        in.writeByte(19 + encryptor.nextInt());
+        in.writeInt(0xCAFEBABE);
+        in.writeByte(248 + encryptor.nextInt());
+        in.writeByte(4 + encryptor.nextInt());
+        in.writeBytes(new byte[]{1, 2, 3});
+        in.writeByte(56 + encryptor.nextInt());
+        in.writeByte(2);
+        in.writeBytes(new byte[]{4, 5});
+
+        EmbeddedChannel channel = new EmbeddedChannel(
+                new GameMessageDecoder(new IsaacCipher(new int[]{0, 0, 0, 0}), repository));
+        channel.writeInbound(in);
+
+        // Discardable messages are dropped, the rest are decoded in order.
+        GameMessage fixed = channel.readInbound();
+        assertEquals(4, fixed.getOpcode());
+        assertEquals(3, fixed.getSize());
+        assertEquals(1, fixed.getPayload().get());
+        assertEquals(2, fixed.getPayload().get());
+        assertEquals(3, fixed.getPayload().get());
+        fixed.getPayload().release();
+
+        GameMessage variable = channel.readInbound();
+        assertEquals(56, variable.getOpcode());
+        assertEquals(2, variable.getSize());
+        assertEquals(4, variable.getPayload().get());
+        assertEquals(5, variable.getPayload().get());
+        variable.getPayload().release();
+
+        assertNull(channel.readInbound());
+        channel.finishAndReleaseAll();
+
+        // Payloads are slices of the input, which is freed once every payload has been released.
+        assertEquals(0, in.refCnt());
+    }
+}
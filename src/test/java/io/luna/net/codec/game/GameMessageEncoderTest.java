@@ -4,6 +4,7 @@ import io.luna.net.codec.ByteMessage;
 import io.luna.net.codec.IsaacCipher;
 import io.luna.net.codec.MessageType;
 import io.luna.net.msg.GameMessage;
+import io.luna.net.msg.GameMessageBatch;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
@@ -77,4 +78,27 @@ final class GameMessageEncoderTest {
         assertEquals('s', buffer.readByte());
         assertEquals('t', buffer.readByte());
     }
+
+    @Test
+    void encodeBatch() throws Exception {
+        var batchEncoder = new GameMessageEncoder(new IsaacCipher(new int[]{0, 0, 0, 0}));
+        var batch = new GameMessageBatch(2);
+        var fixed = ByteMessage.message(54, MessageType.FIXED, Unpooled.buffer());
+        fixed.putBytes(payload);
+        batch.add(new GameMessage(fixed.getOpcode(), fixed.getType(), fixed));
+        var variable = ByteMessage.message(54, MessageType.VAR_SHORT, Unpooled.buffer());
+        variable.putBytes(payload);
+        batch.add(new GameMessage(variable.getOpcode(), variable.getType(), variable));
+        assertEquals(12, batch.getEncodedSize());
+
+        ByteBuf out = Unpooled.buffer();
+        batchEncoder.encode(ctx, batch, out);
+        assertEquals(12, out.readableBytes());
+        assertEquals(41, out.readUnsignedByte());
+        out.skipBytes(payload.length);
+        assertEquals(195, out.readUnsignedByte());
+        assertEquals(4, out.readUnsignedShort());
+        assertEquals(0, fixed.refCnt());
+        assertEquals(0, variable.refCnt());
+    }
 }